@@ -0,0 +1,64 @@
+package com.empleados.api.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Metrics of the Hibernate second-level and query cache regions declared in ehcache.xml.
+ * Counts stay at zero unless {@code hibernate.generate_statistics} is enabled.
+ */
+@Configuration
+public class CacheConfig {
+
+    static final String[] REGIONS = {"clientes", "clientes-por-ciudad", "clientes-por-email"};
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : REGIONS) {
+                FunctionCounter.builder("clientes.cache.requests", statistics,
+                                s -> count(s, region, CacheRegionStatistics::getHitCount))
+                        .tag("region", region)
+                        .tag("result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("clientes.cache.requests", statistics,
+                                s -> count(s, region, CacheRegionStatistics::getMissCount))
+                        .tag("region", region)
+                        .tag("result", "miss")
+                        .description("Second-level cache lookups per region")
+                        .register(registry);
+                Gauge.builder("clientes.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                        .tag("region", region)
+                        .description("Share of lookups answered by the region since startup")
+                        .register(registry);
+            }
+        };
+    }
+
+    static double hitRatio(Statistics statistics, String region) {
+        long hits = count(statistics, region, CacheRegionStatistics::getHitCount);
+        long lookups = hits + count(statistics, region, CacheRegionStatistics::getMissCount);
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+
+    private static long count(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> counter) {
+        // Regions only exist while the second-level cache is enabled
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+        return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+    }
+}
@@ -1,6 +1,7 @@
 package com.empleados.api.config;
 
 import com.empleados.api.model.Cliente;
+import com.empleados.api.repository.CiudadDictionary;
 import com.empleados.api.repository.ClienteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
@@ -18,7 +19,7 @@ import java.util.Arrays;
 public class DataInitializer {
 
     @Bean
-    public CommandLineRunner initData(ClienteRepository clienteRepository) {
+    public CommandLineRunner initData(ClienteRepository clienteRepository, CiudadDictionary ciudadDictionary) {
         return args -> {
             // Verificamos si ya hay datos cargados
             if (clienteRepository.count() == 0) {
@@ -85,6 +86,8 @@ public class DataInitializer {
                     		"9323847182", "CDMX")
                 };
                 
+                // Las ciudades nuevas se registran antes de guardar, como en el resto de escrituras
+                Arrays.stream(clientes).map(Cliente::getCiudad).distinct().forEach(ciudadDictionary::codeFor);
                 clienteRepository.saveAll(Arrays.asList(clientes));
                 
                 System.out.println("¡Se han cargado 20 clientes de prueba en la base de datos!");
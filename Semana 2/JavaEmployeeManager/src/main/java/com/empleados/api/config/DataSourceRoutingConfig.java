@@ -0,0 +1,95 @@
+package com.empleados.api.config;
+
+import com.empleados.api.routing.ReadWriteRoutingDataSource;
+import com.empleados.api.routing.RoutingJpaTransactionManager;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Read/write splitting: {@code spring.datasource.*} is the primary, {@code clientes.routing.replica.*}
+ * a read replica of it. Read-only transactions go to the replica, everything else to the primary.
+ * The replica is expected to already hold the schema; Hibernate only manages the primary.
+ * Reads served by the replica never populate the second-level cache, see
+ * {@link RoutingJpaTransactionManager}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "clientes.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().build();
+    }
+
+    @Bean
+    public DataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${clientes.routing.replica.url}") String url,
+            @Value("${clientes.routing.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${clientes.routing.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                        @Qualifier("replicaDataSource") DataSource replica) {
+        return new ReadWriteRoutingDataSource(primary, replica);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        // Defers the routing decision to the first statement, when the read-only flag is known
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(ReadWriteRoutingDataSource routingDataSource,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        // Replaces the JpaTransactionManager of the JPA auto-configuration
+        RoutingJpaTransactionManager transactionManager = new RoutingJpaTransactionManager(routingDataSource);
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public MeterBinder dataSourceRoutingMetrics(ReadWriteRoutingDataSource routingDataSource) {
+        return registry -> {
+            for (ReadWriteRoutingDataSource.Route route : ReadWriteRoutingDataSource.Route.values()) {
+                FunctionCounter.builder("clientes.datasource.routes", routingDataSource, r -> r.getRouteCount(route))
+                        .tag("route", route.name().toLowerCase())
+                        .description("Physical connections handed out per route")
+                        .register(registry);
+            }
+            Gauge.builder("clientes.datasource.replica.available", routingDataSource,
+                            r -> r.isReplicaAvailable() ? 1 : 0)
+                    .description("Whether read-only transactions are currently sent to the replica")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.empleados.api.config;
+
+import com.empleados.api.dedup.DuplicateDetectionService;
+import com.empleados.api.dedup.DuplicateDetector;
+import com.empleados.api.repository.ClienteRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration of the background detection of duplicate clientes
+ */
+@Configuration
+public class DeduplicationConfig {
+
+    @Bean
+    public DuplicateDetector duplicateDetector(
+            @Value("${clientes.dedup.min-score:0.8}") double minScore,
+            @Value("${clientes.dedup.min-name-similarity:0.85}") double minNameSimilarity,
+            @Value("${clientes.dedup.phone-suffix-length:7}") int phoneSuffixLength,
+            @Value("${clientes.dedup.max-block-size:2000}") int maxBlockSize,
+            @Value("${clientes.dedup.max-results:1000}") int maxResults) {
+        return new DuplicateDetector(new DuplicateDetector.Settings(
+                minScore, minNameSimilarity, phoneSuffixLength, maxBlockSize, maxResults));
+    }
+
+    @Bean
+    public DuplicateDetectionService duplicateDetectionService(
+            ClienteRepository clienteRepository,
+            PlatformTransactionManager transactionManager,
+            DuplicateDetector duplicateDetector,
+            @Value("${clientes.dedup.parallelism:0}") int parallelism) {
+        return new DuplicateDetectionService(clienteRepository, transactionManager, duplicateDetector, parallelism);
+    }
+}
@@ -0,0 +1,47 @@
+package com.empleados.api.config;
+
+import com.empleados.api.export.ExportJob;
+import com.empleados.api.export.ExportJobService;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the asynchronous clientes exports
+ */
+@Configuration
+public class ExportConfig {
+
+    @Bean
+    public ExportJobService exportJobService(
+            ClienteRepository clienteRepository,
+            CiudadDictionary ciudadDictionary,
+            PlatformTransactionManager transactionManager,
+            @Value("${clientes.export.directory:./data/exports}") Path directory,
+            @Value("${clientes.export.workers:2}") int workers,
+            @Value("${clientes.export.queue-capacity:16}") int queueCapacity,
+            @Value("${clientes.export.retention:PT1H}") Duration retention) throws IOException {
+        return new ExportJobService(clienteRepository, ciudadDictionary, transactionManager, directory, workers, queueCapacity, retention);
+    }
+
+    @Bean
+    public MeterBinder exportMetrics(ExportJobService exportJobService) {
+        return registry -> {
+            for (ExportJob.Status status : ExportJob.Status.values()) {
+                Gauge.builder("clientes.export.jobs", exportJobService, service -> service.countJobs(status))
+                        .tag("status", status.name().toLowerCase())
+                        .description("Export jobs currently known, by status")
+                        .register(registry);
+            }
+        };
+    }
+}
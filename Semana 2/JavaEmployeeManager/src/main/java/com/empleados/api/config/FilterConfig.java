@@ -0,0 +1,148 @@
+package com.empleados.api.config;
+
+import com.empleados.api.web.AdaptiveConcurrencyLimiter;
+import com.empleados.api.web.ConcurrencyLimitFilter;
+import com.empleados.api.web.IdempotencyFilter;
+import com.empleados.api.web.IdempotencyStore;
+import com.empleados.api.web.ReadYourWritesFilter;
+import com.empleados.api.web.ResponseByteCache;
+import com.empleados.api.web.ResponseCacheFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration class registering the servlet filters of the REST API
+ */
+@Configuration
+public class FilterConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            @Value("${clientes.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${clientes.idempotency.ttl:PT24H}") Duration ttl) {
+        return new IdempotencyStore(maxEntries, ttl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clientes.routing.enabled", havingValue = "true")
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            @Value("${clientes.idempotency.wait-timeout:PT30S}") Duration waitTimeout,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, waitTimeout, objectMapper));
+        registration.addUrlPatterns("/api/clientes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clientes.response-cache.enabled", havingValue = "true")
+    public ResponseByteCache responseByteCache(
+            @Value("${clientes.response-cache.max-entries:1000}") int maxEntries,
+            @Value("${clientes.response-cache.max-entry-size:16MB}") DataSize maxEntrySize,
+            @Value("${clientes.response-cache.ttl:PT60S}") Duration ttl,
+            @Value("${clientes.response-cache.gzip:true}") boolean gzip) {
+        return new ResponseByteCache(maxEntries, maxEntrySize.toBytes(), ttl, gzip);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clientes.response-cache.enabled", havingValue = "true")
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(ResponseByteCache responseByteCache) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCacheFilter(responseByteCache));
+        registration.addUrlPatterns("/api/clientes/*");
+        // Ahead of the concurrency limit: a hit costs no more than writing the bytes
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 25);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clientes.response-cache.enabled", havingValue = "true")
+    public MeterBinder responseCacheMetrics(ResponseByteCache responseByteCache) {
+        return registry -> {
+            FunctionCounter.builder("clientes.response-cache.requests", responseByteCache, ResponseByteCache::getHits)
+                    .tag("result", "hit")
+                    .description("Cacheable requests answered from or missing the serialized response cache")
+                    .register(registry);
+            FunctionCounter.builder("clientes.response-cache.requests", responseByteCache, ResponseByteCache::getMisses)
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("clientes.response-cache.entries", responseByteCache, ResponseByteCache::size)
+                    .description("Serialized responses currently stored")
+                    .register(registry);
+            Gauge.builder("clientes.response-cache.bytes", responseByteCache, ResponseByteCache::storedBytes)
+                    .description("Bytes held by stored responses, plain and compressed")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clientes.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${clientes.concurrency.read.initial-limit:50}") int readInitial,
+            @Value("${clientes.concurrency.read.min-limit:8}") int readMin,
+            @Value("${clientes.concurrency.read.max-limit:400}") int readMax,
+            @Value("${clientes.concurrency.write.initial-limit:20}") int writeInitial,
+            @Value("${clientes.concurrency.write.min-limit:4}") int writeMin,
+            @Value("${clientes.concurrency.write.max-limit:100}") int writeMax,
+            @Value("${clientes.concurrency.retry-after-seconds:1}") int retryAfterSeconds,
+            ObjectMapper objectMapper) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                new AdaptiveConcurrencyLimiter("read", readInitial, readMin, readMax),
+                new AdaptiveConcurrencyLimiter("write", writeInitial, writeMin, writeMax),
+                retryAfterSeconds, objectMapper);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/clientes/*");
+        // After the idempotency filter so replayed responses never count against the limit
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clientes.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder concurrencyLimitMetrics(FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter) {
+        ConcurrencyLimitFilter filter = concurrencyLimitFilter.getFilter();
+        return registry -> {
+            for (AdaptiveConcurrencyLimiter limiter : new AdaptiveConcurrencyLimiter[]{
+                    filter.getReadLimiter(), filter.getWriteLimiter()}) {
+                Gauge.builder("clientes.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                        .tag("group", limiter.getName())
+                        .description("Current adaptive concurrency limit")
+                        .register(registry);
+                Gauge.builder("clientes.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                        .tag("group", limiter.getName())
+                        .description("Requests currently being processed")
+                        .register(registry);
+                FunctionCounter.builder("clientes.concurrency.requests", limiter, AdaptiveConcurrencyLimiter::getAccepted)
+                        .tag("group", limiter.getName())
+                        .tag("outcome", "accepted")
+                        .register(registry);
+                FunctionCounter.builder("clientes.concurrency.requests", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                        .tag("group", limiter.getName())
+                        .tag("outcome", "rejected")
+                        .description("Requests shed with 503 because the limit was reached")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.empleados.api.config;
+
+import com.empleados.api.journal.ClienteJournal;
+import com.empleados.api.journal.FsyncPolicy;
+import com.empleados.api.journal.JournalRecorder;
+import com.empleados.api.journal.JournalRecovery;
+import com.empleados.api.journal.JournalSnapshotter;
+import com.empleados.api.journal.SnapshotStore;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the write-ahead journal that makes the in-memory database durable
+ */
+@Configuration
+@ConditionalOnProperty(name = "clientes.journal.enabled", havingValue = "true")
+public class JournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public ClienteJournal clienteJournal(
+            @Value("${clientes.journal.directory:./data/journal}") Path directory,
+            @Value("${clientes.journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${clientes.journal.fsync:ALWAYS}") FsyncPolicy fsyncPolicy,
+            @Value("${clientes.journal.fsync-interval:PT0.05S}") Duration fsyncInterval) throws IOException {
+        return new ClienteJournal(directory, (int) segmentSize.toBytes(), fsyncPolicy, fsyncInterval);
+    }
+
+    @Bean
+    public SnapshotStore snapshotStore(@Value("${clientes.journal.directory:./data/journal}") Path directory)
+            throws IOException {
+        return new SnapshotStore(directory);
+    }
+
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public JournalRecovery journalRecovery(ClienteJournal clienteJournal, SnapshotStore snapshotStore,
+                                           ClienteJdbcWriter clienteJdbcWriter) {
+        return new JournalRecovery(clienteJournal, snapshotStore, clienteJdbcWriter);
+    }
+
+    @Bean
+    @DependsOn("journalRecovery")
+    public JournalRecorder journalRecorder(ClienteJournal clienteJournal, EntityManager entityManager) {
+        return new JournalRecorder(clienteJournal, entityManager);
+    }
+
+    @Bean
+    @DependsOn("journalRecovery")
+    public JournalSnapshotter journalSnapshotter(
+            ClienteJournal clienteJournal, SnapshotStore snapshotStore, ClienteJdbcWriter clienteJdbcWriter,
+            @Value("${clientes.journal.snapshot-interval:PT5M}") Duration snapshotInterval) {
+        return new JournalSnapshotter(clienteJournal, snapshotStore, clienteJdbcWriter, snapshotInterval);
+    }
+}
@@ -0,0 +1,55 @@
+package com.empleados.api.config;
+
+import com.empleados.api.sharding.ClienteShard;
+import com.empleados.api.sharding.ShardRebalancer;
+import com.empleados.api.sharding.ShardedClienteStore;
+import com.empleados.api.sharding.ShardingStrategy;
+import com.empleados.api.sharding.SnowflakeIdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the sharded clientes store: one datasource per entry of
+ * {@code clientes.sharding.urls}. The order of the urls is the shard order and must only
+ * grow at the end, followed by a rebalance.
+ */
+@Configuration
+@ConditionalOnProperty(name = "clientes.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardedClienteStore shardedClienteStore(
+            @Value("${clientes.sharding.urls}") List<String> urls,
+            @Value("${clientes.sharding.username:${spring.datasource.username:}}") String username,
+            @Value("${clientes.sharding.password:${spring.datasource.password:}}") String password,
+            @Value("${clientes.sharding.strategy:BY_ID}") ShardingStrategy strategy,
+            @Value("${clientes.sharding.node-id:0}") int nodeId) {
+        List<ClienteShard> shards = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .username(username)
+                    .password(password)
+                    .build();
+            dataSource.setPoolName("shard-" + i);
+            shards.add(new ClienteShard("shard-" + i, dataSource));
+        }
+        return new ShardedClienteStore(shards, strategy, new SnowflakeIdGenerator(nodeId));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clientes.sharding.rebalance", havingValue = "true")
+    public ShardRebalancer shardRebalancer(
+            ShardedClienteStore shardedClienteStore,
+            @Value("${clientes.sharding.exit-after-rebalance:false}") boolean exit) {
+        return new ShardRebalancer(shardedClienteStore, exit);
+    }
+}
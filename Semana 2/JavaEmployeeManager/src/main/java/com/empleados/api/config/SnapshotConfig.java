@@ -0,0 +1,58 @@
+package com.empleados.api.config;
+
+import com.empleados.api.repository.ClienteJdbcWriter;
+import com.empleados.api.snapshot.SnapshotExporter;
+import com.empleados.api.snapshot.SnapshotImporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of the binary snapshot export command and import startup mode
+ */
+@Configuration
+public class SnapshotConfig {
+
+    /**
+     * With the journal enabled the import starts after its recovery: anything recovered from
+     * the journal takes precedence over the import. {@code @DependsOn} cannot name a bean that
+     * may not exist, hence one importer definition per journal setting.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "clientes.journal.enabled", havingValue = "true")
+    static class ImportAfterJournalRecovery {
+
+        @Bean
+        @ConditionalOnProperty(name = "clientes.snapshot.import")
+        @DependsOn({"entityManagerFactory", "journalRecovery"})
+        public SnapshotImporter snapshotImporter(ClienteJdbcWriter clienteJdbcWriter,
+                                                 @Value("${clientes.snapshot.import}") Path source) {
+            return new SnapshotImporter(clienteJdbcWriter, source);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "clientes.journal.enabled", havingValue = "false", matchIfMissing = true)
+    static class ImportWithoutJournal {
+
+        @Bean
+        @ConditionalOnProperty(name = "clientes.snapshot.import")
+        @DependsOn("entityManagerFactory")
+        public SnapshotImporter snapshotImporter(ClienteJdbcWriter clienteJdbcWriter,
+                                                 @Value("${clientes.snapshot.import}") Path source) {
+            return new SnapshotImporter(clienteJdbcWriter, source);
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clientes.snapshot.export")
+    public SnapshotExporter snapshotExporter(ClienteJdbcWriter clienteJdbcWriter,
+                                             @Value("${clientes.snapshot.export}") Path target,
+                                             @Value("${clientes.snapshot.exit-after-export:false}") boolean exit) {
+        return new SnapshotExporter(clienteJdbcWriter, target, exit);
+    }
+}
@@ -0,0 +1,63 @@
+package com.empleados.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Training run for the class-data-sharing archive built by the {@code aot-cds} Maven profile.
+ * <p>
+ * With {@code clientes.startup.exit-after-ready=true} the application serves a few requests
+ * to itself once it is ready, so the classes of the request path are loaded too, and shuts
+ * down; the JVM then dumps every loaded class with {@code -XX:ArchiveClassesAtExit}. The flag
+ * is read at runtime rather than through a condition because AOT fixes the bean definitions
+ * at build time.
+ */
+@Component
+public class TrainingRun {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainingRun.class);
+    private static final String[] PATHS = {"/api/clientes", "/api/clientes/estadisticas", "/actuator/health"};
+
+    private final boolean exitAfterReady;
+
+    @Autowired
+    public TrainingRun(@Value("${clientes.startup.exit-after-ready:false}") boolean exitAfterReady) {
+        this.exitAfterReady = exitAfterReady;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!exitAfterReady) {
+            return;
+        }
+        String port = event.getApplicationContext().getEnvironment().getProperty("local.server.port");
+        HttpClient client = HttpClient.newHttpClient();
+        for (String path : PATHS) {
+            try {
+                HttpResponse<Void> response = client.send(
+                        HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                log.info("Entrenamiento: GET {} -> {}", path, response.statusCode());
+            } catch (IOException e) {
+                log.warn("Entrenamiento: GET {} falló: {}", path, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.info("Ejecución de entrenamiento terminada, cerrando la aplicación");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
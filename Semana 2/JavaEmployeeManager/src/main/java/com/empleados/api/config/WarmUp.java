@@ -0,0 +1,237 @@
+package com.empleados.api.config;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.web.AdaptiveConcurrencyLimiter;
+import com.empleados.api.web.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Warm-up stage run after startup and before the instance reports ready.
+ * <p>
+ * Spring Boot only switches the readiness state to ACCEPTING_TRAFFIC after every listener of
+ * {@link ApplicationReadyEvent} has returned. This one is ordered last, after the read replica
+ * and the email filter have loaded, so while it sends requests to its own HTTP port
+ * {@code /actuator/health/readiness} still answers OUT_OF_SERVICE. The requests go through the
+ * whole stack (filters, controller, validation, Jackson, service, Hibernate) against a few
+ * scratch clientes that are deleted afterwards: lookups by id, listings, lookups by ciudad and
+ * email, statistics, rejected invalid payloads and occasional updates. It stops after the
+ * configured number of rounds or time budget, whichever comes first, and logs how long it took
+ * and the latency of its last rounds.
+ * <p>
+ * The scratch clientes are real writes: they go to the journal and register their ciudad in
+ * the dictionary, which is why the warm-up is off unless enabled.
+ */
+@Component
+public class WarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUp.class);
+
+    /** Share of the requests, at the end, used for the final latency */
+    private static final double FINAL_WINDOW = 0.2;
+    /** Full listings and updates are heavier; they run once every this many rounds */
+    private static final int HEAVY_EVERY = 10;
+
+    private final boolean enabled;
+    private final int rounds;
+    private final Duration maxDuration;
+    private final int scratchClientes;
+    private final String scratchCiudad;
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<FilterRegistrationBean<ConcurrencyLimitFilter>> concurrencyLimitFilter;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private volatile WarmUpReport lastReport;
+
+    /**
+     * Outcome of a warm-up
+     *
+     * @param durationMillis total time including the creation and deletion of the scratch clientes
+     * @param requests requests sent
+     * @param unexpected requests whose status was not the expected one
+     * @param finalP50Millis median latency of the last rounds
+     * @param finalP99Millis 99th percentile latency of the last rounds
+     */
+    public record WarmUpReport(long durationMillis, int requests, int unexpected,
+                               double finalP50Millis, double finalP99Millis) {
+    }
+
+    @Autowired
+    public WarmUp(@Value("${clientes.warmup.enabled:false}") boolean enabled,
+                        @Value("${clientes.warmup.rounds:1000}") int rounds,
+                        @Value("${clientes.warmup.max-duration:PT60S}") Duration maxDuration,
+                        @Value("${clientes.warmup.scratch-clientes:20}") int scratchClientes,
+                        @Value("${clientes.warmup.ciudad:Calentamiento}") String scratchCiudad,
+                        Environment environment,
+                        ObjectMapper objectMapper,
+                        ObjectProvider<FilterRegistrationBean<ConcurrencyLimitFilter>> concurrencyLimitFilter) {
+        this.enabled = enabled;
+        this.rounds = rounds;
+        this.maxDuration = maxDuration;
+        this.scratchClientes = scratchClientes;
+        this.scratchCiudad = scratchCiudad;
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+    }
+
+    public WarmUpReport getLastReport() {
+        return lastReport;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onReady() throws IOException, InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            log.info("Calentamiento omitido: no hay servidor web");
+            return;
+        }
+        lastReport = warmUp("http://localhost:" + port + "/api/clientes");
+        log.info("Calentamiento terminado en {} ms: {} peticiones ({} inesperadas), latencia final p50={} ms p99={} ms",
+                lastReport.durationMillis(), lastReport.requests(), lastReport.unexpected(),
+                String.format("%.2f", lastReport.finalP50Millis()), String.format("%.2f", lastReport.finalP99Millis()));
+        // The cold requests must not become the latency baseline of the concurrency limiter
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = concurrencyLimitFilter.getIfAvailable();
+        if (registration != null) {
+            for (AdaptiveConcurrencyLimiter limiter : new AdaptiveConcurrencyLimiter[]{
+                    registration.getFilter().getReadLimiter(), registration.getFilter().getWriteLimiter()}) {
+                limiter.resetLatency();
+            }
+        }
+    }
+
+    private WarmUpReport warmUp(String base) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        Session session = new Session();
+
+        String run = Long.toString(System.nanoTime(), 36);
+        List<ClienteDTO> scratch = new ArrayList<>(scratchClientes);
+        try {
+            for (int i = 0; i < scratchClientes; i++) {
+                ClienteDTO nuevo = new ClienteDTO(null, "Calentamiento", "Cliente " + i,
+                        "calentamiento." + run + "." + i + "@warmup.invalid", "0000000000", scratchCiudad);
+                HttpResponse<String> response = session.send(post(base, nuevo), 201);
+                if (response.statusCode() == 201) {
+                    scratch.add(objectMapper.readValue(response.body(), ClienteDTO.class));
+                }
+            }
+            if (scratch.isEmpty()) {
+                log.warn("Calentamiento abortado: no se pudo crear ningún cliente de prueba");
+                return session.report(start);
+            }
+            String ciudadUri = base + "/ciudad/" + URLEncoder.encode(scratchCiudad, StandardCharsets.UTF_8).replace("+", "%20");
+            ClienteDTO invalid = new ClienteDTO(null, "", "", "no-es-un-email", "", "");
+
+            for (int round = 0; round < rounds && System.nanoTime() < deadline; round++) {
+                ClienteDTO cliente = scratch.get(round % scratch.size());
+                session.send(get(base + "/" + cliente.getId()), 200);
+                session.send(get(ciudadUri), 200);
+                session.send(get(base + "/email/exists?email="
+                        + URLEncoder.encode(cliente.getEmail(), StandardCharsets.UTF_8)), 200);
+                session.send(get(base + "/estadisticas"), 200);
+                session.send(post(base, invalid), 400);
+                if (round % HEAVY_EVERY == 0) {
+                    session.send(get(base), 200);
+                    cliente.setTelefono(String.format("%010d", round));
+                    session.send(HttpRequest.newBuilder(URI.create(base + "/" + cliente.getId()))
+                            .header("Content-Type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofString(json(cliente)))
+                            .build(), 200);
+                }
+            }
+        } finally {
+            // Through the API, so the replica and the journal see every delete. The email filter
+            // cannot drop entries: the scratch emails stay in it until its next rebuild
+            for (ClienteDTO cliente : scratch) {
+                session.send(HttpRequest.newBuilder(URI.create(base + "/" + cliente.getId())).DELETE().build(), 204);
+            }
+        }
+        return session.report(start);
+    }
+
+    private HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).build();
+    }
+
+    private HttpRequest post(String uri, ClienteDTO body) throws JsonProcessingException {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build();
+    }
+
+    private String json(ClienteDTO cliente) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(cliente);
+    }
+
+    /**
+     * Requests sent by one warm-up and their latencies
+     */
+    private class Session {
+
+        private long[] latencies = new long[1024];
+        private int requests;
+        private int unexpected;
+
+        HttpResponse<String> send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (requests == latencies.length) {
+                latencies = Arrays.copyOf(latencies, requests * 2);
+            }
+            latencies[requests++] = System.nanoTime() - start;
+            if (response.statusCode() != expectedStatus) {
+                if (unexpected++ == 0) {
+                    log.warn("Calentamiento: {} {} -> {} (se esperaba {})",
+                            request.method(), request.uri(), response.statusCode(), expectedStatus);
+                }
+            }
+            return response;
+        }
+
+        WarmUpReport report(long start) {
+            int from = requests - Math.max(1, (int) (requests * FINAL_WINDOW));
+            long[] tail = Arrays.copyOfRange(latencies, Math.max(0, from), requests);
+            Arrays.sort(tail);
+            return new WarmUpReport((System.nanoTime() - start) / 1_000_000, requests, unexpected,
+                    percentile(tail, 0.50), percentile(tail, 0.99));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.ceil(quantile * sorted.length) - 1] / 1_000_000.0;
+        }
+    }
+}
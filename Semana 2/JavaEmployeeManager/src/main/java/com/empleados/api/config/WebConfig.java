@@ -0,0 +1,56 @@
+package com.empleados.api.config;
+
+import com.empleados.api.web.ClienteJsonHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuration class for Spring MVC: message converters of the REST API.
+ * <p>
+ * JSON stays the default representation; callers that send {@code Accept: application/cbor} or
+ * {@code application/x-jackson-smile} get the same documents in binary form, and may send
+ * request bodies in those formats with the matching Content-Type.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final boolean clienteJsonWriterEnabled;
+
+    public WebConfig(@Value("${clientes.json.fast-writer.enabled:true}") boolean clienteJsonWriterEnabled) {
+        this.clienteJsonWriterEnabled = clienteJsonWriterEnabled;
+    }
+
+    /**
+     * Replaces Spring MVC's default CBOR converter with one that follows the spring.jackson settings
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Replaces Spring MVC's default Smile converter with one that follows the spring.jackson settings
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (clienteJsonWriterEnabled) {
+            // Ahead of Jackson, which keeps handling every other type
+            converters.add(0, new ClienteJsonHttpMessageConverter());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dto.BatchRequestDTO;
+import com.empleados.api.dto.BatchResponseDTO;
+import com.empleados.api.service.ClienteBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for batch operations over clients
+ */
+@RestController
+@RequestMapping("/api/clientes/batch")
+@Tag(name = "Cliente", description = "API para la gestión de clientes")
+public class ClienteBatchController {
+
+    private final ClienteBatchService clienteBatchService;
+
+    @Autowired
+    public ClienteBatchController(ClienteBatchService clienteBatchService) {
+        this.clienteBatchService = clienteBatchService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Ejecutar un lote de operaciones",
+    			description = "Crea, actualiza y elimina clientes en una sola transacción. "
+    					+ "En modo ATOMIC se aplican todas las operaciones o ninguna; "
+    					+ "en modo BEST_EFFORT se aplican las válidas y se informan las fallidas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Todas las operaciones se aplicaron",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))),
+        @ApiResponse(responseCode = "207", description = "Lote BEST_EFFORT con operaciones fallidas",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))),
+        @ApiResponse(responseCode = "409", description = "Lote ATOMIC revertido",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Petición de lote inválida",
+                    content = @Content)
+    })
+    public ResponseEntity<BatchResponseDTO> executeBatch(@Valid @RequestBody BatchRequestDTO request) {
+        BatchResponseDTO response = clienteBatchService.executeBatch(request);
+        if (response.getFailed() == 0) {
+            return ResponseEntity.ok(response);
+        }
+        HttpStatus status = request.getMode() == BatchRequestDTO.Mode.ATOMIC
+                ? HttpStatus.CONFLICT
+                : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(response, status);
+    }
+}
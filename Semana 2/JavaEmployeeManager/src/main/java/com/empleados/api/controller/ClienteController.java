@@ -1,6 +1,11 @@
 package com.empleados.api.controller;
 
+import com.empleados.api.dto.BulkResultDTO;
 import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.dto.ClienteEstadisticasDTO;
+import com.empleados.api.dto.ClienteSearchCriteria;
+import com.empleados.api.dto.ClienteSearchPageDTO;
+import com.empleados.api.dto.EmailExistenceDTO;
 import com.empleados.api.service.ClienteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,9 +14,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,6 +30,7 @@ import java.util.List;
  * REST controller for Employee management operations
  */
 @RestController
+@Validated
 @RequestMapping("/api/clientes")
 @Tag(name = "Cliente", description = "API para la gestión de clientes")
 public class ClienteController {
@@ -107,4 +118,76 @@ public class ClienteController {
         List<ClienteDTO> clientes = clienteService.getClientesByCiudad(ciudad);
         return ResponseEntity.ok(clientes);
     }
+
+    @GetMapping("/by-phone")
+    @Operation(summary = "Buscar clientes por el final del teléfono", 
+				description = "Devuelve los clientes cuyo teléfono termina en los dígitos indicados")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Clientes encontrados", 
+                    content = @Content(schema = @Schema(implementation = ClienteDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Sufijo o límite inválido", 
+                    content = @Content)
+    })
+    public ResponseEntity<List<ClienteDTO>> getClientesByTelefonoSuffix(
+            @RequestParam @Pattern(regexp = "\\d{4,15}", message = "El sufijo debe tener entre 4 y 15 dígitos") String suffix,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit) {
+        return ResponseEntity.ok(clienteService.getClientesByTelefonoSuffix(suffix, limit));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar clientes por varios criterios", 
+				description = "Combina ciudad, dominio del email, inicio del nombre o del apellido y rango de IDs en una sola consulta; "
+						+ "pagina por cursor: cada página devuelve el cursor de la siguiente")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de clientes encontrados", 
+                    content = @Content(schema = @Schema(implementation = ClienteSearchPageDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Criterios o cursor inválidos", 
+                    content = @Content)
+    })
+    public ResponseEntity<ClienteSearchPageDTO> searchClientes(@Valid ClienteSearchCriteria criteria) {
+        return ResponseEntity.ok(clienteService.searchClientes(criteria));
+    }
+
+    @GetMapping("/email/exists")
+    @Operation(summary = "Comprobar si existe un email", 
+				description = "Indica si algún cliente tiene el email; los emails nuevos se descartan sin consultar la base de datos")
+    @ApiResponse(responseCode = "200", description = "Comprobación realizada", 
+                content = @Content(schema = @Schema(implementation = EmailExistenceDTO.class)))
+    public ResponseEntity<EmailExistenceDTO> existsByEmail(@RequestParam @NotBlank String email) {
+        return ResponseEntity.ok(new EmailExistenceDTO(email, clienteService.existsByEmail(email)));
+    }
+
+    @GetMapping("/estadisticas")
+    @Operation(summary = "Obtener estadísticas de clientes", 
+				description = "Devuelve el total de clientes y su número por ciudad")
+    @ApiResponse(responseCode = "200", description = "Estadísticas calculadas", 
+                content = @Content(schema = @Schema(implementation = ClienteEstadisticasDTO.class)))
+    public ResponseEntity<ClienteEstadisticasDTO> getEstadisticas() {
+        return ResponseEntity.ok(clienteService.getEstadisticas());
+    }
+
+    @PatchMapping("/ciudad/{ciudad}")
+    @Operation(summary = "Reasignar los clientes de una ciudad", 
+				description = "Mueve todos los clientes de una ciudad a otra con una sola sentencia UPDATE")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Clientes reasignados",
+                    content = @Content(schema = @Schema(implementation = BulkResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Ciudad destino inválida", 
+                    content = @Content)
+    })
+    public ResponseEntity<BulkResultDTO> reassignCiudad(@PathVariable String ciudad,
+    													@RequestParam @NotBlank String nuevaCiudad) {
+        int affected = clienteService.reassignCiudad(ciudad, nuevaCiudad);
+        return ResponseEntity.ok(new BulkResultDTO("REASSIGN_CIUDAD", affected));
+    }
+
+    @DeleteMapping("/ciudad/{ciudad}")
+    @Operation(summary = "Eliminar los clientes de una ciudad", 
+				description = "Elimina todos los clientes de una ciudad con una sola sentencia DELETE")
+    @ApiResponse(responseCode = "200", description = "Clientes eliminados",
+                content = @Content(schema = @Schema(implementation = BulkResultDTO.class)))
+    public ResponseEntity<BulkResultDTO> deleteClientesByCiudad(@PathVariable String ciudad) {
+        int affected = clienteService.deleteClientesByCiudad(ciudad);
+        return ResponseEntity.ok(new BulkResultDTO("DELETE_CIUDAD", affected));
+    }
 }
@@ -0,0 +1,91 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dedup.DuplicateCandidate;
+import com.empleados.api.dedup.DuplicateDetectionResult;
+import com.empleados.api.dedup.DuplicateDetectionService;
+import com.empleados.api.dto.DuplicateCandidateDTO;
+import com.empleados.api.dto.DuplicateReportDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * REST controller for the detection of duplicate clients
+ */
+@RestController
+@Validated
+@RequestMapping("/api/duplicados")
+@Tag(name = "Duplicados", description = "Detección de clientes duplicados")
+public class DuplicateController {
+
+    private static final String BASE_PATH = "/api/duplicados";
+
+    private final DuplicateDetectionService duplicateDetectionService;
+
+    @Autowired
+    public DuplicateController(DuplicateDetectionService duplicateDetectionService) {
+        this.duplicateDetectionService = duplicateDetectionService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Iniciar la detección de duplicados",
+    			description = "Compara en segundo plano los clientes que comparten nombre normalizado o final de "
+    					+ "teléfono. Si ya hay una detección en curso, devuelve esa")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Detección iniciada o en curso",
+                    content = @Content(schema = @Schema(implementation = DuplicateReportDTO.class)))
+    })
+    public ResponseEntity<DuplicateReportDTO> startDetection() {
+        DuplicateDetectionService.Run run = duplicateDetectionService.start();
+        return ResponseEntity.accepted()
+                .location(URI.create(BASE_PATH))
+                .body(toDTO(run, 0));
+    }
+
+    @GetMapping
+    @Operation(summary = "Consultar la última detección de duplicados",
+    			description = "Devuelve el estado y las fusiones candidatas, de mayor a menor puntuación")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Informe de la última detección",
+                    content = @Content(schema = @Schema(implementation = DuplicateReportDTO.class))),
+        @ApiResponse(responseCode = "404", description = "No se ha ejecutado ninguna detección", content = @Content)
+    })
+    public ResponseEntity<DuplicateReportDTO> getReport(@RequestParam(defaultValue = "100") @Min(1) int limit) {
+        return ResponseEntity.ok(toDTO(duplicateDetectionService.getLastRun(), limit));
+    }
+
+    private static DuplicateReportDTO toDTO(DuplicateDetectionService.Run run, int limit) {
+        DuplicateDetectionResult result = run.result();
+        if (result == null) {
+            return new DuplicateReportDTO(run.status(), run.startedAt(), run.finishedAt(), run.error(),
+                    0, 0, 0, 0, 0, List.of());
+        }
+        List<DuplicateCandidateDTO> candidatos = result.candidates().stream()
+                .limit(limit)
+                .map(DuplicateController::toDTO)
+                .toList();
+        return new DuplicateReportDTO(run.status(), run.startedAt(), run.finishedAt(), run.error(),
+                result.clientes(), result.blocks(), result.skippedBlocks(), result.comparisons(),
+                result.totalCandidates(), candidatos);
+    }
+
+    private static DuplicateCandidateDTO toDTO(DuplicateCandidate candidate) {
+        return new DuplicateCandidateDTO(candidate.cliente(), candidate.duplicado(), candidate.score(),
+                candidate.nombre(), candidate.email(), candidate.telefono());
+    }
+}
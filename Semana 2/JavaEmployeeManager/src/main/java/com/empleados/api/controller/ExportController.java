@@ -0,0 +1,130 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dto.ExportJobDTO;
+import com.empleados.api.dto.ExportRequestDTO;
+import com.empleados.api.export.ExportJob;
+import com.empleados.api.export.ExportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+/**
+ * REST controller for asynchronous exports of clients.
+ * <p>
+ * Mapped outside {@code /api/clientes} so that long downloads neither hold a slot of the
+ * adaptive concurrency limit nor skew the latency it adapts to.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@Tag(name = "Exportación", description = "Exportaciones asíncronas de clientes a ficheros comprimidos")
+public class ExportController {
+
+    private static final String BASE_PATH = "/api/exports/";
+
+    private final ExportJobService exportJobService;
+
+    @Autowired
+    public ExportController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Iniciar una exportación",
+    			description = "Encola la exportación de todos los clientes, o de una ciudad, en CSV, NDJSON "
+    					+ "o Arrow IPC, comprimida con gzip o zstd o sin comprimir. Sin cuerpo se usa CSV con gzip")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Exportación encolada",
+                    content = @Content(schema = @Schema(implementation = ExportJobDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Petición inválida", content = @Content),
+        @ApiResponse(responseCode = "503", description = "Cola de exportaciones llena", content = @Content)
+    })
+    public ResponseEntity<ExportJobDTO> createExport(@Valid @RequestBody(required = false) ExportRequestDTO request) {
+        if (request == null) {
+            request = new ExportRequestDTO();
+        }
+        ExportJob job = exportJobService.submit(request.getFormat(), request.getCompression(), request.getCiudad());
+        return ResponseEntity.accepted()
+                .location(URI.create(BASE_PATH + job.getId()))
+                .body(toDTO(job));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Consultar una exportación", description = "Devuelve el estado y el progreso de la exportación")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportación encontrada",
+                    content = @Content(schema = @Schema(implementation = ExportJobDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Exportación no encontrada", content = @Content)
+    })
+    public ResponseEntity<ExportJobDTO> getExport(@PathVariable String id) {
+        return ResponseEntity.ok(toDTO(exportJobService.getJob(id)));
+    }
+
+    @GetMapping("/{id}/download")
+    @Operation(summary = "Descargar una exportación",
+    			description = "Devuelve el fichero comprimido. Admite cabeceras Range para reanudar descargas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Fichero completo"),
+        @ApiResponse(responseCode = "206", description = "Rango solicitado del fichero"),
+        @ApiResponse(responseCode = "404", description = "Exportación no encontrada", content = @Content),
+        @ApiResponse(responseCode = "409", description = "La exportación aún no ha terminado", content = @Content)
+    })
+    public ResponseEntity<Resource> downloadExport(@PathVariable String id) {
+        ExportJob job = exportJobService.getCompletedJob(id);
+        // Range requests are answered with 206 by Spring MVC for Resource bodies
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(job.getFileName()).build().toString())
+                .eTag(job.getId())
+                .lastModified(job.getFinishedAt())
+                .body(new FileSystemResource(job.getFile()));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Cancelar o eliminar una exportación",
+    			description = "Cancela una exportación pendiente o en curso, o elimina el fichero de una terminada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Exportación cancelada o eliminada"),
+        @ApiResponse(responseCode = "404", description = "Exportación no encontrada", content = @Content)
+    })
+    public ResponseEntity<Void> deleteExport(@PathVariable String id) {
+        exportJobService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ExportJobDTO toDTO(ExportJob job) {
+        return new ExportJobDTO(
+                job.getId(),
+                job.getStatus(),
+                job.getFormat(),
+                job.getCompression(),
+                job.getCiudad(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getRows(),
+                job.getBytes(),
+                job.getError(),
+                job.getStatus() == ExportJob.Status.COMPLETED ? BASE_PATH + job.getId() + "/download" : null);
+    }
+}
@@ -0,0 +1,108 @@
+package com.empleados.api.dedup;
+
+import com.empleados.api.util.EmailAddresses;
+import com.empleados.api.util.PhoneNumbers;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Canonical forms of the cliente fields compared by the duplicate detection, so that
+ * "Pérez", "PEREZ" and "perez " or "55-1234-5678" and "+52 55 1234 5678" compare equal
+ */
+public final class ClienteNormalizer {
+
+    /** National numbers have 10 digits; longer values carry a country or trunk prefix */
+    static final int PHONE_DIGITS = 10;
+
+    private ClienteNormalizer() {
+    }
+
+    /**
+     * @return lower case words without accents or punctuation, separated by single spaces
+     */
+    public static String name(String value) {
+        if (value == null) {
+            return "";
+        }
+        // Decomposed, an accented letter is the base letter followed by a combining mark
+        String text = isAscii(value) ? value : Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder words = new StringBuilder(text.length());
+        boolean separator = false;
+        for (int i = 0; i < text.length(); ) {
+            int c = text.codePointAt(i);
+            i += Character.charCount(c);
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && words.length() > 0) {
+                    words.append(' ');
+                }
+                separator = false;
+                words.appendCodePoint(Character.toLowerCase(c));
+            } else if (!isMark(c)) {
+                separator = true;
+            }
+        }
+        return words.toString();
+    }
+
+    /**
+     * @return the words of a normalized name in alphabetical order, so "perez juan" matches "juan perez"
+     */
+    public static String sortedWords(String normalizedName) {
+        String[] words = normalizedName.split(" ");
+        Arrays.sort(words);
+        return String.join(" ", words);
+    }
+
+    /**
+     * @return the last {@value #PHONE_DIGITS} digits of the number, all of them when shorter
+     */
+    public static String phone(String value) {
+        if (value == null) {
+            return "";
+        }
+        String digits = PhoneNumbers.digits(value);
+        return digits.length() > PHONE_DIGITS ? digits.substring(digits.length() - PHONE_DIGITS) : digits;
+    }
+
+    /**
+     * @return the local part of the email in lower case, without a {@code +tag} and without dots,
+     *         dashes or underscores, so "Juan.Perez+promo" matches "juanperez"
+     */
+    public static String emailLocalPart(String email) {
+        if (email == null) {
+            return "";
+        }
+        int at = email.indexOf('@');
+        String local = (at >= 0 ? email.substring(0, at) : email).toLowerCase(Locale.ROOT);
+        int tag = local.indexOf('+');
+        if (tag >= 0) {
+            local = local.substring(0, tag);
+        }
+        return name(local).replace(" ", "");
+    }
+
+    /**
+     * @return the domain of the email in lower case, empty when there is none
+     */
+    public static String emailDomain(String email) {
+        String domain = EmailAddresses.domain(email);
+        return domain != null ? domain : "";
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMark(int c) {
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
+}
@@ -0,0 +1,14 @@
+package com.empleados.api.dedup;
+
+import com.empleados.api.dto.ClienteDTO;
+
+/**
+ * Two clientes that probably are the same person, with the similarity of each compared field
+ *
+ * @param cliente   the cliente with the lower id, the natural survivor of a merge
+ * @param duplicado the cliente that would be merged into {@code cliente}
+ * @param score     weighted similarity used for ranking, between 0 and 1
+ */
+public record DuplicateCandidate(ClienteDTO cliente, ClienteDTO duplicado, double score,
+                                 double nombre, double email, double telefono) {
+}
@@ -0,0 +1,17 @@
+package com.empleados.api.dedup;
+
+import java.util.List;
+
+/**
+ * Outcome of one duplicate detection pass
+ *
+ * @param blocks          blocks with at least two clientes that were compared
+ * @param skippedBlocks   blocks left out for exceeding the maximum block size
+ * @param comparisons     pairs of clientes compared
+ * @param totalCandidates pairs above the thresholds, of which at most the configured maximum are kept
+ * @param candidates      the best candidates, highest score first
+ */
+public record DuplicateDetectionResult(int clientes, int blocks, int skippedBlocks, long comparisons,
+                                       long totalCandidates, List<DuplicateCandidate> candidates,
+                                       long durationMillis) {
+}
@@ -0,0 +1,125 @@
+package com.empleados.api.dedup;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.repository.ClienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Runs the duplicate detection in the background, one pass at a time, and keeps the report
+ * of the latest pass.
+ * <p>
+ * The clientes are read in one read-only transaction; the comparison then runs on a
+ * dedicated fork/join pool so it never competes with the common pool used by request
+ * handling code.
+ */
+public class DuplicateDetectionService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateDetectionService.class);
+
+    /**
+     * State of a detection pass
+     */
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * One detection pass
+     *
+     * @param result the report, set once completed
+     * @param error  the failure message, set once failed
+     */
+    public record Run(Status status, Instant startedAt, Instant finishedAt,
+                      DuplicateDetectionResult result, String error) {
+    }
+
+    private final ClienteRepository clienteRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final DuplicateDetector detector;
+    private final ForkJoinPool pool;
+    private final ExecutorService runner;
+    private final AtomicReference<Run> lastRun = new AtomicReference<>();
+
+    public DuplicateDetectionService(ClienteRepository clienteRepository, PlatformTransactionManager transactionManager,
+                                     DuplicateDetector detector, int parallelism) {
+        this.clienteRepository = clienteRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.detector = detector;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.runner = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "clientes-dedup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start a detection pass unless one is already running
+     *
+     * @return the new pass, or the one already running
+     */
+    public Run start() {
+        Run running = new Run(Status.RUNNING, Instant.now(), null, null, null);
+        Run previous;
+        do {
+            previous = lastRun.get();
+            if (previous != null && previous.status() == Status.RUNNING) {
+                return previous;
+            }
+        } while (!lastRun.compareAndSet(previous, running));
+        runner.execute(() -> run(running));
+        return running;
+    }
+
+    /**
+     * @throws ResourceNotFoundException when no pass was started yet
+     */
+    public Run getLastRun() {
+        Run run = lastRun.get();
+        if (run == null) {
+            throw new ResourceNotFoundException("No se ha ejecutado ninguna detección de duplicados");
+        }
+        return run;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private void run(Run running) {
+        try {
+            List<ClienteDTO> clientes = readOnlyTransaction.execute(status -> {
+                try (Stream<ClienteDTO> rows = clienteRepository.streamAllProjected()) {
+                    return rows.toList();
+                }
+            });
+            DuplicateDetectionResult result = detector.detect(clientes, pool);
+            lastRun.set(new Run(Status.COMPLETED, running.startedAt(), Instant.now(), result, null));
+            log.info("Detección de duplicados: {} clientes, {} comparaciones, {} candidatos en {} ms",
+                    result.clientes(), result.comparisons(), result.totalCandidates(), result.durationMillis());
+        } catch (RuntimeException e) {
+            lastRun.set(new Run(Status.FAILED, running.startedAt(), Instant.now(), null, e.getMessage()));
+            log.error("La detección de duplicados ha fallado", e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.empleados.api.dedup;
+
+import com.empleados.api.dto.ClienteDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+/**
+ * Finds clientes that are probably the same person despite differing emails, accents or
+ * phone formats.
+ * <p>
+ * Comparing every pair is quadratic, so clientes are first grouped into blocks that share a
+ * blocking key: the normalized apellido with the initial of the nombre, and the last digits
+ * of the phone. Only pairs inside a block are compared, each pair once even when it shares
+ * both keys. Blocks are split across the fork/join pool by number of pairs, so one large
+ * block does not leave the other workers idle; blocks above the maximum size (a very common
+ * apellido) are skipped and reported rather than compared.
+ * <p>
+ * A pair becomes a candidate when its names are similar enough and the weighted score of
+ * name, email and phone similarity reaches the minimum score.
+ */
+public class DuplicateDetector {
+
+    private static final double NAME_WEIGHT = 0.5;
+    private static final double EMAIL_WEIGHT = 0.25;
+    private static final double PHONE_WEIGHT = 0.25;
+    /** Score of phones that only share the blocking suffix, e.g. different area codes */
+    private static final double PHONE_SUFFIX_MATCH = 0.8;
+    /** Pairs compared by one fork/join leaf */
+    private static final long LEAF_COMPARISONS = 20_000;
+
+    private static final Comparator<DuplicateCandidate> RANKING = Comparator
+            .comparingDouble(DuplicateCandidate::score).reversed()
+            .thenComparing(candidate -> candidate.cliente().getId(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(candidate -> candidate.duplicado().getId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * Thresholds of the detection
+     *
+     * @param minScore           minimum weighted score of a candidate
+     * @param minNameSimilarity  minimum similarity of the names; pairs below it are never candidates
+     * @param phoneSuffixLength  digits of the phone used as blocking key
+     * @param maxBlockSize       blocks with more clientes are skipped
+     * @param maxResults         candidates kept in the result
+     */
+    public record Settings(double minScore, double minNameSimilarity, int phoneSuffixLength,
+                           int maxBlockSize, int maxResults) {
+    }
+
+    private final Settings settings;
+
+    public DuplicateDetector(Settings settings) {
+        this.settings = settings;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public DuplicateDetectionResult detect(List<ClienteDTO> clientes, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        Entry[] entries = new Entry[clientes.size()];
+        pool.submit(() -> IntStream.range(0, entries.length).parallel()
+                .forEach(i -> entries[i] = new Entry(clientes.get(i), settings.phoneSuffixLength()))).join();
+
+        Map<String, Block> byName = new HashMap<>();
+        Map<String, Block> byPhone = new HashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            byName.computeIfAbsent(entries[i].nameKey, key -> new Block(false)).add(i);
+            if (entries[i].phoneKey != null) {
+                byPhone.computeIfAbsent(entries[i].phoneKey, key -> new Block(true)).add(i);
+            }
+        }
+
+        Set<String> skippedNameKeys = new HashSet<>();
+        List<Block> blocks = new ArrayList<>();
+        int skipped = 0;
+        for (Map.Entry<String, Block> block : byName.entrySet()) {
+            int size = block.getValue().size;
+            if (size > settings.maxBlockSize()) {
+                skippedNameKeys.add(block.getKey());
+                skipped++;
+            } else if (size > 1) {
+                blocks.add(block.getValue());
+            }
+        }
+        for (Block block : byPhone.values()) {
+            if (block.size > settings.maxBlockSize()) {
+                skipped++;
+            } else if (block.size > 1) {
+                blocks.add(block);
+            }
+        }
+
+        long[] pairsBefore = new long[blocks.size() + 1];
+        for (int i = 0; i < blocks.size(); i++) {
+            long size = blocks.get(i).size;
+            pairsBefore[i + 1] = pairsBefore[i] + size * (size - 1) / 2;
+        }
+        Matches matches = pool.invoke(new CompareTask(entries, blocks, pairsBefore, skippedNameKeys, 0, blocks.size()));
+
+        List<DuplicateCandidate> ranked = matches.candidates;
+        ranked.sort(RANKING);
+        List<DuplicateCandidate> kept = List.copyOf(ranked.subList(0, Math.min(ranked.size(), settings.maxResults())));
+        return new DuplicateDetectionResult(entries.length, blocks.size(), skipped, matches.comparisons,
+                ranked.size(), kept, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Compare a pair of clientes
+     *
+     * @return the candidate, or null when the pair is below the thresholds
+     */
+    DuplicateCandidate compare(Entry a, Entry b) {
+        double nombre = StringSimilarity.jaroWinkler(a.name, b.name);
+        // Names written in another order only get a second chance when they fall short in written order
+        if (nombre < settings.minNameSimilarity() && !(a.sortedName.equals(a.name) && b.sortedName.equals(b.name))) {
+            nombre = Math.max(nombre, StringSimilarity.jaroWinkler(a.sortedName, b.sortedName));
+        }
+        if (nombre < settings.minNameSimilarity()) {
+            return null;
+        }
+        double telefono = phoneSimilarity(a.phone, b.phone);
+        // Most pairs of a block share little more than the name: skip the email when even a perfect one would not do
+        if (NAME_WEIGHT * nombre + EMAIL_WEIGHT + PHONE_WEIGHT * telefono < settings.minScore()) {
+            return null;
+        }
+        double email = a.emailLocal.equals(b.emailLocal) && a.emailDomain.equals(b.emailDomain) && !a.emailLocal.isEmpty()
+                ? 1.0
+                : StringSimilarity.jaroWinkler(a.emailLocal, b.emailLocal);
+        double score = NAME_WEIGHT * nombre + EMAIL_WEIGHT * email + PHONE_WEIGHT * telefono;
+        if (score < settings.minScore()) {
+            return null;
+        }
+        boolean ordered = a.cliente.getId() == null || b.cliente.getId() == null || a.cliente.getId() < b.cliente.getId();
+        return ordered
+                ? new DuplicateCandidate(a.cliente, b.cliente, score, nombre, email, telefono)
+                : new DuplicateCandidate(b.cliente, a.cliente, score, nombre, email, telefono);
+    }
+
+    private double phoneSimilarity(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        int suffix = settings.phoneSuffixLength();
+        return a.length() >= suffix && b.length() >= suffix && a.regionMatches(a.length() - suffix, b, b.length() - suffix, suffix)
+                ? PHONE_SUFFIX_MATCH
+                : 0.0;
+    }
+
+    /**
+     * Normalized fields of one cliente
+     */
+    static final class Entry {
+
+        final ClienteDTO cliente;
+        final String name;
+        final String sortedName;
+        final String nameKey;
+        final String phone;
+        final String phoneKey;
+        final String emailLocal;
+        final String emailDomain;
+
+        Entry(ClienteDTO cliente, int phoneSuffixLength) {
+            this.cliente = cliente;
+            String nombre = ClienteNormalizer.name(cliente.getNombre());
+            String apellido = ClienteNormalizer.name(cliente.getApellido());
+            this.name = (nombre + " " + apellido).trim();
+            this.sortedName = ClienteNormalizer.sortedWords(name);
+            this.nameKey = apellido.isEmpty() ? nombre : apellido + "|" + (nombre.isEmpty() ? "" : nombre.substring(0, 1));
+            this.phone = ClienteNormalizer.phone(cliente.getTelefono());
+            this.phoneKey = phone.length() >= phoneSuffixLength ? phone.substring(phone.length() - phoneSuffixLength) : null;
+            this.emailLocal = ClienteNormalizer.emailLocalPart(cliente.getEmail());
+            this.emailDomain = ClienteNormalizer.emailDomain(cliente.getEmail());
+        }
+    }
+
+    /**
+     * Indexes of the entries sharing one blocking key
+     */
+    private static final class Block {
+
+        final boolean phone;
+        int[] members = new int[2];
+        int size;
+
+        Block(boolean phone) {
+            this.phone = phone;
+        }
+
+        void add(int entry) {
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            members[size++] = entry;
+        }
+    }
+
+    private static final class Matches {
+
+        final List<DuplicateCandidate> candidates;
+        long comparisons;
+
+        Matches(List<DuplicateCandidate> candidates) {
+            this.candidates = candidates;
+        }
+    }
+
+    /**
+     * Compares the pairs of a range of blocks, halving the range by number of pairs until it is small
+     */
+    private final class CompareTask extends RecursiveTask<Matches> {
+
+        private final Entry[] entries;
+        private final List<Block> blocks;
+        private final long[] pairsBefore;
+        private final Set<String> skippedNameKeys;
+        private final int from;
+        private final int to;
+
+        CompareTask(Entry[] entries, List<Block> blocks, long[] pairsBefore, Set<String> skippedNameKeys,
+                    int from, int to) {
+            this.entries = entries;
+            this.blocks = blocks;
+            this.pairsBefore = pairsBefore;
+            this.skippedNameKeys = skippedNameKeys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Matches compute() {
+            long pairs = pairsBefore[to] - pairsBefore[from];
+            if (to - from <= 1 || pairs <= LEAF_COMPARISONS) {
+                return compareBlocks();
+            }
+            // First block whose pairs reach half of the range's pairs
+            long half = pairsBefore[from] + pairs / 2;
+            int search = Arrays.binarySearch(pairsBefore, from + 1, to, half);
+            int middle = search >= 0 ? search : Math.min(-search - 1, to - 1);
+            middle = Math.max(middle, from + 1);
+
+            CompareTask left = new CompareTask(entries, blocks, pairsBefore, skippedNameKeys, from, middle);
+            CompareTask right = new CompareTask(entries, blocks, pairsBefore, skippedNameKeys, middle, to);
+            left.fork();
+            Matches result = right.compute();
+            Matches other = left.join();
+            result.candidates.addAll(other.candidates);
+            result.comparisons += other.comparisons;
+            return result;
+        }
+
+        private Matches compareBlocks() {
+            Matches matches = new Matches(new ArrayList<>());
+            for (int b = from; b < to; b++) {
+                Block block = blocks.get(b);
+                for (int i = 0; i < block.size; i++) {
+                    Entry first = entries[block.members[i]];
+                    for (int j = i + 1; j < block.size; j++) {
+                        Entry second = entries[block.members[j]];
+                        // Already compared in their name block, unless that block was skipped
+                        if (block.phone && first.nameKey.equals(second.nameKey)
+                                && !skippedNameKeys.contains(first.nameKey)) {
+                            continue;
+                        }
+                        matches.comparisons++;
+                        DuplicateCandidate candidate = compare(first, second);
+                        if (candidate != null) {
+                            matches.candidates.add(candidate);
+                        }
+                    }
+                }
+            }
+            return matches;
+        }
+    }
+}
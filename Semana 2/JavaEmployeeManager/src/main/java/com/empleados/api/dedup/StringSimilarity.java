@@ -0,0 +1,89 @@
+package com.empleados.api.dedup;
+
+/**
+ * Jaro-Winkler similarity: 1 for equal strings, 0 for strings with nothing in common, and
+ * higher for strings sharing a prefix, which suits short values such as names and email
+ * local parts where typos rarely hit the first letters
+ */
+public final class StringSimilarity {
+
+    private static final double PREFIX_SCALE = 0.1;
+    private static final int MAX_PREFIX = 4;
+
+    private StringSimilarity() {
+    }
+
+    public static double jaroWinkler(String a, String b) {
+        if (a.equals(b)) {
+            return a.isEmpty() ? 0.0 : 1.0;
+        }
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        double jaro = jaro(a, b);
+        int prefix = 0;
+        int limit = Math.min(MAX_PREFIX, Math.min(a.length(), b.length()));
+        while (prefix < limit && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * PREFIX_SCALE * (1.0 - jaro);
+    }
+
+    private static double jaro(String a, String b) {
+        if (a.length() > b.length()) {
+            String swap = a;
+            a = b;
+            b = swap;
+        }
+        int window = Math.max(0, b.length() / 2 - 1);
+        // Bit sets keep the common case of short strings free of allocations
+        long matchedA = 0;
+        long matchedB = 0;
+        boolean[] wideA = a.length() > 64 ? new boolean[a.length()] : null;
+        boolean[] wideB = b.length() > 64 ? new boolean[b.length()] : null;
+
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            char c = a.charAt(i);
+            int end = Math.min(b.length(), i + window + 1);
+            for (int j = Math.max(0, i - window); j < end; j++) {
+                boolean taken = wideB != null ? wideB[j] : (matchedB & (1L << j)) != 0;
+                if (!taken && b.charAt(j) == c) {
+                    if (wideB != null) {
+                        wideB[j] = true;
+                    } else {
+                        matchedB |= 1L << j;
+                    }
+                    if (wideA != null) {
+                        wideA[i] = true;
+                    } else {
+                        matchedA |= 1L << i;
+                    }
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+
+        int transpositions = 0;
+        int j = 0;
+        for (int i = 0; i < a.length(); i++) {
+            boolean matched = wideA != null ? wideA[i] : (matchedA & (1L << i)) != 0;
+            if (!matched) {
+                continue;
+            }
+            while (!(wideB != null ? wideB[j] : (matchedB & (1L << j)) != 0)) {
+                j++;
+            }
+            if (a.charAt(i) != b.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+        double m = matches;
+        return (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3.0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.empleados.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing a single operation inside a batch request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationDTO {
+
+    /**
+     * Kind of operation to execute
+     */
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+
+    @NotNull(message = "El tipo de operación es obligatorio")
+    private Type type;
+
+    /**
+     * Target id, required for UPDATE and DELETE
+     */
+    private Long id;
+
+    /**
+     * Client data, required for CREATE and UPDATE
+     */
+    private ClienteDTO cliente;
+}
@@ -0,0 +1,42 @@
+package com.empleados.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a batch of create, update and delete operations
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDTO {
+
+    /**
+     * Maximum number of operations accepted in one request
+     */
+    public static final int MAX_OPERATIONS = 1000;
+
+    /**
+     * How failures inside the batch are handled
+     */
+    public enum Mode {
+        /** Every operation is applied or none is */
+        ATOMIC,
+        /** Valid operations are applied, invalid ones are reported */
+        BEST_EFFORT
+    }
+
+    @NotNull(message = "El modo es obligatorio")
+    private Mode mode = Mode.ATOMIC;
+
+    @NotEmpty(message = "La lista de operaciones no puede estar vacía")
+    @Size(max = MAX_OPERATIONS, message = "Se permiten como máximo " + MAX_OPERATIONS + " operaciones por lote")
+    private List<@Valid @NotNull BatchOperationDTO> operations;
+}
@@ -0,0 +1,24 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO with the per-operation results of a batch request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseDTO {
+
+    private BatchRequestDTO.Mode mode;
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<BatchResultDTO> results;
+}
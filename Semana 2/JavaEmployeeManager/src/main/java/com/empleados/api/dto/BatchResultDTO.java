@@ -0,0 +1,36 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with the outcome of a single batch operation
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDTO {
+
+    /**
+     * Position of the operation in the request
+     */
+    private int index;
+
+    private BatchOperationDTO.Type type;
+
+    private Long id;
+
+    /**
+     * HTTP-like status of the operation (201, 200, 204, 400, 404, 409 or 424 when rolled back)
+     */
+    private int status;
+
+    private String message;
+
+    private ClienteDTO cliente;
+
+    public boolean isSuccess() {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,21 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with the outcome of a set-based update or delete
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResultDTO {
+
+    private String operation;
+
+    /**
+     * Number of rows affected by the statement
+     */
+    private int affected;
+}
@@ -2,6 +2,7 @@ package com.empleados.api.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -26,7 +27,11 @@ public class ClienteDTO {
     @Email(message = "Formato de email inválido")
     private String email;
 
+    /**
+     * Digits with the usual separators; only the digits are stored
+     */
     @NotBlank(message = "El teléfono es obligatorio")
+    @Pattern(regexp = "[0-9+()\\-. ]*[0-9][0-9+()\\-. ]*", message = "Formato de teléfono inválido")
     private String telefono;
 
     @NotBlank(message = "La ciudad es obligatoria")
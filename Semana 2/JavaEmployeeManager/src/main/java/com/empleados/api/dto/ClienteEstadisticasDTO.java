@@ -0,0 +1,25 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO with aggregate figures about the clients
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteEstadisticasDTO {
+
+    private long total;
+
+    private int ciudades;
+
+    /**
+     * Number of clients per city, most populated city first
+     */
+    private Map<String, Long> porCiudad;
+}
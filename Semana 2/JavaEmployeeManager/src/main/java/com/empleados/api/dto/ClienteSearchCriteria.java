@@ -0,0 +1,58 @@
+package com.empleados.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with the query parameters of the cliente search; absent criteria do not filter
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteSearchCriteria {
+
+    @Size(max = 255, message = "La ciudad no puede superar 255 caracteres")
+    private String ciudad;
+
+    /**
+     * Domain of the email, with or without the leading {@code @}
+     */
+    @Pattern(regexp = "@?[\\p{L}0-9.-]+", message = "Dominio de email inválido")
+    private String dominio;
+
+    /**
+     * Start of the nombre, case-sensitive
+     */
+    @Size(max = 255, message = "El nombre no puede superar 255 caracteres")
+    private String nombre;
+
+    /**
+     * Start of the apellido, case-sensitive
+     */
+    @Size(max = 255, message = "El apellido no puede superar 255 caracteres")
+    private String apellido;
+
+    private Long idDesde;
+
+    private Long idHasta;
+
+    @Pattern(regexp = "(?i)id|nombre|apellido|email", message = "El orden debe ser id, nombre, apellido o email")
+    private String sort = "id";
+
+    @Pattern(regexp = "(?i)asc|desc", message = "La dirección debe ser asc o desc")
+    private String direction = "asc";
+
+    @Min(value = 1, message = "El límite debe ser al menos 1")
+    @Max(value = 1000, message = "El límite no puede superar 1000")
+    private int limit = 50;
+
+    /**
+     * Cursor returned with the previous page, absent for the first page
+     */
+    private String cursor;
+}
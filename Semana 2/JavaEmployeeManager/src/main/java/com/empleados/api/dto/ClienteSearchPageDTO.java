@@ -0,0 +1,23 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO with one page of a cliente search
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteSearchPageDTO {
+
+    private List<ClienteDTO> clientes;
+
+    /**
+     * Cursor of the next page, null on the last page
+     */
+    private String siguienteCursor;
+}
@@ -0,0 +1,35 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with a candidate merge of two clientes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateCandidateDTO {
+
+    /**
+     * The cliente with the lower id
+     */
+    private ClienteDTO cliente;
+
+    /**
+     * The cliente that would be merged into {@code cliente}
+     */
+    private ClienteDTO duplicado;
+
+    /**
+     * Weighted similarity used for ranking, between 0 and 1
+     */
+    private double puntuacion;
+
+    private double similitudNombre;
+
+    private double similitudEmail;
+
+    private double similitudTelefono;
+}
@@ -0,0 +1,47 @@
+package com.empleados.api.dto;
+
+import com.empleados.api.dedup.DuplicateDetectionService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO with the state and ranked candidates of the latest duplicate detection
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateReportDTO {
+
+    private DuplicateDetectionService.Status status;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private String error;
+
+    private int clientes;
+
+    /**
+     * Blocks of clientes sharing a key that were compared
+     */
+    private int bloques;
+
+    /**
+     * Blocks skipped for exceeding the maximum block size
+     */
+    private int bloquesOmitidos;
+
+    private long comparaciones;
+
+    private long totalCandidatos;
+
+    /**
+     * Candidates, highest score first
+     */
+    private List<DuplicateCandidateDTO> candidatos;
+}
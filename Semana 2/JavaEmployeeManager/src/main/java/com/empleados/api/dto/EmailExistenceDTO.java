@@ -0,0 +1,18 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with the answer to an email existence lookup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailExistenceDTO {
+
+    private String email;
+
+    private boolean exists;
+}
@@ -0,0 +1,52 @@
+package com.empleados.api.dto;
+
+import com.empleados.api.export.ExportCompression;
+import com.empleados.api.export.ExportFormat;
+import com.empleados.api.export.ExportJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO with the progress of an export
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobDTO {
+
+    private String id;
+
+    private ExportJob.Status status;
+
+    private ExportFormat format;
+
+    private ExportCompression compression;
+
+    private String ciudad;
+
+    private Instant createdAt;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    /**
+     * Rows written so far
+     */
+    private long rows;
+
+    /**
+     * Size of the compressed file once completed
+     */
+    private long bytes;
+
+    private String error;
+
+    /**
+     * Where to fetch the file, only set once completed
+     */
+    private String downloadUrl;
+}
@@ -0,0 +1,28 @@
+package com.empleados.api.dto;
+
+import com.empleados.api.export.ExportCompression;
+import com.empleados.api.export.ExportFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO requesting an export of clientes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportRequestDTO {
+
+    @NotNull(message = "El formato es obligatorio")
+    private ExportFormat format = ExportFormat.CSV;
+
+    @NotNull(message = "La compresión es obligatoria")
+    private ExportCompression compression = ExportCompression.GZIP;
+
+    /**
+     * Only export the clientes of this city; every cliente when null
+     */
+    private String ciudad;
+}
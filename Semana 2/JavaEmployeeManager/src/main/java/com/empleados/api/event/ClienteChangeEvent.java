@@ -0,0 +1,42 @@
+package com.empleados.api.event;
+
+import com.empleados.api.dto.ClienteDTO;
+
+/**
+ * Application event describing one committed-to-be change of the clientes table.
+ * <p>
+ * Published synchronously by the write services inside their transaction, so listeners
+ * can bind work to the transaction outcome. The carried data is a copy and never changes
+ * after publication.
+ *
+ * @param type        kind of change
+ * @param id          affected client, for {@link Type#UPSERT} and {@link Type#DELETE}
+ * @param cliente     full row after the change, for {@link Type#UPSERT}
+ * @param ciudad      affected city, for the set-based changes
+ * @param nuevaCiudad new city, for {@link Type#REASSIGN_CIUDAD}
+ */
+public record ClienteChangeEvent(Type type, Long id, ClienteDTO cliente, String ciudad, String nuevaCiudad) {
+
+    public enum Type {
+        UPSERT,
+        DELETE,
+        REASSIGN_CIUDAD,
+        DELETE_CIUDAD
+    }
+
+    public static ClienteChangeEvent upsert(ClienteDTO cliente) {
+        return new ClienteChangeEvent(Type.UPSERT, cliente.getId(), cliente, null, null);
+    }
+
+    public static ClienteChangeEvent delete(Long id) {
+        return new ClienteChangeEvent(Type.DELETE, id, null, null, null);
+    }
+
+    public static ClienteChangeEvent reassignCiudad(String ciudad, String nuevaCiudad) {
+        return new ClienteChangeEvent(Type.REASSIGN_CIUDAD, null, null, ciudad, nuevaCiudad);
+    }
+
+    public static ClienteChangeEvent deleteCiudad(String ciudad) {
+        return new ClienteChangeEvent(Type.DELETE_CIUDAD, null, null, ciudad, null);
+    }
+}
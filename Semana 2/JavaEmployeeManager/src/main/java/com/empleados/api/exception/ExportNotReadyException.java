@@ -0,0 +1,17 @@
+package com.empleados.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when the file of an export is requested before the export has completed
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ExportNotReadyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ExportNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,316 @@
+package com.empleados.api.export;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.google.flatbuffers.FlatBufferBuilder;
+import org.apache.arrow.flatbuf.Buffer;
+import org.apache.arrow.flatbuf.DictionaryBatch;
+import org.apache.arrow.flatbuf.DictionaryEncoding;
+import org.apache.arrow.flatbuf.DictionaryKind;
+import org.apache.arrow.flatbuf.Endianness;
+import org.apache.arrow.flatbuf.Field;
+import org.apache.arrow.flatbuf.FieldNode;
+import org.apache.arrow.flatbuf.Int;
+import org.apache.arrow.flatbuf.Message;
+import org.apache.arrow.flatbuf.MessageHeader;
+import org.apache.arrow.flatbuf.MetadataVersion;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.flatbuf.Schema;
+import org.apache.arrow.flatbuf.Type;
+import org.apache.arrow.flatbuf.Utf8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes clientes as an Arrow IPC stream (columnar format version 5), one record batch per
+ * {@code batchSize} rows, so the rows can be streamed from a cursor without holding the table.
+ * <p>
+ * Columns: {@code id} (int64), {@code nombre}, {@code apellido}, {@code email},
+ * {@code telefono} (utf8) and {@code ciudad}, dictionary-encoded with int32 indices. The
+ * dictionary is sent before the first batch with the ciudades seen so far and grown with
+ * delta dictionary batches as new ones appear, so it never has to be known up front.
+ * <p>
+ * Only the IPC message headers come from the Arrow flatbuffer definitions; the column buffers
+ * are filled here directly, without Arrow's off-heap allocator.
+ */
+public class ClienteArrowWriter {
+
+    public static final int DEFAULT_BATCH_SIZE = 8192;
+
+    static final String[] STRING_COLUMNS = {"nombre", "apellido", "email", "telefono"};
+    private static final long CIUDAD_DICTIONARY_ID = 0;
+    private static final int CONTINUATION = 0xFFFFFFFF;
+    private static final int ALIGNMENT = 8;
+    private static final byte[] PADDING = new byte[ALIGNMENT];
+
+    private final OutputStream out;
+    private final int batchSize;
+    private final long[] ids;
+    private final StringColumn[] strings = new StringColumn[STRING_COLUMNS.length];
+    private final int[] ciudades;
+    private final byte[] ciudadValidity;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> pendingDictionary = new ArrayList<>();
+    private boolean dictionarySent;
+    private int rows;
+
+    public ClienteArrowWriter(OutputStream out) throws IOException {
+        this(out, DEFAULT_BATCH_SIZE);
+    }
+
+    public ClienteArrowWriter(OutputStream out, int batchSize) throws IOException {
+        this.out = out;
+        this.batchSize = batchSize;
+        this.ids = new long[batchSize];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = new StringColumn(batchSize);
+        }
+        this.ciudades = new int[batchSize];
+        this.ciudadValidity = new byte[(batchSize + 7) / 8];
+        writeSchema();
+    }
+
+    public void write(ClienteDTO cliente) throws IOException {
+        // The id column is declared non-nullable; a cliente that was never saved is written as 0
+        ids[rows] = cliente.getId() != null ? cliente.getId() : 0L;
+        strings[0].add(rows, cliente.getNombre());
+        strings[1].add(rows, cliente.getApellido());
+        strings[2].add(rows, cliente.getEmail());
+        strings[3].add(rows, cliente.getTelefono());
+        String ciudad = cliente.getCiudad();
+        if (ciudad != null) {
+            Integer index = dictionary.get(ciudad);
+            if (index == null) {
+                index = dictionary.size();
+                dictionary.put(ciudad, index);
+                pendingDictionary.add(ciudad);
+            }
+            ciudades[rows] = index;
+            ciudadValidity[rows >> 3] |= (byte) (1 << (rows & 7));
+        }
+        if (++rows == batchSize) {
+            writeBatch();
+        }
+    }
+
+    /**
+     * Write the pending rows and the end-of-stream marker, and flush; the stream stays open
+     */
+    public void finish() throws IOException {
+        if (rows > 0) {
+            writeBatch();
+        } else if (!dictionarySent) {
+            writeDictionary();
+        }
+        writeInt(CONTINUATION);
+        writeInt(0);
+        out.flush();
+    }
+
+    private void writeSchema() throws IOException {
+        FlatBufferBuilder builder = new FlatBufferBuilder(1024);
+        int[] fields = new int[2 + STRING_COLUMNS.length];
+        int idType = Int.createInt(builder, 64, true);
+        fields[0] = field(builder, "id", false, Type.Int, idType, 0);
+        for (int i = 0; i < STRING_COLUMNS.length; i++) {
+            fields[i + 1] = field(builder, STRING_COLUMNS[i], true, Type.Utf8, utf8(builder), 0);
+        }
+        int indexType = Int.createInt(builder, 32, true);
+        int encoding = DictionaryEncoding.createDictionaryEncoding(
+                builder, CIUDAD_DICTIONARY_ID, indexType, false, DictionaryKind.DenseArray);
+        fields[fields.length - 1] = field(builder, "ciudad", true, Type.Utf8, utf8(builder), encoding);
+        int fieldsVector = Schema.createFieldsVector(builder, fields);
+        int schema = Schema.createSchema(builder, Endianness.Little, fieldsVector, 0, 0);
+        writeMessage(builder, MessageHeader.Schema, schema, List.of());
+    }
+
+    private void writeBatch() throws IOException {
+        if (!pendingDictionary.isEmpty() || !dictionarySent) {
+            writeDictionary();
+        }
+        List<byte[]> buffers = new ArrayList<>();
+        List<long[]> nodes = new ArrayList<>();
+
+        ByteBuffer idData = ByteBuffer.allocate(rows * 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < rows; i++) {
+            idData.putLong(ids[i]);
+        }
+        nodes.add(new long[]{rows, 0});
+        buffers.add(new byte[0]);
+        buffers.add(idData.array());
+
+        for (StringColumn column : strings) {
+            column.appendTo(rows, nodes, buffers);
+        }
+
+        int nulls = rows - countSet(ciudadValidity, rows);
+        ByteBuffer indexData = ByteBuffer.allocate(rows * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < rows; i++) {
+            indexData.putInt(ciudades[i]);
+        }
+        nodes.add(new long[]{rows, nulls});
+        buffers.add(nulls > 0 ? Arrays.copyOf(ciudadValidity, (rows + 7) / 8) : new byte[0]);
+        buffers.add(indexData.array());
+
+        FlatBufferBuilder builder = new FlatBufferBuilder(1024);
+        int batch = recordBatch(builder, rows, nodes, buffers);
+        writeMessage(builder, MessageHeader.RecordBatch, batch, buffers);
+
+        Arrays.fill(ciudadValidity, (byte) 0);
+        for (StringColumn column : strings) {
+            column.reset();
+        }
+        rows = 0;
+    }
+
+    private void writeDictionary() throws IOException {
+        StringColumn values = new StringColumn(Math.max(pendingDictionary.size(), 1));
+        for (int i = 0; i < pendingDictionary.size(); i++) {
+            values.add(i, pendingDictionary.get(i));
+        }
+        List<byte[]> buffers = new ArrayList<>();
+        List<long[]> nodes = new ArrayList<>();
+        values.appendTo(pendingDictionary.size(), nodes, buffers);
+
+        FlatBufferBuilder builder = new FlatBufferBuilder(256);
+        int data = recordBatch(builder, pendingDictionary.size(), nodes, buffers);
+        int dictionaryBatch = DictionaryBatch.createDictionaryBatch(builder, CIUDAD_DICTIONARY_ID, data, dictionarySent);
+        writeMessage(builder, MessageHeader.DictionaryBatch, dictionaryBatch, buffers);
+        pendingDictionary.clear();
+        dictionarySent = true;
+    }
+
+    private static int field(FlatBufferBuilder builder, String name, boolean nullable, byte type, int typeOffset,
+                             int dictionary) {
+        int nameOffset = builder.createString(name);
+        // Some readers reject a field without a children vector, even an empty one
+        int children = Field.createChildrenVector(builder, new int[0]);
+        return Field.createField(builder, nameOffset, nullable, type, typeOffset, dictionary, children, 0);
+    }
+
+    private static int utf8(FlatBufferBuilder builder) {
+        Utf8.startUtf8(builder);
+        return Utf8.endUtf8(builder);
+    }
+
+    private static int recordBatch(FlatBufferBuilder builder, int length, List<long[]> nodes, List<byte[]> buffers) {
+        RecordBatch.startNodesVector(builder, nodes.size());
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            FieldNode.createFieldNode(builder, nodes.get(i)[0], nodes.get(i)[1]);
+        }
+        int nodesVector = builder.endVector();
+        long[] offsets = new long[buffers.size()];
+        long offset = 0;
+        for (int i = 0; i < buffers.size(); i++) {
+            offsets[i] = offset;
+            offset += padded(buffers.get(i).length);
+        }
+        RecordBatch.startBuffersVector(builder, buffers.size());
+        for (int i = buffers.size() - 1; i >= 0; i--) {
+            Buffer.createBuffer(builder, offsets[i], buffers.get(i).length);
+        }
+        int buffersVector = builder.endVector();
+        return RecordBatch.createRecordBatch(builder, length, nodesVector, buffersVector, 0);
+    }
+
+    /**
+     * Encapsulated message: continuation marker, padded metadata length, metadata, body
+     */
+    private void writeMessage(FlatBufferBuilder builder, byte headerType, int header, List<byte[]> body)
+            throws IOException {
+        long bodyLength = 0;
+        for (byte[] buffer : body) {
+            bodyLength += padded(buffer.length);
+        }
+        int message = Message.createMessage(builder, MetadataVersion.V5, headerType, header, bodyLength, 0);
+        builder.finish(message);
+        byte[] metadata = builder.sizedByteArray();
+        // The body has to start 8-byte aligned: the 8 prefix bytes plus the padded metadata
+        int metadataLength = padded(metadata.length);
+        writeInt(CONTINUATION);
+        writeInt(metadataLength);
+        out.write(metadata);
+        out.write(PADDING, 0, metadataLength - metadata.length);
+        for (byte[] buffer : body) {
+            out.write(buffer);
+            out.write(PADDING, 0, padded(buffer.length) - buffer.length);
+        }
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private static int padded(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private static int countSet(byte[] bitmap, int bits) {
+        int count = 0;
+        for (int i = 0; i < bits; i++) {
+            count += (bitmap[i >> 3] >> (i & 7)) & 1;
+        }
+        return count;
+    }
+
+    /**
+     * Validity bitmap, int32 offsets and UTF-8 bytes of one string column of the current batch
+     */
+    private static final class StringColumn {
+
+        private final byte[] validity;
+        private final int[] offsets;
+        private byte[] data = new byte[4096];
+        private int size;
+        private int nulls;
+
+        StringColumn(int capacity) {
+            this.validity = new byte[(capacity + 7) / 8];
+            this.offsets = new int[capacity + 1];
+        }
+
+        void add(int row, String value) {
+            if (value == null) {
+                nulls++;
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                if (size + bytes.length > data.length) {
+                    data = Arrays.copyOf(data, Math.max(data.length * 2, size + bytes.length));
+                }
+                System.arraycopy(bytes, 0, data, size, bytes.length);
+                size += bytes.length;
+                validity[row >> 3] |= (byte) (1 << (row & 7));
+            }
+            offsets[row + 1] = size;
+        }
+
+        void appendTo(int rows, List<long[]> nodes, List<byte[]> buffers) {
+            nodes.add(new long[]{rows, nulls});
+            // A column without nulls may omit its validity bitmap
+            buffers.add(nulls > 0 ? Arrays.copyOf(validity, (rows + 7) / 8) : new byte[0]);
+            ByteBuffer offsetData = ByteBuffer.allocate((rows + 1) * 4).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i <= rows; i++) {
+                offsetData.putInt(offsets[i]);
+            }
+            buffers.add(offsetData.array());
+            buffers.add(Arrays.copyOf(data, size));
+        }
+
+        void reset() {
+            Arrays.fill(validity, (byte) 0);
+            size = 0;
+            nulls = 0;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.empleados.api.export;
+
+import com.empleados.api.dto.ClienteDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes clientes as RFC 4180 CSV: a header line, CRLF line endings, fields quoted only when
+ * they contain a comma, a quote or a line break, and null written as an empty field.
+ */
+public class ClienteCsvWriter {
+
+    static final String HEADER = "id,nombre,apellido,email,telefono,ciudad";
+    private static final String CRLF = "\r\n";
+
+    private final Writer out;
+
+    public ClienteCsvWriter(OutputStream out) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        this.out.write(HEADER);
+        this.out.write(CRLF);
+    }
+
+    public void write(ClienteDTO cliente) throws IOException {
+        if (cliente.getId() != null) {
+            out.write(Long.toString(cliente.getId()));
+        }
+        out.write(',');
+        writeField(cliente.getNombre());
+        out.write(',');
+        writeField(cliente.getApellido());
+        out.write(',');
+        writeField(cliente.getEmail());
+        out.write(',');
+        writeField(cliente.getTelefono());
+        out.write(',');
+        writeField(cliente.getCiudad());
+        out.write(CRLF);
+    }
+
+    /**
+     * Flush buffered rows; the underlying stream stays open
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
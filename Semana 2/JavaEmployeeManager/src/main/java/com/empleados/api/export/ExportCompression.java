@@ -0,0 +1,68 @@
+package com.empleados.api.export;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression applied to export files
+ */
+public enum ExportCompression {
+
+    /** Plain file, for formats that are compact already or read in place */
+    NONE(null, null) {
+        @Override
+        public OutputStream wrap(OutputStream out) {
+            return new BufferedOutputStream(out, 64 * 1024);
+        }
+    },
+
+    GZIP("gz", "application/gzip") {
+        @Override
+        public OutputStream wrap(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, 64 * 1024);
+        }
+    },
+
+    /** Faster than gzip at a similar or better ratio; needs a zstd-aware client */
+    ZSTD("zst", "application/zstd") {
+        @Override
+        public OutputStream wrap(OutputStream out) throws IOException {
+            return new ZstdOutputStream(out, 3);
+        }
+    };
+
+    private final String extension;
+    private final String contentType;
+
+    ExportCompression(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public abstract OutputStream wrap(OutputStream out) throws IOException;
+
+    /**
+     * @return the extension, null when the file is not compressed
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @return the media type of compressed files, null when the file keeps the format's type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return the file name suffix of the given format with this compression, e.g. {@code .csv.gz}
+     */
+    public String suffix(ExportFormat format) {
+        return "." + format.getExtension() + (extension != null ? "." + extension : "");
+    }
+}
@@ -0,0 +1,101 @@
+package com.empleados.api.export;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.web.ClienteJsonWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Row formats of the clientes export
+ */
+public enum ExportFormat {
+
+    /** RFC 4180 CSV with a header line, UTF-8 */
+    CSV("csv", "text/csv") {
+        @Override
+        public RowWriter open(OutputStream out) throws IOException {
+            ClienteCsvWriter writer = new ClienteCsvWriter(out);
+            return new RowWriter() {
+                @Override
+                public void write(ClienteDTO cliente) throws IOException {
+                    writer.write(cliente);
+                }
+
+                @Override
+                public void finish() throws IOException {
+                    writer.flush();
+                }
+            };
+        }
+    },
+
+    /** One JSON object per line, same field layout as the REST API */
+    NDJSON("ndjson", "application/x-ndjson") {
+        @Override
+        public RowWriter open(OutputStream out) {
+            ClienteJsonWriter writer = new ClienteJsonWriter(out);
+            return new RowWriter() {
+                @Override
+                public void write(ClienteDTO cliente) throws IOException {
+                    writer.writeLine(cliente);
+                }
+
+                @Override
+                public void finish() throws IOException {
+                    writer.flush();
+                }
+            };
+        }
+    },
+
+    /**
+     * Arrow IPC stream for columnar engines, ciudad dictionary-encoded; best combined with
+     * {@link ExportCompression#NONE} so the file can be read without decompressing it first
+     */
+    ARROW("arrows", "application/vnd.apache.arrow.stream") {
+        @Override
+        public RowWriter open(OutputStream out) throws IOException {
+            ClienteArrowWriter writer = new ClienteArrowWriter(out);
+            return new RowWriter() {
+                @Override
+                public void write(ClienteDTO cliente) throws IOException {
+                    writer.write(cliente);
+                }
+
+                @Override
+                public void finish() throws IOException {
+                    writer.finish();
+                }
+            };
+        }
+    };
+
+    /**
+     * Sink of exported rows; {@link #finish} flushes without closing the stream
+     */
+    public interface RowWriter {
+
+        void write(ClienteDTO cliente) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public abstract RowWriter open(OutputStream out) throws IOException;
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
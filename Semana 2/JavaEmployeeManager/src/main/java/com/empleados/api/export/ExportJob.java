@@ -0,0 +1,159 @@
+package com.empleados.api.export;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.Future;
+
+/**
+ * State of one asynchronous export; updated by the worker writing it and read by status requests
+ */
+public class ExportJob {
+
+    /**
+     * Lifecycle of an export
+     */
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED;
+
+        public boolean isFinished() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+
+    private final String id;
+    private final ExportFormat format;
+    private final ExportCompression compression;
+    private final String ciudad;
+    private final Path file;
+    private final Instant createdAt;
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile long rows;
+    private volatile long bytes;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+    private volatile Future<?> future;
+
+    public ExportJob(String id, ExportFormat format, ExportCompression compression, String ciudad, Path file) {
+        this.id = id;
+        this.format = format;
+        this.compression = compression;
+        this.ciudad = ciudad;
+        this.file = file;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * @return false when the job was cancelled before a worker picked it up
+     */
+    synchronized boolean start() {
+        if (cancelRequested) {
+            return false;
+        }
+        status = Status.RUNNING;
+        startedAt = Instant.now();
+        return true;
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    synchronized void complete(long bytes) {
+        this.bytes = bytes;
+        finish(Status.COMPLETED);
+    }
+
+    synchronized void fail(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    /**
+     * Ask the worker to stop; a job that is not finished yet becomes CANCELLED right away
+     */
+    synchronized void cancel() {
+        cancelRequested = true;
+        if (!status.isFinished()) {
+            finish(Status.CANCELLED);
+        }
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private void finish(Status status) {
+        if (!this.status.isFinished()) {
+            this.status = status;
+            this.finishedAt = Instant.now();
+        }
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public ExportCompression getCompression() {
+        return compression;
+    }
+
+    public String getCiudad() {
+        return ciudad;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the download name, e.g. {@code clientes-<id>.csv.gz}
+     */
+    public String getFileName() {
+        return "clientes-" + id + compression.suffix(format);
+    }
+
+    public String getContentType() {
+        return compression.getContentType() != null ? compression.getContentType() : format.getContentType();
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,263 @@
+package com.empleados.api.export;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.exception.ExportNotReadyException;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.exception.ServiceUnavailableException;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Runs clientes exports on a bounded pool of workers.
+ * <p>
+ * Each worker streams rows from a database cursor straight into a compressed file, so memory
+ * use does not grow with the table. The file is written under a {@code .part} name and moved
+ * into place when complete, so a download never sees a partial export. Jobs live in memory:
+ * export files left by a previous run are deleted at startup, and finished jobs are dropped
+ * together with their files once the retention period has passed. Only files named like an
+ * export ({@code <uuid>.<format>[.<compression>][.part]}) are ever deleted, so the directory
+ * may be shared with other data.
+ */
+public class ExportJobService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportJobService.class);
+    private static final String PART_SUFFIX = ".part";
+
+    private final ClienteRepository clienteRepository;
+    private final CiudadDictionary ciudadDictionary;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path directory;
+    private final Duration retention;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService cleaner;
+
+    public ExportJobService(ClienteRepository clienteRepository, CiudadDictionary ciudadDictionary,
+                            PlatformTransactionManager transactionManager, Path directory, int workers,
+                            int queueCapacity, Duration retention) throws IOException {
+        this.clienteRepository = clienteRepository;
+        this.ciudadDictionary = ciudadDictionary;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = Files.createDirectories(directory);
+        this.retention = retention;
+        deleteOrphans();
+
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "clientes-export-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "clientes-export-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1_000L, Math.min(retention.toMillis(), 60_000L));
+        cleaner.scheduleWithFixedDelay(this::purgeExpired, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue an export of every cliente, or of those in {@code ciudad} when given
+     *
+     * @throws ServiceUnavailableException when the queue of pending exports is full
+     */
+    public ExportJob submit(ExportFormat format, ExportCompression compression, String ciudad) {
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, format, compression, ciudad,
+                directory.resolve(id + compression.suffix(format)));
+        jobs.put(id, job);
+        try {
+            job.setFuture(workers.submit(() -> run(job)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw new ServiceUnavailableException("Cola de exportaciones llena", e);
+        }
+        return job;
+    }
+
+    /**
+     * @throws ResourceNotFoundException when the job does not exist or was already removed
+     */
+    public ExportJob getJob(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Exportación no encontrada con id: " + id);
+        }
+        return job;
+    }
+
+    /**
+     * @return the job, once its file is complete
+     * @throws ExportNotReadyException when the job has not completed
+     */
+    public ExportJob getCompletedJob(String id) {
+        ExportJob job = getJob(id);
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            throw new ExportNotReadyException("La exportación " + id + " está en estado " + job.getStatus());
+        }
+        return job;
+    }
+
+    /**
+     * Cancel a pending or running export, or delete a finished one, together with its file
+     */
+    public void delete(String id) {
+        ExportJob job = getJob(id);
+        job.cancel();
+        jobs.remove(id, job);
+        deleteQuietly(job.getFile());
+    }
+
+    /**
+     * Drop finished jobs older than the retention period and their files
+     *
+     * @return the number of jobs dropped
+     */
+    public int purgeExpired() {
+        Instant limit = Instant.now().minus(retention);
+        int purged = 0;
+        for (ExportJob job : jobs.values()) {
+            if (job.getStatus().isFinished() && job.getFinishedAt().isBefore(limit) && jobs.remove(job.getId(), job)) {
+                deleteQuietly(job.getFile());
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    public long countJobs(ExportJob.Status status) {
+        return jobs.values().stream().filter(job -> job.getStatus() == status).count();
+    }
+
+    @Override
+    public void destroy() {
+        cleaner.shutdownNow();
+        jobs.values().forEach(ExportJob::cancel);
+        workers.shutdownNow();
+    }
+
+    private void run(ExportJob job) {
+        if (!job.start()) {
+            return;
+        }
+        Path part = job.getFile().resolveSibling(job.getFile().getFileName() + PART_SUFFIX);
+        try {
+            try (OutputStream out = job.getCompression().wrap(Files.newOutputStream(part))) {
+                ExportFormat.RowWriter writer = job.getFormat().open(out);
+                // A ciudad missing from the dictionary has no clients: the file is complete with no rows
+                if (job.getCiudad() == null || ciudadDictionary.find(job.getCiudad()) != null) {
+                    readOnlyTransaction.executeWithoutResult(status -> writeRows(job, writer));
+                }
+                writer.finish();
+            }
+            synchronized (job) {
+                // Checked under the job's lock so a concurrent delete either sees the file or stops us
+                if (job.isCancelRequested()) {
+                    throw new CancellationException();
+                }
+                Files.move(part, job.getFile(), StandardCopyOption.ATOMIC_MOVE);
+                job.complete(Files.size(job.getFile()));
+            }
+            log.info("Exportación {} completada: {} clientes, {} bytes", job.getId(), job.getRows(), job.getBytes());
+        } catch (CancellationException e) {
+            deleteQuietly(part);
+            log.info("Exportación {} cancelada tras {} clientes", job.getId(), job.getRows());
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(part);
+            job.fail(e.getMessage());
+            log.error("Exportación {} fallida", job.getId(), e);
+        }
+    }
+
+    private void writeRows(ExportJob job, ExportFormat.RowWriter writer) {
+        try (Stream<ClienteDTO> rows = job.getCiudad() != null
+                ? clienteRepository.streamProjectedByCiudad(job.getCiudad())
+                : clienteRepository.streamAllProjected()) {
+            Iterator<ClienteDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                if (job.isCancelRequested()) {
+                    throw new CancellationException();
+                }
+                writer.write(iterator.next());
+                job.addRow();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteOrphans() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && isExportFile(file.getFileName().toString())) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the name is one this service gives to an export file, complete or not
+     */
+    static boolean isExportFile(String name) {
+        String complete = name.endsWith(PART_SUFFIX)
+                ? name.substring(0, name.length() - PART_SUFFIX.length())
+                : name;
+        for (ExportFormat format : ExportFormat.values()) {
+            for (ExportCompression compression : ExportCompression.values()) {
+                String suffix = compression.suffix(format);
+                if (complete.endsWith(suffix) && isUuid(complete.substring(0, complete.length() - suffix.length()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isUuid(String value) {
+        try {
+            return UUID.fromString(value).toString().equals(value);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el fichero de exportación {}", file, e);
+        }
+    }
+}
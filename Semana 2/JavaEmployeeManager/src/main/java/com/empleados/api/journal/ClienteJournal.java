@@ -0,0 +1,332 @@
+package com.empleados.api.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal stored in memory-mapped segment files.
+ * <p>
+ * Every record is framed as {@code [int length][int crc32][payload]}; a zero length marks the
+ * end of the written part of a segment. Appending only copies the record into the mapped
+ * pages, so it costs about as much as an in-memory write; durability is decided by the
+ * {@link FsyncPolicy}. With {@link FsyncPolicy#ALWAYS} callers wait in {@link #awaitDurable}
+ * and the first waiter forces every record appended so far, so concurrent transactions are
+ * made durable by a single fsync.
+ */
+public class ClienteJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteJournal.class);
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d{16})\\.log");
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Object appendLock = new Object();
+    private final AtomicLong synced = new AtomicLong();
+    private final LongAdder fsyncs = new LongAdder();
+    private final long firstSegment;
+    private final ScheduledExecutorService syncScheduler;
+
+    // Guarded by appendLock
+    private long nextSegment;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int dirtyFrom;
+    private long appended;
+
+    public ClienteJournal(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval)
+            throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        Files.createDirectories(directory);
+        this.firstSegment = listSegments().stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+        this.nextSegment = firstSegment;
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            syncScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "journal-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = Math.max(1, fsyncInterval.toMillis());
+            syncScheduler.scheduleWithFixedDelay(this::syncQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            syncScheduler = null;
+        }
+    }
+
+    /**
+     * Append one record
+     *
+     * @return journal position right after the record, to pass to {@link #awaitDurable}
+     */
+    public long append(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        int needed = HEADER_BYTES + payload.length;
+        synchronized (appendLock) {
+            if (buffer == null || buffer.remaining() < needed) {
+                openNextSegment(needed);
+            }
+            buffer.putInt(payload.length);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(payload);
+            appended += needed;
+            return appended;
+        }
+    }
+
+    /**
+     * Block until everything up to the given position is on disk, if the policy requires it
+     */
+    public void awaitDurable(long position) {
+        if (fsyncPolicy != FsyncPolicy.ALWAYS || synced.get() >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            // Another committer may have forced our records while we waited for the lock
+            if (synced.get() < position) {
+                sync();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Force every record appended so far to disk
+     */
+    public void sync() {
+        syncLock.lock();
+        try {
+            MappedByteBuffer target;
+            int from;
+            int to;
+            long position;
+            synchronized (appendLock) {
+                if (buffer == null) {
+                    return;
+                }
+                target = buffer;
+                from = dirtyFrom;
+                to = buffer.position();
+                position = appended;
+                dirtyFrom = to;
+            }
+            if (to > from) {
+                target.force(from, to - from);
+                fsyncs.increment();
+            }
+            synced.accumulateAndGet(position, Math::max);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Close the current segment so that the next record starts a new one
+     *
+     * @return index of the segment the next record will be written to; every record appended
+     *         before this call lives in a lower segment
+     */
+    public long roll() {
+        synchronized (appendLock) {
+            closeSegment();
+            return nextSegment;
+        }
+    }
+
+    /**
+     * Payloads of every intact record stored in segments with an index of at least
+     * {@code fromSegment}, in append order. Reading stops at the first torn or corrupt record,
+     * which can only be the tail left by a crash.
+     */
+    public List<byte[]> readFrom(long fromSegment) throws IOException {
+        List<byte[]> records = new ArrayList<>();
+        for (long index : listSegments()) {
+            if (index < fromSegment) {
+                continue;
+            }
+            try (FileChannel segment = FileChannel.open(segmentPath(index), StandardOpenOption.READ)) {
+                MappedByteBuffer data = segment.map(FileChannel.MapMode.READ_ONLY, 0, segment.size());
+                if (!readSegment(index, data, records)) {
+                    return records;
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Delete the segments made obsolete by a snapshot
+     */
+    public void deleteSegmentsBefore(long index) throws IOException {
+        for (long segment : listSegments()) {
+            if (segment < index) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+    }
+
+    /**
+     * Lock held shared by transactions from the moment their records are appended until they
+     * are committed, and exclusively while a snapshot is taken, so that a snapshot never sees
+     * a transaction whose records are split around the snapshot position
+     */
+    public ReentrantReadWriteLock commitGate() {
+        return commitGate;
+    }
+
+    /**
+     * Index of the first segment written by this process; lower segments come from earlier runs
+     */
+    public long getFirstSegment() {
+        return firstSegment;
+    }
+
+    public long getAppendedBytes() {
+        synchronized (appendLock) {
+            return appended;
+        }
+    }
+
+    public long getFsyncCount() {
+        return fsyncs.sum();
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    @Override
+    public void close() {
+        if (syncScheduler != null) {
+            syncScheduler.shutdownNow();
+        }
+        synchronized (appendLock) {
+            if (buffer != null) {
+                buffer.force();
+            }
+            closeSegment();
+        }
+    }
+
+    private boolean readSegment(long index, MappedByteBuffer data, List<byte[]> records) {
+        while (data.remaining() >= HEADER_BYTES) {
+            int length = data.getInt();
+            if (length == 0) {
+                return true;
+            }
+            int expectedCrc = data.getInt();
+            if (length < 0 || length > data.remaining()) {
+                log.warn("Registro incompleto en el segmento {} del journal, se ignora el resto", index);
+                return false;
+            }
+            byte[] payload = new byte[length];
+            data.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("Registro corrupto en el segmento {} del journal, se ignora el resto", index);
+                return false;
+            }
+            records.add(payload);
+        }
+        return true;
+    }
+
+    private void openNextSegment(int needed) {
+        closeSegment();
+        Path path = segmentPath(nextSegment);
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, needed + HEADER_BYTES));
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                syncDirectory();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el segmento del journal " + path, e);
+        }
+        nextSegment++;
+        dirtyFrom = 0;
+    }
+
+    private void closeSegment() {
+        if (buffer == null) {
+            return;
+        }
+        if (fsyncPolicy != FsyncPolicy.NEVER && buffer.position() > dirtyFrom) {
+            buffer.force();
+            fsyncs.increment();
+            synced.accumulateAndGet(appended, Math::max);
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Error al cerrar el segmento del journal", e);
+        }
+        channel = null;
+        buffer = null;
+    }
+
+    private void syncDirectory() {
+        // Makes the new file entry durable; not supported on every platform
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("No se pudo sincronizar el directorio del journal", e);
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("Error al sincronizar el journal", e);
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("journal-%016d.log", index));
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> SEGMENT_NAME.matcher(p.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(m -> Long.parseLong(m.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.empleados.api.journal;
+
+/**
+ * When journal writes are forced to the storage device
+ */
+public enum FsyncPolicy {
+
+    /**
+     * Every transaction waits until its records are on disk before it is acknowledged.
+     * Concurrent transactions share the same fsync (group commit).
+     */
+    ALWAYS,
+
+    /**
+     * A background task forces the journal at a fixed interval; a crash can lose the
+     * transactions acknowledged during the last interval.
+     */
+    INTERVAL,
+
+    /**
+     * The journal is never forced explicitly and the operating system decides when pages
+     * reach the disk. Survives an application crash but not a machine crash.
+     */
+    NEVER
+}
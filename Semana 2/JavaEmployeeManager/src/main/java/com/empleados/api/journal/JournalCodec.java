@@ -0,0 +1,130 @@
+package com.empleados.api.journal;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.event.ClienteChangeEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of journal records.
+ * <p>
+ * A transaction is written as one data record holding all of its changes, followed later
+ * by a commit or abort marker with the same transaction id. Only transactions with a commit
+ * marker are replayed.
+ */
+public final class JournalCodec {
+
+    public static final byte TRANSACTION = 1;
+    public static final byte COMMIT = 2;
+    public static final byte ABORT = 3;
+
+    private static final ClienteChangeEvent.Type[] TYPES = ClienteChangeEvent.Type.values();
+
+    private JournalCodec() {
+    }
+
+    /**
+     * A decoded journal record; {@code changes} is empty for markers
+     */
+    public record Record(byte kind, long txId, List<ClienteChangeEvent> changes) {
+    }
+
+    public static byte[] encodeTransaction(long txId, List<ClienteChangeEvent> changes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + changes.size() * 96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(TRANSACTION);
+            out.writeLong(txId);
+            out.writeInt(changes.size());
+            for (ClienteChangeEvent change : changes) {
+                writeChange(out, change);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] encodeMarker(byte kind, long txId) {
+        byte[] bytes = new byte[9];
+        bytes[0] = kind;
+        for (int i = 0; i < 8; i++) {
+            bytes[1 + i] = (byte) (txId >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    public static Record decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte kind = in.readByte();
+            long txId = in.readLong();
+            if (kind != TRANSACTION) {
+                return new Record(kind, txId, List.of());
+            }
+            int count = in.readInt();
+            List<ClienteChangeEvent> changes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                changes.add(readChange(in));
+            }
+            return new Record(kind, txId, changes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro del journal ilegible", e);
+        }
+    }
+
+    private static void writeCliente(DataOutput out, ClienteDTO cliente) throws IOException {
+        out.writeLong(cliente.getId());
+        writeString(out, cliente.getNombre());
+        writeString(out, cliente.getApellido());
+        writeString(out, cliente.getEmail());
+        writeString(out, cliente.getTelefono());
+        writeString(out, cliente.getCiudad());
+    }
+
+    private static ClienteDTO readCliente(DataInput in) throws IOException {
+        return new ClienteDTO(in.readLong(), readString(in), readString(in), readString(in),
+                readString(in), readString(in));
+    }
+
+    private static void writeChange(DataOutput out, ClienteChangeEvent change) throws IOException {
+        out.writeByte(change.type().ordinal());
+        switch (change.type()) {
+            case UPSERT -> writeCliente(out, change.cliente());
+            case DELETE -> out.writeLong(change.id());
+            case REASSIGN_CIUDAD -> {
+                writeString(out, change.ciudad());
+                writeString(out, change.nuevaCiudad());
+            }
+            case DELETE_CIUDAD -> writeString(out, change.ciudad());
+        }
+    }
+
+    private static ClienteChangeEvent readChange(DataInput in) throws IOException {
+        ClienteChangeEvent.Type type = TYPES[in.readByte()];
+        return switch (type) {
+            case UPSERT -> ClienteChangeEvent.upsert(readCliente(in));
+            case DELETE -> ClienteChangeEvent.delete(in.readLong());
+            case REASSIGN_CIUDAD -> ClienteChangeEvent.reassignCiudad(readString(in), readString(in));
+            case DELETE_CIUDAD -> ClienteChangeEvent.deleteCiudad(readString(in));
+        };
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
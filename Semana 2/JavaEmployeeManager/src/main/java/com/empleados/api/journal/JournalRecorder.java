@@ -0,0 +1,105 @@
+package com.empleados.api.journal;
+
+import com.empleados.api.event.ClienteChangeEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Writes the changes published by the services to the journal, one record per transaction.
+ * <p>
+ * Right before commit the persistence context is flushed, which takes the row locks, and
+ * the transaction record is appended; conflicting transactions therefore reach the journal
+ * in the same order they commit in the database. After the commit a commit marker is
+ * appended and the caller waits for it to be durable before the request is acknowledged.
+ */
+public class JournalRecorder {
+
+    private final ClienteJournal journal;
+    private final EntityManager entityManager;
+    private final AtomicLong txIds;
+
+    public JournalRecorder(ClienteJournal journal, EntityManager entityManager) {
+        this.journal = journal;
+        this.entityManager = entityManager;
+        // Transaction ids are unique across restarts because every run writes to new segments
+        this.txIds = new AtomicLong(journal.getFirstSegment() << 32);
+    }
+
+    @EventListener
+    public void onChange(ClienteChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            long txId = txIds.incrementAndGet();
+            journal.append(JournalCodec.encodeTransaction(txId, List.of(event)));
+            journal.awaitDurable(journal.append(JournalCodec.encodeMarker(JournalCodec.COMMIT, txId)));
+            return;
+        }
+        PendingTransaction pending = (PendingTransaction) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingTransaction(txIds.incrementAndGet());
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(event);
+    }
+
+    /**
+     * Changes of one transaction waiting for its outcome
+     */
+    private class PendingTransaction implements TransactionSynchronization {
+
+        private final long txId;
+        private final List<ClienteChangeEvent> changes = new ArrayList<>();
+        private Lock gate;
+        private boolean appended;
+
+        PendingTransaction(long txId) {
+            this.txId = txId;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                entityManager.flush();
+            } catch (PersistenceException e) {
+                DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+                throw translated != null ? translated : e;
+            }
+            gate = journal.commitGate().readLock();
+            gate.lock();
+            journal.append(JournalCodec.encodeTransaction(txId, changes));
+            appended = true;
+        }
+
+        @Override
+        public void afterCommit() {
+            releaseGate();
+            journal.awaitDurable(journal.append(JournalCodec.encodeMarker(JournalCodec.COMMIT, txId)));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            releaseGate();
+            TransactionSynchronizationManager.unbindResourceIfPossible(JournalRecorder.this);
+            if (appended && status != STATUS_COMMITTED) {
+                journal.append(JournalCodec.encodeMarker(JournalCodec.ABORT, txId));
+            }
+        }
+
+        private void releaseGate() {
+            if (gate != null) {
+                gate.unlock();
+                gate = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.empleados.api.journal;
+
+import com.empleados.api.event.ClienteChangeEvent;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import com.empleados.api.snapshot.ClienteSnapshotReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rebuilds the in-memory database at startup from the newest snapshot plus the journal
+ * written after it. Runs once the schema exists and before any data initializer.
+ */
+public class JournalRecovery implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalRecovery.class);
+
+    private final ClienteJournal journal;
+    private final SnapshotStore snapshotStore;
+    private final ClienteJdbcWriter writer;
+
+    public JournalRecovery(ClienteJournal journal, SnapshotStore snapshotStore, ClienteJdbcWriter writer) {
+        this.journal = journal;
+        this.snapshotStore = snapshotStore;
+        this.writer = writer;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        long start = System.nanoTime();
+        long base = 0;
+        long loaded = 0;
+
+        // Newest snapshot that loads completely; a damaged one is discarded for the previous
+        for (long candidate : snapshotStore.bases()) {
+            try (ClienteSnapshotReader reader = snapshotStore.open(candidate)) {
+                loaded = writer.bulkInsert(reader);
+                base = candidate;
+                break;
+            } catch (IOException e) {
+                log.warn("Snapshot {} inválido, se intenta el anterior: {}", candidate, e.getMessage());
+                writer.deleteAll();
+            }
+        }
+
+        // Transactions in data-record order; only those with a commit marker are applied
+        Map<Long, List<ClienteChangeEvent>> transactions = new LinkedHashMap<>();
+        Set<Long> committed = new HashSet<>();
+        for (byte[] payload : journal.readFrom(base)) {
+            JournalCodec.Record record = JournalCodec.decode(payload);
+            switch (record.kind()) {
+                case JournalCodec.TRANSACTION -> transactions.put(record.txId(), record.changes());
+                case JournalCodec.COMMIT -> committed.add(record.txId());
+                case JournalCodec.ABORT -> transactions.remove(record.txId());
+                default -> log.warn("Tipo de registro desconocido en el journal: {}", record.kind());
+            }
+        }
+
+        int replayed = 0;
+        for (Map.Entry<Long, List<ClienteChangeEvent>> tx : transactions.entrySet()) {
+            if (committed.contains(tx.getKey())) {
+                writer.apply(tx.getValue());
+                replayed++;
+            }
+        }
+        writer.restartSequence();
+
+        log.info("Recuperación del journal: {} clientes del snapshot, {} transacciones reaplicadas en {} ms",
+                loaded, replayed, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,104 @@
+package com.empleados.api.journal;
+
+import com.empleados.api.repository.ClienteJdbcWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Takes snapshots once the application is ready (capturing the initial data), periodically
+ * while the journal keeps growing and on shutdown, and drops the journal segments and
+ * snapshots they make obsolete.
+ */
+public class JournalSnapshotter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalSnapshotter.class);
+
+    private final ClienteJournal journal;
+    private final SnapshotStore snapshotStore;
+    private final ClienteJdbcWriter writer;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler;
+    private long appendedAtLastSnapshot = -1;
+
+    public JournalSnapshotter(ClienteJournal journal, SnapshotStore snapshotStore,
+                              ClienteJdbcWriter writer, Duration interval) {
+        this.journal = journal;
+        this.snapshotStore = snapshotStore;
+        this.writer = writer;
+        this.interval = interval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        snapshotQuietly();
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write a snapshot unless nothing was journaled since the previous one
+     */
+    public synchronized void snapshot() throws IOException {
+        long appended = journal.getAppendedBytes();
+        if (appended == appendedAtLastSnapshot) {
+            return;
+        }
+
+        long base;
+        ClienteJdbcWriter.Snapshot rows;
+        // No transaction may sit between appending its record and committing while the read
+        // view is fixed and the journal rolled; the rows are read after commits resume
+        Lock gate = journal.commitGate().writeLock();
+        gate.lock();
+        try {
+            rows = writer.openSnapshot();
+            try {
+                appended = journal.getAppendedBytes();
+                base = journal.roll();
+            } catch (RuntimeException e) {
+                rows.close();
+                throw e;
+            }
+        } finally {
+            gate.unlock();
+        }
+
+        long written;
+        try (rows) {
+            written = snapshotStore.write(base, rows::forEach);
+        }
+        snapshotStore.deleteBefore(base);
+        journal.deleteSegmentsBefore(base);
+        appendedAtLastSnapshot = appended;
+        log.info("Snapshot {} escrito con {} clientes", base, written);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        snapshotQuietly();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("No se pudo escribir el snapshot del journal", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.empleados.api.journal;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.snapshot.ClienteSnapshotReader;
+import com.empleados.api.snapshot.ClienteSnapshotWriter;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Full copies of the clientes table that bound how much journal has to be replayed.
+ * <p>
+ * A snapshot named after segment {@code N} contains every transaction stored in segments
+ * below {@code N}, so recovery loads the newest snapshot and replays from segment {@code N}.
+ * Files use the {@link ClienteSnapshotWriter} format and are written to a temporary name,
+ * forced and renamed, so a crash never leaves a partial snapshot behind.
+ */
+public class SnapshotStore {
+
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d{16})\\.bin");
+
+    private final Path directory;
+
+    public SnapshotStore(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    public void write(long baseSegment, List<ClienteDTO> clientes) throws IOException {
+        write(baseSegment, clientes::forEach);
+    }
+
+    /**
+     * Write a snapshot from a stream of rows
+     *
+     * @param rows called once with the action that writes each row
+     * @return number of rows written
+     */
+    public long write(long baseSegment, Consumer<Consumer<ClienteDTO>> rows) throws IOException {
+        Path target = snapshotPath(baseSegment);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long count;
+        try (OutputStream file = Files.newOutputStream(temp);
+             ClienteSnapshotWriter writer = new ClienteSnapshotWriter(file)) {
+            rows.accept(cliente -> {
+                try {
+                    writer.write(cliente);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            count = writer.getCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return count;
+    }
+
+    /**
+     * Base segments of the stored snapshots, newest first
+     */
+    public List<Long> bases() throws IOException {
+        return listSnapshots().stream().sorted(Comparator.reverseOrder()).toList();
+    }
+
+    public ClienteSnapshotReader open(long baseSegment) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(snapshotPath(baseSegment)), 64 * 1024);
+        try {
+            return new ClienteSnapshotReader(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    public void deleteBefore(long baseSegment) throws IOException {
+        for (long base : listSnapshots()) {
+            if (base < baseSegment) {
+                Files.deleteIfExists(snapshotPath(base));
+            }
+        }
+    }
+
+    private Path snapshotPath(long baseSegment) {
+        return directory.resolve(String.format("snapshot-%016d.bin", baseSegment));
+    }
+
+    private List<Long> listSnapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> SNAPSHOT_NAME.matcher(p.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(m -> Long.parseLong(m.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.empleados.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entry of the ciudad dictionary referenced by {@code clientes.ciudad_id}.
+ * Codes are assigned by {@link com.empleados.api.repository.CiudadDictionary}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "ciudades")
+public class Ciudad {
+
+    @Id
+    private Integer id;
+
+    @Column(unique = true, nullable = false)
+    private String nombre;
+}
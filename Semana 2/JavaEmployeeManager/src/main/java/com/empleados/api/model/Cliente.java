@@ -1,24 +1,40 @@
 package com.empleados.api.model;
 
+import com.empleados.api.repository.CiudadConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
-import lombok.AllArgsConstructor;
+import com.empleados.api.util.EmailAddresses;
+import com.empleados.api.util.PhoneNumbers;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entity class representing an employee in the system
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
-@Table(name = "clientes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clientes")
+@Table(name = "clientes", indexes = {
+        @Index(name = "idx_clientes_ciudad_id", columnList = "ciudad_id"),
+        @Index(name = "idx_clientes_telefono_invertido", columnList = "telefono_invertido"),
+        // Filter combinations of the cliente search
+        @Index(name = "idx_clientes_ciudad_apellido", columnList = "ciudad_id, apellido"),
+        @Index(name = "idx_clientes_email_dominio", columnList = "email_dominio"),
+        @Index(name = "idx_clientes_apellido", columnList = "apellido"),
+        @Index(name = "idx_clientes_nombre", columnList = "nombre")
+})
 public class Cliente {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientes_seq")
+    @SequenceGenerator(name = "clientes_seq", sequenceName = "clientes_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "El nombre es obligatorio")
@@ -34,10 +50,58 @@ public class Cliente {
     @Column(unique = true, nullable = false)
     private String email;
 
+    /**
+     * Lower case domain of the email, so a search by domain is an equality lookup of
+     * {@code idx_clientes_email_dominio}. Derived, never set directly
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "email_dominio")
+    private String emailDominio;
+
+    /**
+     * Only the digits of the number, see {@link #setTelefono(String)}
+     */
     @NotBlank(message = "El teléfono es obligatorio")
     private String telefono;
 
+    /**
+     * Digits of the telefono in reverse order, so a search by the last digits is a prefix
+     * range scan of {@code idx_clientes_telefono_invertido}. Derived, never set directly
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "telefono_invertido")
+    private String telefonoInvertido;
+
+    /**
+     * Stored as a code of the ciudades dictionary
+     */
     @NotBlank(message = "La ciudad es obligatoria")
+    @Convert(converter = CiudadConverter.class)
+    @Column(name = "ciudad_id")
     private String ciudad;
-    
+
+    public Cliente(Long id, String nombre, String apellido, String email, String telefono, String ciudad) {
+        this.id = id;
+        this.nombre = nombre;
+        this.apellido = apellido;
+        this.ciudad = ciudad;
+        setEmail(email);
+        setTelefono(telefono);
+    }
+
+    /**
+     * Set the email and keep its domain in step
+     */
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailDominio = EmailAddresses.domain(email);
+    }
+
+    /**
+     * Store only the digits of the number and keep the reversed copy in step
+     */
+    public void setTelefono(String telefono) {
+        this.telefono = PhoneNumbers.digits(telefono);
+        this.telefonoInvertido = PhoneNumbers.reversed(this.telefono);
+    }
 }
@@ -0,0 +1,272 @@
+package com.empleados.api.replica;
+
+import com.empleados.api.dto.ClienteDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented copy of the clientes table.
+ * <p>
+ * Rows are kept sorted by id in a {@code long[]}, ciudad is stored as an {@code int} code into
+ * a dictionary and the remaining text columns are packed UTF-8 ({@link StringColumn}). Lookups
+ * by id are binary searches, filters and counts are loops over primitive arrays, and no
+ * object is allocated per row until a result is materialized. Deleted rows are tombstoned and
+ * removed, together with the garbage of replaced strings, by {@link #compactIfNeeded()}.
+ * <p>
+ * Not thread-safe; {@link ClienteReadReplica} guards access.
+ */
+public class ClienteColumnStore {
+
+    private static final int DELETED = -1;
+    private static final int NULL_CIUDAD = -2;
+    private static final int AVERAGE_ROW_BYTES = 64;
+
+    private final boolean offHeap;
+    private final List<String> ciudades = new ArrayList<>();
+    private final Map<String, Integer> ciudadCodes = new HashMap<>();
+
+    private long[] ids;
+    private int[] ciudadColumn;
+    private StringColumn nombres;
+    private StringColumn apellidos;
+    private StringColumn emails;
+    private StringColumn telefonos;
+    private int size;
+    private int deleted;
+
+    public ClienteColumnStore(int initialRows, boolean offHeap) {
+        this.offHeap = offHeap;
+        allocate(Math.max(initialRows, 16));
+    }
+
+    /**
+     * Insert the row, or replace it when the id already exists
+     */
+    public void upsert(ClienteDTO cliente) {
+        long id = cliente.getId();
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0) {
+            row = -row - 1;
+            insertRow(row, id);
+        } else if (ciudadColumn[row] == DELETED) {
+            deleted--;
+        }
+        ciudadColumn[row] = code(cliente.getCiudad());
+        nombres.set(row, cliente.getNombre());
+        apellidos.set(row, cliente.getApellido());
+        emails.set(row, cliente.getEmail());
+        telefonos.set(row, cliente.getTelefono());
+    }
+
+    public boolean delete(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0 || ciudadColumn[row] == DELETED) {
+            return false;
+        }
+        tombstone(row);
+        return true;
+    }
+
+    public int deleteByCiudad(String ciudad) {
+        Integer code = ciudadCodes.get(ciudad);
+        if (code == null) {
+            return 0;
+        }
+        int affected = 0;
+        for (int row = 0; row < size; row++) {
+            if (ciudadColumn[row] == code) {
+                tombstone(row);
+                affected++;
+            }
+        }
+        return affected;
+    }
+
+    public int reassignCiudad(String ciudad, String nuevaCiudad) {
+        Integer from = ciudadCodes.get(ciudad);
+        if (from == null) {
+            return 0;
+        }
+        int to = code(nuevaCiudad);
+        int affected = 0;
+        for (int row = 0; row < size; row++) {
+            if (ciudadColumn[row] == from) {
+                ciudadColumn[row] = to;
+                affected++;
+            }
+        }
+        return affected;
+    }
+
+    public ClienteDTO findById(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        return row < 0 || ciudadColumn[row] == DELETED ? null : materialize(row);
+    }
+
+    /**
+     * Every live row in id order
+     */
+    public List<ClienteDTO> findAll() {
+        List<ClienteDTO> result = new ArrayList<>(size - deleted);
+        for (int row = 0; row < size; row++) {
+            if (ciudadColumn[row] != DELETED) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    public List<ClienteDTO> findByCiudad(String ciudad) {
+        Integer code = ciudadCodes.get(ciudad);
+        if (code == null) {
+            return new ArrayList<>();
+        }
+        List<ClienteDTO> result = new ArrayList<>();
+        int[] column = ciudadColumn;
+        for (int row = 0; row < size; row++) {
+            if (column[row] == code) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    public long count() {
+        return size - deleted;
+    }
+
+    /**
+     * Number of live rows per ciudad, most populated first; a null ciudad is not counted
+     */
+    public Map<String, Long> countByCiudad() {
+        int[] counts = new int[ciudades.size()];
+        int[] column = ciudadColumn;
+        for (int row = 0; row < size; row++) {
+            int code = column[row];
+            if (code >= 0) {
+                counts[code]++;
+            }
+        }
+        Integer[] order = new Integer[counts.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> counts[b] != counts[a] ? Integer.compare(counts[b], counts[a])
+                : ciudades.get(a).compareTo(ciudades.get(b)));
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int code : order) {
+            if (counts[code] > 0) {
+                result.put(ciudades.get(code), (long) counts[code]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Approximate memory held by the columns, in bytes
+     */
+    public long allocatedBytes() {
+        return 12L * ids.length + nombres.allocatedBytes() + apellidos.allocatedBytes()
+                + emails.allocatedBytes() + telefonos.allocatedBytes();
+    }
+
+    public void clear() {
+        ciudades.clear();
+        ciudadCodes.clear();
+        allocate(16);
+    }
+
+    /**
+     * Rebuild the columns without tombstones and replaced strings once they make up a
+     * quarter of the rows or half of the string bytes
+     */
+    public void compactIfNeeded() {
+        long used = nombres.usedBytes() + apellidos.usedBytes() + emails.usedBytes() + telefonos.usedBytes();
+        long garbage = nombres.garbageBytes() + apellidos.garbageBytes()
+                + emails.garbageBytes() + telefonos.garbageBytes();
+        if (deleted * 4 <= size && garbage * 2 <= used) {
+            return;
+        }
+        List<ClienteDTO> live = findAll();
+        ciudades.clear();
+        ciudadCodes.clear();
+        allocate(Math.max(live.size() + (live.size() >> 2), 16));
+        for (ClienteDTO cliente : live) {
+            // Rows come back in id order, so every insert is an append
+            upsert(cliente);
+        }
+    }
+
+    private ClienteDTO materialize(int row) {
+        int code = ciudadColumn[row];
+        return new ClienteDTO(ids[row], nombres.get(row), apellidos.get(row), emails.get(row),
+                telefonos.get(row), code == NULL_CIUDAD ? null : ciudades.get(code));
+    }
+
+    private void tombstone(int row) {
+        ciudadColumn[row] = DELETED;
+        nombres.set(row, null);
+        apellidos.set(row, null);
+        emails.set(row, null);
+        telefonos.set(row, null);
+        deleted++;
+    }
+
+    private int code(String ciudad) {
+        if (ciudad == null) {
+            return NULL_CIUDAD;
+        }
+        Integer code = ciudadCodes.get(ciudad);
+        if (code == null) {
+            code = ciudades.size();
+            ciudades.add(ciudad);
+            ciudadCodes.put(ciudad, code);
+        }
+        return code;
+    }
+
+    /**
+     * Make room for a new id at {@code row}; ids normally grow, so this is usually an append
+     */
+    private void insertRow(int row, long id) {
+        ensureRows(size + 1);
+        if (row < size) {
+            System.arraycopy(ids, row, ids, row + 1, size - row);
+            System.arraycopy(ciudadColumn, row, ciudadColumn, row + 1, size - row);
+            nombres.insertRow(row, size);
+            apellidos.insertRow(row, size);
+            emails.insertRow(row, size);
+            telefonos.insertRow(row, size);
+        }
+        ids[row] = id;
+        size++;
+    }
+
+    private void ensureRows(int rows) {
+        if (rows > ids.length) {
+            int capacity = Math.max(rows, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            ciudadColumn = Arrays.copyOf(ciudadColumn, capacity);
+        }
+        nombres.ensureRows(ids.length);
+        apellidos.ensureRows(ids.length);
+        emails.ensureRows(ids.length);
+        telefonos.ensureRows(ids.length);
+    }
+
+    private void allocate(int rows) {
+        ids = new long[rows];
+        ciudadColumn = new int[rows];
+        nombres = new StringColumn(rows, rows * AVERAGE_ROW_BYTES / 4, offHeap);
+        apellidos = new StringColumn(rows, rows * AVERAGE_ROW_BYTES / 4, offHeap);
+        emails = new StringColumn(rows, rows * AVERAGE_ROW_BYTES / 4, offHeap);
+        telefonos = new StringColumn(rows, rows * AVERAGE_ROW_BYTES / 4, offHeap);
+        size = 0;
+        deleted = 0;
+    }
+}
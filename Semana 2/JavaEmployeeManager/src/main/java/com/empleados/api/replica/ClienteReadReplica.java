@@ -0,0 +1,125 @@
+package com.empleados.api.replica;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.event.ClienteChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory, read-optimized copy of the clients table backed by a {@link ClienteColumnStore}.
+ * <p>
+ * The replica only answers queries once it has been loaded; until then, or when no
+ * {@link ReplicaSynchronizer} keeps it up to date, {@link #isReady()} is false and callers
+ * must go to the database.
+ */
+@Component
+public class ClienteReadReplica {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ClienteColumnStore store = new ClienteColumnStore(16, false);
+    private boolean offHeap;
+    private volatile boolean ready;
+
+    @Value("${clientes.replica.off-heap:false}")
+    public void setOffHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replace the contents with the rows handed to {@code source} and start serving reads.
+     * Changes applied concurrently wait for the load and are re-applied on top of it.
+     */
+    public void load(int expectedRows, Consumer<Consumer<ClienteDTO>> source) {
+        lock.writeLock().lock();
+        try {
+            ClienteColumnStore loaded = new ClienteColumnStore(expectedRows, offHeap);
+            source.accept(loaded::upsert);
+            store = loaded;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply the changes of one committed transaction
+     */
+    public void apply(List<ClienteChangeEvent> changes) {
+        lock.writeLock().lock();
+        try {
+            for (ClienteChangeEvent change : changes) {
+                switch (change.type()) {
+                    case UPSERT -> store.upsert(change.cliente());
+                    case DELETE -> store.delete(change.id());
+                    case REASSIGN_CIUDAD -> store.reassignCiudad(change.ciudad(), change.nuevaCiudad());
+                    case DELETE_CIUDAD -> store.deleteByCiudad(change.ciudad());
+                }
+            }
+            store.compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stop serving reads, e.g. after a change could not be applied
+     */
+    public void invalidate() {
+        ready = false;
+    }
+
+    public List<ClienteDTO> findAll() {
+        lock.readLock().lock();
+        try {
+            return store.findAll();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ClienteDTO> findByCiudad(String ciudad) {
+        lock.readLock().lock();
+        try {
+            return store.findByCiudad(ciudad);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return store.count();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Long> countByCiudad() {
+        lock.readLock().lock();
+        try {
+            return store.countByCiudad();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long allocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return store.allocatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.empleados.api.replica;
+
+import com.empleados.api.event.ClienteChangeEvent;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the {@link ClienteReadReplica} in step with committed writes.
+ * <p>
+ * Each transaction gets a sequence number right before it commits, after its changes have
+ * been flushed and its row locks taken, so conflicting transactions are numbered in commit
+ * order. Committed changes are applied strictly in that order; rolled back transactions
+ * only release their number. The writing thread waits until its own changes are visible in
+ * the replica, so a client always reads its own writes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "clientes.replica.enabled", havingValue = "true", matchIfMissing = true)
+public class ReplicaSynchronizer {
+
+    private final ClienteReadReplica replica;
+    private final ClienteJdbcWriter jdbcWriter;
+    private final EntityManager entityManager;
+
+    // Sequence numbers handed out and the committed changes waiting for their turn
+    private final Map<Long, List<ClienteChangeEvent>> pending = new HashMap<>();
+    private long nextSequence;
+    private long nextToApply;
+    private Duration applyTimeout = Duration.ofSeconds(5);
+
+    @Autowired
+    public ReplicaSynchronizer(ClienteReadReplica replica, ClienteJdbcWriter jdbcWriter, EntityManager entityManager) {
+        this.replica = replica;
+        this.jdbcWriter = jdbcWriter;
+        this.entityManager = entityManager;
+    }
+
+    @Value("${clientes.replica.apply-timeout:PT5S}")
+    public void setApplyTimeout(Duration applyTimeout) {
+        this.applyTimeout = applyTimeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void loadReplica() {
+        long started = System.nanoTime();
+        replica.load((int) Math.min(jdbcWriter.count() + 1024, Integer.MAX_VALUE - 8), jdbcWriter::forEach);
+        log.info("Réplica de lectura cargada: {} clientes, {} KB en {} ms", replica.count(),
+                replica.allocatedBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @EventListener
+    public void onChange(ClienteChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            long sequence = nextSequence();
+            deliver(sequence, List.of(event));
+            return;
+        }
+        PendingTransaction transaction = (PendingTransaction) TransactionSynchronizationManager.getResource(this);
+        if (transaction == null) {
+            transaction = new PendingTransaction();
+            TransactionSynchronizationManager.bindResource(this, transaction);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        transaction.changes.add(event);
+    }
+
+    private synchronized long nextSequence() {
+        return nextSequence++;
+    }
+
+    /**
+     * Hand over the outcome of a numbered transaction, null when it rolled back, apply every
+     * change whose turn has come and wait until {@code sequence} itself has been applied
+     */
+    private synchronized void deliver(long sequence, List<ClienteChangeEvent> changes) {
+        pending.put(sequence, changes);
+        while (pending.containsKey(nextToApply)) {
+            List<ClienteChangeEvent> next = pending.remove(nextToApply);
+            if (next != null) {
+                applySafely(next);
+            }
+            nextToApply++;
+        }
+        notifyAll();
+        if (changes == null) {
+            return;
+        }
+        long deadline = System.nanoTime() + applyTimeout.toNanos();
+        while (nextToApply <= sequence) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                log.warn("Tiempo de espera agotado aplicando la transacción {} a la réplica de lectura", sequence);
+                return;
+            }
+            try {
+                wait(remaining / 1_000_000 + 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void applySafely(List<ClienteChangeEvent> changes) {
+        try {
+            replica.apply(changes);
+        } catch (RuntimeException e) {
+            // A replica that missed a change would serve stale data; reads go back to the database
+            log.error("No se pudo aplicar un cambio a la réplica de lectura, se desactiva", e);
+            replica.invalidate();
+        }
+    }
+
+    /**
+     * Changes of one transaction waiting for its outcome
+     */
+    private class PendingTransaction implements TransactionSynchronization {
+
+        private final List<ClienteChangeEvent> changes = new ArrayList<>();
+        private long sequence = -1;
+        private boolean delivered;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                entityManager.flush();
+            } catch (PersistenceException e) {
+                DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+                throw translated != null ? translated : e;
+            }
+            sequence = nextSequence();
+        }
+
+        @Override
+        public void afterCommit() {
+            delivered = true;
+            deliver(sequence, changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaSynchronizer.this);
+            if (sequence >= 0 && !delivered) {
+                deliver(sequence, null);
+            }
+        }
+    }
+}
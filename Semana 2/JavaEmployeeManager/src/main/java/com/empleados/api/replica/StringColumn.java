@@ -0,0 +1,104 @@
+package com.empleados.api.replica;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Column of strings packed as UTF-8 into one growable buffer, addressed by per-row offset
+ * and length arrays. A replaced value leaves its old bytes behind as garbage until the
+ * owning store rebuilds itself.
+ */
+final class StringColumn {
+
+    private static final int NULL_LENGTH = -1;
+
+    private final boolean offHeap;
+    private ByteBuffer data;
+    private int[] offsets;
+    private int[] lengths;
+    private int used;
+    private long garbage;
+
+    StringColumn(int rows, int bytes, boolean offHeap) {
+        this.offHeap = offHeap;
+        this.data = allocate(Math.max(bytes, 1024));
+        this.offsets = new int[rows];
+        this.lengths = new int[rows];
+    }
+
+    void set(int row, String value) {
+        if (lengths[row] > 0) {
+            garbage += lengths[row];
+        }
+        if (value == null) {
+            lengths[row] = NULL_LENGTH;
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureBytes(bytes.length);
+        data.put(used, bytes);
+        offsets[row] = used;
+        lengths[row] = bytes.length;
+        used += bytes.length;
+    }
+
+    String get(int row) {
+        int length = lengths[row];
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (data.hasArray()) {
+            return new String(data.array(), data.arrayOffset() + offsets[row], length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        data.get(offsets[row], bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Open a slot at {@code row}, moving the rows from there up to {@code size} one position up
+     */
+    void insertRow(int row, int size) {
+        System.arraycopy(offsets, row, offsets, row + 1, size - row);
+        System.arraycopy(lengths, row, lengths, row + 1, size - row);
+        lengths[row] = 0;
+    }
+
+    void ensureRows(int rows) {
+        if (rows > offsets.length) {
+            int capacity = Math.max(rows, offsets.length + (offsets.length >> 1));
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+    }
+
+    long usedBytes() {
+        return used;
+    }
+
+    long garbageBytes() {
+        return garbage;
+    }
+
+    long allocatedBytes() {
+        return data.capacity() + 8L * offsets.length;
+    }
+
+    private void ensureBytes(int extra) {
+        if (data.capacity() - used >= extra) {
+            return;
+        }
+        long wanted = Math.max((long) used + extra, data.capacity() + (data.capacity() >> 1));
+        if (wanted > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("La columna supera el tamaño máximo de un buffer");
+        }
+        ByteBuffer larger = allocate((int) wanted);
+        larger.put(0, data, 0, used);
+        data = larger;
+    }
+
+    private ByteBuffer allocate(int bytes) {
+        return offHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+    }
+}
@@ -0,0 +1,42 @@
+package com.empleados.api.repository;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Stores a ciudad name as its {@link CiudadDictionary} code. Query parameters compared
+ * with the attribute are converted too, so filters and group-bys run on the integer column.
+ * <p>
+ * Conversion never registers a ciudad: a name missing from the dictionary becomes
+ * {@link #UNKNOWN}, which matches no row when compared in a query and violates the foreign
+ * key when written. The write paths register new ciudades explicitly with
+ * {@link CiudadDictionary#codeFor(String)} before saving.
+ */
+@Converter
+public class CiudadConverter implements AttributeConverter<String, Integer> {
+
+    /** Code of a ciudad missing from the dictionary; no row of ciudades has it */
+    public static final int UNKNOWN = -1;
+
+    private final CiudadDictionary dictionary;
+
+    @Autowired
+    public CiudadConverter(CiudadDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String ciudad) {
+        if (ciudad == null) {
+            return null;
+        }
+        Integer code = dictionary.find(ciudad);
+        return code != null ? code : UNKNOWN;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer code) {
+        return dictionary.nameOf(code);
+    }
+}
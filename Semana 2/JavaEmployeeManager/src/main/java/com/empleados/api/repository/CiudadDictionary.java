@@ -0,0 +1,161 @@
+package com.empleados.api.repository;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory, two-way map between ciudad names and the integer codes stored in
+ * {@code clientes.ciudad_id}, backed by the {@code ciudades} reference table.
+ * <p>
+ * The table is read once, when first needed or at the latest at startup; afterwards
+ * lookups never touch the database. A new name gets the next code and is inserted on its
+ * own auto-committed connection, so a code handed out is never rolled back together with
+ * the transaction that happened to introduce it.
+ */
+@Repository
+public class CiudadDictionary implements SmartInitializingSingleton {
+
+    private final DataSource dataSource;
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[0];
+    private volatile boolean loaded;
+
+    @Autowired
+    public CiudadDictionary(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Load the dictionary and make sure {@code clientes.ciudad_id} references it. Runs after
+     * the schema has been created by the entity manager factory.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        ensureLoaded();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE clientes ADD CONSTRAINT IF NOT EXISTS fk_clientes_ciudad "
+                    + "FOREIGN KEY (ciudad_id) REFERENCES ciudades (id)");
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("No se pudo crear la referencia a ciudades", e);
+        }
+    }
+
+    /**
+     * Code of the given ciudad, registering it when it is new
+     *
+     * @return the code, null for a null name
+     */
+    public Integer codeFor(String nombre) {
+        if (nombre == null) {
+            return null;
+        }
+        Integer code = find(nombre);
+        return code != null ? code : register(nombre);
+    }
+
+    /**
+     * Code of the given ciudad without registering it
+     *
+     * @return the code, null when the ciudad is unknown
+     */
+    public Integer find(String nombre) {
+        ensureLoaded();
+        return nombre == null ? null : codes.get(nombre);
+    }
+
+    /**
+     * Name of the ciudad with the given code
+     */
+    public String nameOf(Integer code) {
+        if (code == null) {
+            return null;
+        }
+        String[] current = names;
+        if (code < current.length && current[code] != null) {
+            return current[code];
+        }
+        // Not loaded yet, or added to the table by someone else
+        reload();
+        current = names;
+        if (code >= current.length || current[code] == null) {
+            throw new IllegalStateException("Código de ciudad desconocido: " + code);
+        }
+        return current[code];
+    }
+
+    public int size() {
+        ensureLoaded();
+        return codes.size();
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    private synchronized void reload() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, nombre FROM ciudades")) {
+            String[] loadedNames = names.clone();
+            while (rs.next()) {
+                int code = rs.getInt(1);
+                if (code >= loadedNames.length) {
+                    loadedNames = Arrays.copyOf(loadedNames, Math.max(code + 1, loadedNames.length * 2));
+                }
+                loadedNames[code] = rs.getString(2);
+                codes.put(loadedNames[code], code);
+            }
+            names = loadedNames;
+            loaded = true;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("No se pudo cargar el diccionario de ciudades", e);
+        }
+    }
+
+    private synchronized Integer register(String nombre) {
+        Integer code = codes.get(nombre);
+        if (code != null) {
+            return code;
+        }
+        code = nextCode();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("INSERT INTO ciudades (id, nombre) VALUES (?, ?)")) {
+            ps.setInt(1, code);
+            ps.setString(2, nombre);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("No se pudo registrar la ciudad: " + nombre, e);
+        }
+        String[] grown = names;
+        if (code >= grown.length) {
+            grown = Arrays.copyOf(grown, Math.max(code + 1, grown.length * 2));
+        }
+        grown[code] = nombre;
+        names = grown;
+        codes.put(nombre, code);
+        return code;
+    }
+
+    private int nextCode() {
+        // Code 0 is never used, so a zero read from a nullable column cannot be mistaken for a ciudad
+        int last = names.length - 1;
+        while (last > 0 && names[last] == null) {
+            last--;
+        }
+        return Math.max(last, 0) + 1;
+    }
+}
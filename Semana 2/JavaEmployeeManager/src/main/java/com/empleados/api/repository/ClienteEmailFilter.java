@@ -0,0 +1,384 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.model.Cliente;
+import com.empleados.api.util.CountingBloomFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PreInsertEvent;
+import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.event.spi.PreUpdateEvent;
+import org.hibernate.event.spi.PreUpdateEventListener;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counting Bloom filter over the emails of all clients, used to answer "is this email taken?"
+ * without a query when the answer is certainly no.
+ * <p>
+ * The filter is rebuilt from the table at startup and follows every insert, update and
+ * delete made through Hibernate: an email is added before its row is written and removed
+ * only after the change that frees it has committed, so the filter never misses an email
+ * that is in the table. Set-based JPQL deletes do not report which emails they freed; they
+ * are counted as stale entries, which only cause false positives, and the filter is rebuilt
+ * in the background once they pile up.
+ * <p>
+ * Until the first build has finished, or when {@code clientes.email-filter.enabled} is
+ * false, {@link #definitelyAbsent(String)} is always false and callers go to the database.
+ */
+@Slf4j
+@Component
+public class ClienteEmailFilter implements MeterBinder, PreInsertEventListener, PreUpdateEventListener,
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final ClienteJdbcWriter jdbcWriter;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "email-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private double staleRatio = 0.25;
+
+    // Emails written by transactions that have not completed yet, with their multiplicity
+    private final ConcurrentHashMap<String, Integer> pending = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder positives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile CountingBloomFilter filter;
+    private volatile long capacity;
+    private CountingBloomFilter next;
+    private volatile boolean ready;
+
+    @Autowired
+    public ClienteEmailFilter(ClienteJdbcWriter jdbcWriter, EntityManagerFactory entityManagerFactory) {
+        this.jdbcWriter = jdbcWriter;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Value("${clientes.email-filter.enabled:true}")
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Value("${clientes.email-filter.expected-insertions:1000000}")
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    @Value("${clientes.email-filter.false-positive-rate:0.01}")
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Value("${clientes.email-filter.stale-ratio:0.25}")
+    public void setStaleRatio(double staleRatio) {
+        this.staleRatio = staleRatio;
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        if (!enabled) {
+            return;
+        }
+        filter = CountingBloomFilter.create(expectedInsertions, falsePositiveRate);
+        capacity = expectedInsertions;
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.PRE_INSERT, this);
+        registry.appendListeners(EventType.PRE_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void build() {
+        if (enabled) {
+            rebuild();
+            ready = true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * True only when no client can own the email; false means "maybe", confirm in the database
+     */
+    public boolean definitelyAbsent(String email) {
+        if (!ready) {
+            return false;
+        }
+        if (filter.mightContain(email)) {
+            positives.increment();
+            return false;
+        }
+        negatives.increment();
+        return true;
+    }
+
+    /**
+     * Report that the database did not confirm a "maybe" answer
+     */
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Report rows deleted without going through the persistence context; their emails stay
+     * in the filter until the next rebuild
+     */
+    public void recordUntrackedDeletes(int rows) {
+        if (!ready || rows <= 0) {
+            return;
+        }
+        if (stale.addAndGet(rows) > Math.max(1_000, entries.get() * staleRatio)) {
+            scheduleRebuild();
+        }
+    }
+
+    public long getNegatives() {
+        return negatives.sum();
+    }
+
+    public long getPositives() {
+        return positives.sum();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("clientes.email.filter.checks", this, ClienteEmailFilter::getNegatives)
+                .tag("result", "negative")
+                .description("Comprobaciones de email resueltas sin consultar la base de datos")
+                .register(registry);
+        FunctionCounter.builder("clientes.email.filter.checks", this, ClienteEmailFilter::getPositives)
+                .tag("result", "positive")
+                .description("Comprobaciones de email que requieren confirmación en la base de datos")
+                .register(registry);
+        FunctionCounter.builder("clientes.email.filter.false-positives", this, ClienteEmailFilter::getFalsePositives)
+                .register(registry);
+        Gauge.builder("clientes.email.filter.entries", entries, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * Build a new filter from the table and swap it in. Writes that are in flight when the
+     * build starts, and every write after that, are added to both filters, so the new one
+     * misses nothing that commits while the table is being read.
+     */
+    public void rebuild() {
+        long started = System.nanoTime();
+        long size = Math.max(expectedInsertions, entries.get() * 2);
+        CountingBloomFilter fresh = CountingBloomFilter.create(size, falsePositiveRate);
+        synchronized (lock) {
+            pending.forEach((email, times) -> {
+                for (int i = 0; i < times; i++) {
+                    fresh.add(email);
+                }
+            });
+            next = fresh;
+        }
+        AtomicLong scanned = new AtomicLong();
+        try {
+            jdbcWriter.forEachEmail(email -> {
+                fresh.add(email);
+                scanned.incrementAndGet();
+            });
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                next = null;
+            }
+            throw e;
+        }
+        synchronized (lock) {
+            filter = fresh;
+            capacity = size;
+            next = null;
+            entries.set(scanned.get());
+            stale.set(0);
+        }
+        log.info("Filtro de emails reconstruido: {} emails, {} KB en {} ms", scanned.get(),
+                fresh.sizeInBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public boolean onPreInsert(PreInsertEvent event) {
+        if (event.getEntity() instanceof Cliente cliente) {
+            add(cliente.getEmail());
+        }
+        return false;
+    }
+
+    @Override
+    public boolean onPreUpdate(PreUpdateEvent event) {
+        if (event.getEntity() instanceof Cliente cliente) {
+            String previous = email(event.getPersister(), event.getOldState());
+            if (!Objects.equals(previous, cliente.getEmail())) {
+                add(cliente.getEmail());
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Cliente cliente) {
+            unpend(cliente.getEmail());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        if (event.getEntity() instanceof Cliente cliente) {
+            unpend(cliente.getEmail());
+            remove(cliente.getEmail());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Cliente cliente) {
+            String previous = email(event.getPersister(), event.getOldState());
+            if (!Objects.equals(previous, cliente.getEmail())) {
+                unpend(cliente.getEmail());
+                remove(previous);
+            }
+        }
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Cliente cliente) {
+            String previous = email(event.getPersister(), event.getOldState());
+            if (!Objects.equals(previous, cliente.getEmail())) {
+                unpend(cliente.getEmail());
+                remove(cliente.getEmail());
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Cliente cliente) {
+            remove(email(event.getPersister(), event.getDeletedState()));
+        }
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // The row is still there and so is its email
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.getMappedClass() == Cliente.class;
+    }
+
+    private void add(String email) {
+        if (email == null) {
+            return;
+        }
+        pending.merge(email, 1, Integer::sum);
+        synchronized (lock) {
+            filter.add(email);
+            if (next != null) {
+                next.add(email);
+            }
+        }
+        if (entries.incrementAndGet() > capacity) {
+            // Past the size the filter was built for the false-positive rate climbs fast
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Removals never reach a filter that is being built: the table scan may not have added the
+     * email yet, and removing it there could hide another email sharing its counters
+     */
+    private void remove(String email) {
+        if (email == null) {
+            return;
+        }
+        synchronized (lock) {
+            if (filter.remove(email)) {
+                entries.decrementAndGet();
+            }
+        }
+    }
+
+    private void unpend(String email) {
+        if (email != null) {
+            pending.computeIfPresent(email, (key, times) -> times == 1 ? null : times - 1);
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("No se pudo reconstruir el filtro de emails", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    private static String email(EntityPersister persister, Object[] state) {
+        if (state == null) {
+            return null;
+        }
+        return (String) state[persister.getEntityMetamodel().getPropertyIndex("email")];
+    }
+}
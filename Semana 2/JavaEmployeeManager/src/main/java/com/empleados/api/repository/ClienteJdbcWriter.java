@@ -0,0 +1,271 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.event.ClienteChangeEvent;
+import com.empleados.api.snapshot.ClienteSnapshotReader;
+import com.empleados.api.util.EmailAddresses;
+import com.empleados.api.util.PhoneNumbers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access to the clientes table for bulk loads that must bypass the persistence
+ * context (startup recovery, snapshots). Rows keep their ids; ciudad is translated to and
+ * from its dictionary code, and the columns the entity derives from telefono and email are
+ * filled the same way.
+ */
+@Repository
+public class ClienteJdbcWriter {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int BULK_BATCH_SIZE = 5_000;
+    private static final int BULK_COMMIT_SIZE = 100_000;
+    // Ids stay ahead of every preallocated block of the entity's sequence generator
+    private static final int SEQUENCE_GAP = 100;
+
+    private static final String INSERT =
+            "INSERT INTO clientes (id, nombre, apellido, email, telefono, ciudad_id, telefono_invertido, email_dominio) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT =
+            "MERGE INTO clientes (id, nombre, apellido, email, telefono, ciudad_id, telefono_invertido, email_dominio) "
+            + "KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_ALL =
+            "SELECT id, nombre, apellido, email, telefono, ciudad_id FROM clientes ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CiudadDictionary ciudades;
+
+    @Autowired
+    public ClienteJdbcWriter(JdbcTemplate jdbcTemplate, CiudadDictionary ciudades) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ciudades = ciudades;
+    }
+
+    /**
+     * Insert or replace the given rows in JDBC batches
+     *
+     * @return number of rows written
+     */
+    public int upsertAll(List<ClienteDTO> clientes) {
+        jdbcTemplate.batchUpdate(UPSERT, clientes, BATCH_SIZE, (ps, c) -> bind(ps, c));
+        return clientes.size();
+    }
+
+    /**
+     * Insert every row of a snapshot into an empty table on one connection, in large JDBC
+     * batches committed every {@value #BULK_COMMIT_SIZE} rows. Rows are streamed, so memory
+     * use does not depend on the snapshot size.
+     *
+     * @return number of rows inserted
+     */
+    public long bulkInsert(ClienteSnapshotReader reader) throws IOException {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(INSERT)) {
+                long rows = 0;
+                ClienteDTO cliente;
+                while ((cliente = reader.next()) != null) {
+                    bind(ps, cliente);
+                    ps.addBatch();
+                    rows++;
+                    if (rows % BULK_BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                    }
+                    if (rows % BULK_COMMIT_SIZE == 0) {
+                        connection.commit();
+                    }
+                }
+                ps.executeBatch();
+                connection.commit();
+                return rows;
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw jdbcTemplate.getExceptionTranslator().translate("bulk insert", INSERT, e);
+        }
+    }
+
+    /**
+     * Apply journaled changes in order
+     */
+    public void apply(List<ClienteChangeEvent> changes) {
+        for (ClienteChangeEvent change : changes) {
+            switch (change.type()) {
+                case UPSERT -> upsertAll(List.of(change.cliente()));
+                case DELETE -> jdbcTemplate.update("DELETE FROM clientes WHERE id = ?", change.id());
+                case REASSIGN_CIUDAD -> {
+                    Integer code = ciudades.find(change.ciudad());
+                    if (code != null) {
+                        jdbcTemplate.update("UPDATE clientes SET ciudad_id = ? WHERE ciudad_id = ?",
+                                ciudades.codeFor(change.nuevaCiudad()), code);
+                    }
+                }
+                case DELETE_CIUDAD -> {
+                    Integer code = ciudades.find(change.ciudad());
+                    if (code != null) {
+                        jdbcTemplate.update("DELETE FROM clientes WHERE ciudad_id = ?", code);
+                    }
+                }
+            }
+        }
+    }
+
+    public List<ClienteDTO> findAll() {
+        return jdbcTemplate.query(SELECT_ALL, (rs, i) -> map(rs));
+    }
+
+    /**
+     * Stream every row in id order without materializing the table
+     */
+    public void forEach(Consumer<ClienteDTO> action) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_ALL);
+            ps.setFetchSize(BULK_BATCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(map(rs)));
+    }
+
+    /**
+     * Stream the email of every row, in no particular order
+     */
+    public void forEachEmail(Consumer<String> action) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT email FROM clientes");
+            ps.setFetchSize(BULK_BATCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(rs.getString(1)));
+    }
+
+    /**
+     * Open a read-only view of the table as it is now: rows committed afterwards are not
+     * visible through it. Opening only counts the rows, so callers can open it while holding
+     * writers back and read the rows once they have let them go. The view keeps a connection
+     * until it is closed.
+     */
+    public Snapshot openSnapshot() {
+        Connection connection = null;
+        try {
+            connection = jdbcTemplate.getDataSource().getConnection();
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            // Under repeatable read the first read of a table fixes what the transaction sees of it
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM clientes")) {
+                rs.next();
+                return new Snapshot(connection, rs.getLong(1));
+            }
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw jdbcTemplate.getExceptionTranslator().translate("open snapshot", null, e);
+        }
+    }
+
+    public long count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clientes", Long.class);
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("DELETE FROM clientes");
+    }
+
+    /**
+     * Move the id sequence past the highest id loaded so new clients never collide
+     */
+    public void restartSequence() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM clientes", Long.class);
+        jdbcTemplate.execute("ALTER SEQUENCE clientes_seq RESTART WITH " + (max + SEQUENCE_GAP));
+    }
+
+    private ClienteDTO map(ResultSet rs) throws SQLException {
+        return new ClienteDTO(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                rs.getString(5), ciudades.nameOf(rs.getObject(6, Integer.class)));
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.rollback();
+            connection.close();
+        } catch (SQLException ignored) {
+            // Nothing was written, the connection is discarded either way
+        }
+    }
+
+    private void bind(PreparedStatement ps, ClienteDTO cliente) throws SQLException {
+        ps.setLong(1, cliente.getId());
+        ps.setString(2, cliente.getNombre());
+        ps.setString(3, cliente.getApellido());
+        ps.setString(4, cliente.getEmail());
+        String telefono = PhoneNumbers.digits(cliente.getTelefono());
+        ps.setString(5, telefono);
+        Integer ciudad = ciudades.codeFor(cliente.getCiudad());
+        if (ciudad == null) {
+            ps.setNull(6, Types.INTEGER);
+        } else {
+            ps.setInt(6, ciudad);
+        }
+        ps.setString(7, PhoneNumbers.reversed(telefono));
+        ps.setString(8, EmailAddresses.domain(cliente.getEmail()));
+    }
+
+    /**
+     * Rows of the clientes table as of {@link #openSnapshot()}
+     */
+    public class Snapshot implements AutoCloseable {
+
+        private final Connection connection;
+        private final long size;
+
+        private Snapshot(Connection connection, long size) {
+            this.connection = connection;
+            this.size = size;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        /**
+         * Stream every row of the view in id order
+         */
+        public void forEach(Consumer<ClienteDTO> action) {
+            try (PreparedStatement ps = connection.prepareStatement(SELECT_ALL)) {
+                ps.setFetchSize(BULK_BATCH_SIZE);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        action.accept(map(rs));
+                    }
+                }
+            } catch (SQLException e) {
+                throw jdbcTemplate.getExceptionTranslator().translate("snapshot", SELECT_ALL, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            closeQuietly(connection);
+        }
+    }
+}
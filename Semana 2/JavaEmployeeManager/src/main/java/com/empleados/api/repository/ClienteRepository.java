@@ -1,25 +1,131 @@
 package com.empleados.api.repository;
 
+import com.empleados.api.dto.ClienteDTO;
 import com.empleados.api.model.Cliente;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Empleado entity to handle database operations
  */
 @Repository
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+public interface ClienteRepository extends JpaRepository<Cliente, Long>, ClienteSearchRepository {
+
+    /**
+     * Constructor expression shared by the projected reads: rows become DTOs directly,
+     * no managed entity, snapshot or persistence context entry is created
+     */
+    String DTO_SELECT = "select new com.empleados.api.dto.ClienteDTO("
+            + "c.id, c.nombre, c.apellido, c.email, c.telefono, c.ciudad) from Cliente c";
+
+    /**
+     * Find all employees as DTOs, ordered by ID
+     * 
+     * @return every employee
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(DTO_SELECT + " order by c.id")
+    List<ClienteDTO> findAllProjected();
+
+    /**
+     * Stream all employees as DTOs, ordered by ID, fetching rows from the cursor in chunks.
+     * Must be consumed, and closed, inside a transaction
+     * 
+     * @return every employee
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    @Query(DTO_SELECT + " order by c.id")
+    Stream<ClienteDTO> streamAllProjected();
+
+    /**
+     * Stream the employees of a department as DTOs, ordered by ID. Must be consumed, and
+     * closed, inside a transaction
+     * 
+     * @param ciudad the department to search for
+     * @return the employees in the specified department
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    @Query(DTO_SELECT + " where c.ciudad = :ciudad order by c.id")
+    Stream<ClienteDTO> streamProjectedByCiudad(@Param("ciudad") String ciudad);
+
+    /**
+     * Find employees by department as DTOs, ordered by ID
+     * 
+     * @param ciudad the department to search for
+     * @return a list of employees in the specified department
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "clientes-por-ciudad")
+    })
+    @Query(DTO_SELECT + " where c.ciudad = :ciudad order by c.id")
+    List<ClienteDTO> findProjectedByCiudad(@Param("ciudad") String ciudad);
     
+    /**
+     * Find employees whose reversed telefono lies in [desde, hasta), ordered by it: a range
+     * scan of idx_clientes_telefono_invertido
+     * 
+     * @param desde the reversed digits searched for
+     * @param hasta the exclusive upper bound of the prefix
+     * @param pageable the maximum number of rows
+     * @return the matching employees
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(DTO_SELECT + " where c.telefonoInvertido >= :desde and c.telefonoInvertido < :hasta"
+            + " order by c.telefonoInvertido, c.id")
+    List<ClienteDTO> findProjectedByTelefonoInvertidoRange(@Param("desde") String desde,
+                                                           @Param("hasta") String hasta, Pageable pageable);
+
     /**
      * Find an employee by email
      * 
      * @param email the email to search for
      * @return an Optional containing the employee if found
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "clientes-por-email")
+    })
     Optional<Cliente> findByEmail(String email);
+
+    /**
+     * Check whether an employee owns the given email
+     * 
+     * @param email the email to search for
+     * @return true if the email is taken
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Find all employees whose email is in the given collection
+     * 
+     * @param emails the emails to search for
+     * @return the employees owning any of the emails
+     */
+    List<Cliente> findByEmailIn(Collection<String> emails);
     
     /**
      * Find employees by department
@@ -27,5 +133,39 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
      * @param departamento the department to search for
      * @return a list of employees in the specified department
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "clientes-por-ciudad")
+    })
     List<Cliente> findByCiudad(String ciudad);
+
+    /**
+     * Move every employee of a city to another city with a single UPDATE
+     * 
+     * @param ciudad the current city
+     * @param nuevaCiudad the city to move the employees to
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Cliente c set c.ciudad = :nuevaCiudad where c.ciudad = :ciudad")
+    int bulkReassignCiudad(@Param("ciudad") String ciudad, @Param("nuevaCiudad") String nuevaCiudad);
+
+    /**
+     * Delete every employee of a city with a single DELETE
+     * 
+     * @param ciudad the city
+     * @return the number of deleted rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Cliente c where c.ciudad = :ciudad")
+    int bulkDeleteByCiudad(@Param("ciudad") String ciudad);
+
+    /**
+     * Count the employees of every city, most populated city first
+     * 
+     * @return rows of [city, count]; employees without a city are not counted
+     */
+    @Query("select c.ciudad, count(c) from Cliente c where c.ciudad is not null "
+            + "group by c.ciudad order by count(c) desc, c.ciudad")
+    List<Object[]> countGroupByCiudad();
 }
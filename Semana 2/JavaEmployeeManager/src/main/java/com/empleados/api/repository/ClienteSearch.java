@@ -0,0 +1,54 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.dto.ClienteDTO;
+
+/**
+ * Criteria of a cliente search; null criteria do not filter. Every combination of present
+ * criteria, sort and direction is a query shape, translated once and reused.
+ *
+ * @param ciudad         exact ciudad
+ * @param emailDominio   domain of the email, lower case, without the {@code @}
+ * @param nombrePrefix   case-sensitive start of the nombre
+ * @param apellidoPrefix case-sensitive start of the apellido
+ * @param idDesde        lowest id, inclusive
+ * @param idHasta        highest id, inclusive
+ * @param after          position of the last row of the previous page, or null for the first page
+ */
+public record ClienteSearch(String ciudad, String emailDominio, String nombrePrefix, String apellidoPrefix,
+                            Long idDesde, Long idHasta, SortField sort, boolean descending, Keyset after) {
+
+    /**
+     * Columns the results can be sorted by; the id always breaks ties, so the order is total
+     */
+    public enum SortField {
+        ID("id"), NOMBRE("nombre"), APELLIDO("apellido"), EMAIL("email");
+
+        private final String attribute;
+
+        SortField(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        /**
+         * @return the sort value of the row, null when sorting by id
+         */
+        public String valueOf(ClienteDTO cliente) {
+            return switch (this) {
+                case ID -> null;
+                case NOMBRE -> cliente.getNombre();
+                case APELLIDO -> cliente.getApellido();
+                case EMAIL -> cliente.getEmail();
+            };
+        }
+    }
+
+    /**
+     * Sort value and id of a row; the value is null when sorting by id
+     */
+    public record Keyset(String value, long id) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.dto.ClienteDTO;
+
+import java.util.List;
+
+/**
+ * Multi-criteria search of employees, mixed into {@link ClienteRepository}
+ */
+public interface ClienteSearchRepository {
+
+    /**
+     * Find the employees matching every present criterion of the search, as DTOs, in the
+     * requested order and after its keyset position
+     * 
+     * @param search the criteria, sort and position
+     * @param limit the maximum number of employees returned
+     * @return the matching employees
+     */
+    List<ClienteDTO> search(ClienteSearch search, int limit);
+}
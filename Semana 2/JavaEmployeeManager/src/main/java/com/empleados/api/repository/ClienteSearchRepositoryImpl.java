@@ -0,0 +1,143 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.dto.ClienteDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds a single JPQL query from the criteria present in a {@link ClienteSearch}.
+ * <p>
+ * The text of the query only depends on the shape of the search: which criteria are present,
+ * the sort and the direction. It is built once per shape and reused, so Hibernate's query plan
+ * cache, keyed by that text, also parses and translates each shape to SQL only once; criteria
+ * queries would be translated again on every execution. Values are always bound as parameters.
+ * <p>
+ * Prefixes are searched as ranges, {@code >= prefix and < next prefix}, which an index on the
+ * column answers with a range scan. Pages are found by keyset, continuing after the sort value
+ * and id of the previous page's last row instead of skipping rows with an offset.
+ */
+public class ClienteSearchRepositoryImpl implements ClienteSearchRepository {
+
+    private final EntityManager entityManager;
+    private final Map<Integer, String> shapes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ClienteSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClienteDTO> search(ClienteSearch search, int limit) {
+        String jpql = shapes.computeIfAbsent(shapeOf(search), shape -> jpql(search));
+        TypedQuery<ClienteDTO> query = entityManager.createQuery(jpql, ClienteDTO.class)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, "MANUAL")
+                .setMaxResults(limit);
+        if (search.ciudad() != null) {
+            query.setParameter("ciudad", search.ciudad());
+        }
+        if (search.emailDominio() != null) {
+            query.setParameter("dominio", search.emailDominio());
+        }
+        if (search.nombrePrefix() != null) {
+            query.setParameter("nombreDesde", search.nombrePrefix());
+            query.setParameter("nombreHasta", upperBound(search.nombrePrefix()));
+        }
+        if (search.apellidoPrefix() != null) {
+            query.setParameter("apellidoDesde", search.apellidoPrefix());
+            query.setParameter("apellidoHasta", upperBound(search.apellidoPrefix()));
+        }
+        if (search.idDesde() != null) {
+            query.setParameter("idDesde", search.idDesde());
+        }
+        if (search.idHasta() != null) {
+            query.setParameter("idHasta", search.idHasta());
+        }
+        if (search.after() != null) {
+            query.setParameter("afterId", search.after().id());
+            if (search.sort() != ClienteSearch.SortField.ID) {
+                query.setParameter("afterValue", search.after().value());
+            }
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Number of distinct query shapes built so far
+     */
+    public int getShapeCount() {
+        return shapes.size();
+    }
+
+    private static int shapeOf(ClienteSearch search) {
+        int shape = 0;
+        shape |= search.ciudad() != null ? 1 : 0;
+        shape |= search.emailDominio() != null ? 1 << 1 : 0;
+        shape |= search.nombrePrefix() != null ? 1 << 2 : 0;
+        shape |= search.apellidoPrefix() != null ? 1 << 3 : 0;
+        shape |= search.idDesde() != null ? 1 << 4 : 0;
+        shape |= search.idHasta() != null ? 1 << 5 : 0;
+        shape |= search.after() != null ? 1 << 6 : 0;
+        shape |= search.descending() ? 1 << 7 : 0;
+        return shape | search.sort().ordinal() << 8;
+    }
+
+    private static String jpql(ClienteSearch search) {
+        List<String> conditions = new ArrayList<>();
+        if (search.ciudad() != null) {
+            conditions.add("c.ciudad = :ciudad");
+        }
+        if (search.emailDominio() != null) {
+            conditions.add("c.emailDominio = :dominio");
+        }
+        if (search.nombrePrefix() != null) {
+            conditions.add("c.nombre >= :nombreDesde and c.nombre < :nombreHasta");
+        }
+        if (search.apellidoPrefix() != null) {
+            conditions.add("c.apellido >= :apellidoDesde and c.apellido < :apellidoHasta");
+        }
+        if (search.idDesde() != null) {
+            conditions.add("c.id >= :idDesde");
+        }
+        if (search.idHasta() != null) {
+            conditions.add("c.id <= :idHasta");
+        }
+        String sort = "c." + search.sort().getAttribute();
+        String after = search.descending() ? " < " : " > ";
+        if (search.after() != null) {
+            if (search.sort() == ClienteSearch.SortField.ID) {
+                conditions.add("c.id" + after + ":afterId");
+            } else {
+                // The first condition alone bounds the index range; the second drops the rows already returned
+                conditions.add(sort + " " + after.trim() + "= :afterValue and (" + sort + after + ":afterValue or c.id"
+                        + after + ":afterId)");
+            }
+        }
+        String direction = search.descending() ? " desc" : "";
+        StringBuilder jpql = new StringBuilder(ClienteRepository.DTO_SELECT);
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        jpql.append(" order by ").append(sort).append(direction);
+        if (search.sort() != ClienteSearch.SortField.ID) {
+            jpql.append(", c.id").append(direction);
+        }
+        return jpql.toString();
+    }
+
+    /**
+     * Smallest string greater than every string starting with the prefix
+     */
+    private static String upperBound(String prefix) {
+        int last = prefix.length() - 1;
+        return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+    }
+}
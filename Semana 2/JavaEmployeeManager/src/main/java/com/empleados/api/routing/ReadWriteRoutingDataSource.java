@@ -0,0 +1,71 @@
+package com.empleados.api.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the
+ * primary.
+ * <p>
+ * The route is decided when the physical connection is fetched, so this data source must be
+ * wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager opens the connection before the read-only flag of the transaction
+ * is published. Connections outside a transaction always go to the primary. A read-write
+ * transaction pins the rest of the request to the primary, see {@link ReadYourWrites}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+    private volatile boolean replicaAvailable = true;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = currentRoute();
+        (route == Route.REPLICA ? replicaRoutes : primaryRoutes).increment();
+        return route;
+    }
+
+    /**
+     * Route for a connection fetched by the current thread right now
+     */
+    public Route currentRoute() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.pin();
+            }
+            return Route.PRIMARY;
+        }
+        return replicaAvailable && !ReadYourWrites.isPinned() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    /**
+     * While unavailable, read-only transactions are served by the primary
+     */
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getRouteCount(Route route) {
+        return (route == Route.REPLICA ? replicaRoutes : primaryRoutes).sum();
+    }
+}
@@ -0,0 +1,29 @@
+package com.empleados.api.routing;
+
+/**
+ * Per-thread read-your-writes marker for {@link ReadWriteRoutingDataSource}.
+ * <p>
+ * Once the current request has opened a read-write transaction, its later read-only
+ * transactions are pinned to the primary so they see the request's own writes even while
+ * the replica lags behind. The marker is cleared by {@code ReadYourWritesFilter} when the
+ * request ends; threads outside a request stay pinned until {@link #clear()} is called.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,57 @@
+package com.empleados.api.routing;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA transaction manager that keeps replica reads out of the second-level cache.
+ * <p>
+ * The cache regions are shared by both routes and are only invalidated by writes to the
+ * primary. A result read from a lagging replica after such a write would be stored as fresh
+ * and served until the next write, long after the replica caught up. Transactions routed to
+ * the replica therefore bypass the cache. Bypassing only the store is not enough: Hibernate
+ * 6.2 still stores the result of a query cache miss when the read from the cache is allowed.
+ */
+public class RoutingJpaTransactionManager extends JpaTransactionManager {
+
+    private static final String STORE_MODE = AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
+    private static final String RETRIEVE_MODE = AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE;
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public RoutingJpaTransactionManager(ReadWriteRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    protected void prepareSynchronization(DefaultTransactionStatus status, TransactionDefinition definition) {
+        super.prepareSynchronization(status, definition);
+        if (!definition.isReadOnly() || !status.isNewTransaction() || !status.isNewSynchronization()
+                || routingDataSource.currentRoute() != ReadWriteRoutingDataSource.Route.REPLICA) {
+            return;
+        }
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        EntityManager entityManager = holder.getEntityManager();
+        Object previousStoreMode = entityManager.getProperties().getOrDefault(STORE_MODE, CacheStoreMode.USE);
+        Object previousRetrieveMode = entityManager.getProperties().getOrDefault(RETRIEVE_MODE, CacheRetrieveMode.USE);
+        entityManager.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        entityManager.setProperty(RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+        // With open-in-view the entity manager outlives the transaction and serves later ones
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int completionStatus) {
+                entityManager.setProperty(STORE_MODE, previousStoreMode);
+                entityManager.setProperty(RETRIEVE_MODE, previousRetrieveMode);
+            }
+        });
+    }
+}
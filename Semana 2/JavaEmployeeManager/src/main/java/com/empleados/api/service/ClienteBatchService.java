@@ -0,0 +1,18 @@
+package com.empleados.api.service;
+
+import com.empleados.api.dto.BatchRequestDTO;
+import com.empleados.api.dto.BatchResponseDTO;
+
+/**
+ * Service interface for batch operations over clients
+ */
+public interface ClienteBatchService {
+
+    /**
+     * Execute a mixed list of create, update and delete operations in one transaction
+     * 
+     * @param request the operations and the failure mode
+     * @return the result of every operation, in request order
+     */
+    BatchResponseDTO executeBatch(BatchRequestDTO request);
+}
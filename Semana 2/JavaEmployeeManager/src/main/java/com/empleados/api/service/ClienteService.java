@@ -1,6 +1,9 @@
 package com.empleados.api.service;
 
 import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.dto.ClienteEstadisticasDTO;
+import com.empleados.api.dto.ClienteSearchCriteria;
+import com.empleados.api.dto.ClienteSearchPageDTO;
 
 import java.util.List;
 
@@ -55,4 +58,53 @@ public interface ClienteService {
      * @return a list of employees in the specified department
      */
     List<ClienteDTO> getClientesByCiudad(String ciudad);
+
+    /**
+     * Get the employees whose telefono ends with the given digits
+     * 
+     * @param suffix the last digits of the number
+     * @param limit the maximum number of employees returned
+     * @return the matching employees, ordered by their reversed telefono
+     */
+    List<ClienteDTO> getClientesByTelefonoSuffix(String suffix, int limit);
+
+    /**
+     * Search employees by any combination of the criteria, one page at a time
+     * 
+     * @param criteria the criteria, sort, page size and cursor of the previous page
+     * @return the page and the cursor of the next one
+     */
+    ClienteSearchPageDTO searchClientes(ClienteSearchCriteria criteria);
+
+    /**
+     * Check whether an employee owns the given email
+     * 
+     * @param email the email
+     * @return true if the email is taken
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Get the number of employees in total and per city
+     * 
+     * @return the statistics, cities ordered from most to least populated
+     */
+    ClienteEstadisticasDTO getEstadisticas();
+
+    /**
+     * Move all employees of a city to another city
+     * 
+     * @param ciudad the current city
+     * @param nuevaCiudad the new city
+     * @return the number of employees moved
+     */
+    int reassignCiudad(String ciudad, String nuevaCiudad);
+
+    /**
+     * Delete all employees of a city
+     * 
+     * @param ciudad the city
+     * @return the number of employees deleted
+     */
+    int deleteClientesByCiudad(String ciudad);
 }
@@ -0,0 +1,359 @@
+package com.empleados.api.service.impl;
+
+import com.empleados.api.dto.BatchOperationDTO;
+import com.empleados.api.dto.BatchRequestDTO;
+import com.empleados.api.dto.BatchResponseDTO;
+import com.empleados.api.dto.BatchResultDTO;
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.event.ClienteChangeEvent;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.model.Cliente;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteEmailFilter;
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.service.ClienteBatchService;
+import com.empleados.api.service.ClienteService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ClienteBatchService interface.
+ * <p>
+ * All referenced clients and emails are loaded with one query each, the operations are
+ * checked against that snapshot and the surviving ones are written in three flushes
+ * (deletes, updates, inserts) so Hibernate can send each group as a JDBC batch.
+ */
+@Service
+public class ClienteBatchServiceImpl implements ClienteBatchService {
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_CREATED = 201;
+    private static final int STATUS_NO_CONTENT = 204;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_CONFLICT = 409;
+    private static final int STATUS_FAILED_DEPENDENCY = 424;
+    private static final int STATUS_ERROR = 500;
+
+    private final ClienteRepository clienteRepository;
+    private final ClienteService clienteService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClienteEmailFilter emailFilter;
+    private final CiudadDictionary ciudadDictionary;
+
+    @Autowired
+    public ClienteBatchServiceImpl(ClienteRepository clienteRepository,
+                                   ClienteService clienteService,
+                                   Validator validator,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   ClienteEmailFilter emailFilter,
+                                   CiudadDictionary ciudadDictionary) {
+        this.clienteRepository = clienteRepository;
+        this.clienteService = clienteService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.emailFilter = emailFilter;
+        this.ciudadDictionary = ciudadDictionary;
+    }
+
+    @Override
+    public BatchResponseDTO executeBatch(BatchRequestDTO request) {
+        List<BatchOperationDTO> operations = request.getOperations();
+        BatchResultDTO[] results = new BatchResultDTO[operations.size()];
+        boolean atomic = request.getMode() == BatchRequestDTO.Mode.ATOMIC;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BatchPlan plan = plan(operations, results);
+                if (atomic && plan.hasFailures()) {
+                    status.setRollbackOnly();
+                    return;
+                }
+                plan.apply();
+            });
+        } catch (DataAccessException | TransactionException e) {
+            // Either the checks themselves failed part way or the database refused the batch as a whole
+            failUnplanned(operations, results, "No se pudo comprobar la operación: " + rootMessage(e));
+            if (atomic) {
+                failPlanned(results, STATUS_CONFLICT, "No se pudo confirmar el lote: " + rootMessage(e));
+            } else {
+                executeIndividually(operations, results);
+            }
+        }
+
+        if (atomic && Arrays.stream(results).anyMatch(r -> !r.isSuccess())) {
+            failPlanned(results, STATUS_FAILED_DEPENDENCY,
+                    "Operación revertida porque otra operación del lote falló");
+        }
+
+        List<BatchResultDTO> resultList = Arrays.asList(results);
+        int succeeded = (int) resultList.stream().filter(BatchResultDTO::isSuccess).count();
+        return new BatchResponseDTO(request.getMode(), succeeded, results.length - succeeded, resultList);
+    }
+
+    /**
+     * Check every operation against the current data and queue the valid ones
+     */
+    private BatchPlan plan(List<BatchOperationDTO> operations, BatchResultDTO[] results) {
+        Set<Long> ids = operations.stream()
+                .filter(op -> op.getType() != BatchOperationDTO.Type.CREATE && op.getId() != null)
+                .map(BatchOperationDTO::getId)
+                .collect(Collectors.toSet());
+        Set<String> emails = operations.stream()
+                .filter(op -> op.getType() != BatchOperationDTO.Type.DELETE && op.getCliente() != null)
+                .map(op -> op.getCliente().getEmail())
+                .filter(Objects::nonNull)
+                .filter(email -> !emailFilter.definitelyAbsent(email))
+                .collect(Collectors.toSet());
+
+        Map<Long, Cliente> existing = ids.isEmpty() ? new HashMap<>()
+                : clienteRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        // email -> owner id; clients created by this batch own their email with a negative placeholder
+        Map<String, Long> emailOwners = emails.isEmpty() ? new HashMap<>()
+                : clienteRepository.findByEmailIn(emails).stream()
+                        .collect(Collectors.toMap(Cliente::getEmail, Cliente::getId));
+        existing.values().forEach(c -> emailOwners.putIfAbsent(c.getEmail(), c.getId()));
+
+        BatchPlan plan = new BatchPlan(results);
+        Set<Long> deleted = new HashSet<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDTO op = operations.get(i);
+            ClienteDTO data = op.getCliente();
+            Long id = op.getId();
+
+            switch (op.getType()) {
+                case CREATE -> {
+                    String invalid = validate(data);
+                    if (invalid != null) {
+                        plan.fail(i, op, STATUS_BAD_REQUEST, invalid);
+                    } else if (emailOwners.containsKey(data.getEmail())) {
+                        plan.fail(i, op, STATUS_CONFLICT, "Ya existe un cliente con el email: " + data.getEmail());
+                    } else {
+                        emailOwners.put(data.getEmail(), -(i + 1L));
+                        plan.create(i, ClienteMapper.toEntity(data));
+                    }
+                }
+                case UPDATE -> {
+                    String invalid = id == null ? "El id es obligatorio para actualizar" : validate(data);
+                    Cliente cliente = existing.get(id);
+                    if (invalid != null) {
+                        plan.fail(i, op, STATUS_BAD_REQUEST, invalid);
+                    } else if (cliente == null || deleted.contains(id)) {
+                        plan.fail(i, op, STATUS_NOT_FOUND, "Cliente no encontrado con id: " + id);
+                    } else if (!id.equals(emailOwners.getOrDefault(data.getEmail(), id))) {
+                        plan.fail(i, op, STATUS_CONFLICT, "Ya existe un cliente con el email: " + data.getEmail());
+                    } else {
+                        emailOwners.remove(cliente.getEmail(), id);
+                        emailOwners.put(data.getEmail(), id);
+                        plan.update(i, cliente, data);
+                    }
+                }
+                case DELETE -> {
+                    Cliente cliente = id == null ? null : existing.get(id);
+                    if (id == null) {
+                        plan.fail(i, op, STATUS_BAD_REQUEST, "El id es obligatorio para eliminar");
+                    } else if (cliente == null || deleted.contains(id)) {
+                        plan.fail(i, op, STATUS_NOT_FOUND, "Cliente no encontrado con id: " + id);
+                    } else {
+                        deleted.add(id);
+                        emailOwners.remove(cliente.getEmail(), id);
+                        plan.delete(i, cliente);
+                    }
+                }
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Fallback for BEST_EFFORT batches: run the planned operations one by one
+     * so a single bad row does not discard the rest
+     */
+    private void executeIndividually(List<BatchOperationDTO> operations, BatchResultDTO[] results) {
+        for (int i = 0; i < results.length; i++) {
+            if (!results[i].isSuccess()) {
+                continue;
+            }
+            BatchOperationDTO op = operations.get(i);
+            try {
+                switch (op.getType()) {
+                    case CREATE -> {
+                        ClienteDTO created = clienteService.createCliente(op.getCliente());
+                        results[i] = result(i, op, created.getId(), STATUS_CREATED, null, created);
+                    }
+                    case UPDATE -> {
+                        ClienteDTO updated = clienteService.updateCliente(op.getId(), op.getCliente());
+                        results[i] = result(i, op, op.getId(), STATUS_OK, null, updated);
+                    }
+                    case DELETE -> {
+                        clienteService.deleteCliente(op.getId());
+                        results[i] = result(i, op, op.getId(), STATUS_NO_CONTENT, null, null);
+                    }
+                }
+            } catch (ResourceNotFoundException e) {
+                results[i] = result(i, op, op.getId(), STATUS_NOT_FOUND, e.getMessage(), null);
+            } catch (DataIntegrityViolationException e) {
+                results[i] = result(i, op, op.getId(), STATUS_CONFLICT, e.getMessage(), null);
+            } catch (RuntimeException e) {
+                results[i] = result(i, op, op.getId(), STATUS_ERROR, e.getMessage(), null);
+            }
+        }
+    }
+
+    /**
+     * Mark the operations the checks never reached as failed, so no result is left empty
+     */
+    private static void failUnplanned(List<BatchOperationDTO> operations, BatchResultDTO[] results, String message) {
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                BatchOperationDTO op = operations.get(i);
+                results[i] = result(i, op, op.getId(), STATUS_ERROR, message, null);
+            }
+        }
+    }
+
+    private void failPlanned(BatchResultDTO[] results, int status, String message) {
+        for (BatchResultDTO result : results) {
+            if (result.isSuccess()) {
+                result.setStatus(status);
+                result.setMessage(message);
+                result.setCliente(null);
+            }
+        }
+    }
+
+    /**
+     * Validate the client data, returning null when it is valid
+     */
+    private String validate(ClienteDTO data) {
+        if (data == null) {
+            return "Los datos del cliente son obligatorios";
+        }
+        Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(data);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private static BatchResultDTO result(int index, BatchOperationDTO op, Long id, int status,
+                                         String message, ClienteDTO cliente) {
+        return new BatchResultDTO(index, op.getType(), id, status, message, cliente);
+    }
+
+    /**
+     * Operations accepted by the checks, grouped so each group is flushed as one JDBC batch
+     */
+    private class BatchPlan {
+
+        private final BatchResultDTO[] results;
+        private final List<Cliente> deletes = new ArrayList<>();
+        private final List<Integer> updateIndexes = new ArrayList<>();
+        private final List<Cliente> updates = new ArrayList<>();
+        private final List<ClienteDTO> updateData = new ArrayList<>();
+        private final List<Integer> createIndexes = new ArrayList<>();
+        private final List<Cliente> creates = new ArrayList<>();
+        private boolean failures;
+
+        BatchPlan(BatchResultDTO[] results) {
+            this.results = results;
+        }
+
+        void fail(int index, BatchOperationDTO op, int status, String message) {
+            results[index] = result(index, op, op.getId(), status, message, null);
+            failures = true;
+        }
+
+        void create(int index, Cliente cliente) {
+            cliente.setId(null);
+            createIndexes.add(index);
+            creates.add(cliente);
+            results[index] = new BatchResultDTO(index, BatchOperationDTO.Type.CREATE, null, STATUS_CREATED, null, null);
+        }
+
+        void update(int index, Cliente cliente, ClienteDTO data) {
+            updateIndexes.add(index);
+            updates.add(cliente);
+            updateData.add(data);
+            results[index] = new BatchResultDTO(index, BatchOperationDTO.Type.UPDATE, cliente.getId(), STATUS_OK, null, null);
+        }
+
+        void delete(int index, Cliente cliente) {
+            deletes.add(cliente);
+            results[index] = new BatchResultDTO(index, BatchOperationDTO.Type.DELETE, cliente.getId(), STATUS_NO_CONTENT, null, null);
+        }
+
+        boolean hasFailures() {
+            return failures;
+        }
+
+        /**
+         * Deletes go first so their emails can be reused by the updates and inserts of the same batch
+         */
+        void apply() {
+            if (!deletes.isEmpty()) {
+                clienteRepository.deleteAll(deletes);
+                clienteRepository.flush();
+                deletes.forEach(c -> eventPublisher.publishEvent(ClienteChangeEvent.delete(c.getId())));
+            }
+            if (!updates.isEmpty()) {
+                for (int i = 0; i < updates.size(); i++) {
+                    ClienteMapper.applyChanges(updateData.get(i), updates.get(i));
+                    ciudadDictionary.codeFor(updates.get(i).getCiudad());
+                }
+                clienteRepository.flush();
+                for (int i = 0; i < updates.size(); i++) {
+                    results[updateIndexes.get(i)].setCliente(ClienteMapper.toDTO(updates.get(i)));
+                    eventPublisher.publishEvent(ClienteChangeEvent.upsert(ClienteMapper.toDTO(updates.get(i))));
+                }
+            }
+            if (!creates.isEmpty()) {
+                creates.forEach(c -> ciudadDictionary.codeFor(c.getCiudad()));
+                List<Cliente> saved = clienteRepository.saveAll(creates);
+                clienteRepository.flush();
+                for (int i = 0; i < saved.size(); i++) {
+                    BatchResultDTO result = results[createIndexes.get(i)];
+                    result.setId(saved.get(i).getId());
+                    result.setCliente(ClienteMapper.toDTO(saved.get(i)));
+                    eventPublisher.publishEvent(ClienteChangeEvent.upsert(ClienteMapper.toDTO(saved.get(i))));
+                }
+            }
+        }
+    }
+}
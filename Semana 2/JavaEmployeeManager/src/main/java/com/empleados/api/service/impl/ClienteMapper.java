@@ -0,0 +1,53 @@
+package com.empleados.api.service.impl;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.model.Cliente;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Conversions between Cliente entities and DTOs shared by the service implementations
+ */
+final class ClienteMapper {
+
+    private ClienteMapper() {
+    }
+
+    /**
+     * Convert Entity to DTO
+     */
+    static ClienteDTO toDTO(Cliente cliente) {
+        ClienteDTO clienteDTO = new ClienteDTO();
+        BeanUtils.copyProperties(cliente, clienteDTO);
+        return clienteDTO;
+    }
+
+    /**
+     * Convert DTO to Entity
+     */
+    static Cliente toEntity(ClienteDTO clienteDTO) {
+        Cliente cliente = new Cliente();
+        BeanUtils.copyProperties(clienteDTO, cliente);
+        return cliente;
+    }
+
+    /**
+     * Copy the non-null properties of the DTO onto an existing entity
+     */
+    static void applyChanges(ClienteDTO clienteDTO, Cliente cliente) {
+        if (clienteDTO.getNombre() != null) {
+            cliente.setNombre(clienteDTO.getNombre());
+        }
+        if (clienteDTO.getApellido() != null) {
+            cliente.setApellido(clienteDTO.getApellido());
+        }
+        if (clienteDTO.getEmail() != null) {
+            cliente.setEmail(clienteDTO.getEmail());
+        }
+        if (clienteDTO.getTelefono() != null) {
+            cliente.setTelefono(clienteDTO.getTelefono());
+        }
+        if (clienteDTO.getCiudad() != null) {
+            cliente.setCiudad(clienteDTO.getCiudad());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.empleados.api.service.impl;
+
+import com.empleados.api.exception.InvalidCursorException;
+import com.empleados.api.repository.ClienteSearch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque pagination cursors of the cliente search: the sort and direction they were issued
+ * for, followed by the keyset of the last row returned
+ */
+final class ClienteSearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private ClienteSearchCursor() {
+    }
+
+    static String encode(ClienteSearch.SortField sort, boolean descending, ClienteSearch.Keyset keyset) {
+        String value = keyset.value() != null ? keyset.value() : "";
+        String cursor = sort.name() + SEPARATOR + (descending ? "desc" : "asc") + SEPARATOR + keyset.id()
+                + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another sort
+     */
+    static ClienteSearch.Keyset decode(String cursor, ClienteSearch.SortField sort, boolean descending) {
+        String[] parts;
+        long id;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+            id = parts.length == 4 ? Long.parseLong(parts[2]) : 0;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor inválido");
+        }
+        if (parts.length != 4) {
+            throw new InvalidCursorException("Cursor inválido");
+        }
+        if (!parts[0].equals(sort.name()) || !parts[1].equals(descending ? "desc" : "asc")) {
+            throw new InvalidCursorException("El cursor corresponde a otro orden");
+        }
+        return new ClienteSearch.Keyset(sort == ClienteSearch.SortField.ID ? null : parts[3], id);
+    }
+}
@@ -1,18 +1,47 @@
 package com.empleados.api.service.impl;
 
 import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.dto.ClienteEstadisticasDTO;
+import com.empleados.api.dto.ClienteSearchCriteria;
+import com.empleados.api.dto.ClienteSearchPageDTO;
+import com.empleados.api.event.ClienteChangeEvent;
 import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.exception.ServiceUnavailableException;
 import com.empleados.api.model.Cliente;
+import com.empleados.api.replica.ClienteReadReplica;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteEmailFilter;
 import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.repository.ClienteSearch;
+import com.empleados.api.routing.ReadYourWrites;
 import com.empleados.api.service.ClienteService;
+import com.empleados.api.util.EmailAddresses;
+import com.empleados.api.util.PhoneNumbers;
+import com.empleados.api.util.SingleFlight;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the EmpleadoService interface
@@ -21,37 +50,90 @@ import java.util.stream.Collectors;
 public class ClienteServiceImpl implements ClienteService {
 
     private final ClienteRepository clienteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClienteReadReplica readReplica;
+    private final CiudadDictionary ciudadDictionary;
+    private final ClienteEmailFilter emailFilter;
+
+    // Concurrent identical reads share one repository call
+    private final SingleFlight<Long, ClienteDTO> byIdFlights = new SingleFlight<>();
+    private final SingleFlight<Integer, List<ClienteDTO>> byCiudadFlights = new SingleFlight<>();
+    private boolean coalescingEnabled = true;
+    private Duration coalescingTimeout = Duration.ofSeconds(5);
+    private TransactionOperations readOnlyTransaction = TransactionOperations.withoutTransaction();
 
     @Autowired
-    public ClienteServiceImpl(ClienteRepository clienteRepository) {
+    public ClienteServiceImpl(ClienteRepository clienteRepository, ApplicationEventPublisher eventPublisher,
+                              ClienteReadReplica readReplica, CiudadDictionary ciudadDictionary,
+                              ClienteEmailFilter emailFilter) {
         this.clienteRepository = clienteRepository;
+        this.eventPublisher = eventPublisher;
+        this.readReplica = readReplica;
+        this.ciudadDictionary = ciudadDictionary;
+        this.emailFilter = emailFilter;
+    }
+
+    @Value("${clientes.coalescing.enabled:true}")
+    public void setCoalescingEnabled(boolean coalescingEnabled) {
+        this.coalescingEnabled = coalescingEnabled;
     }
 
+    @Value("${clientes.coalescing.timeout:PT5S}")
+    public void setCoalescingTimeout(Duration coalescingTimeout) {
+        this.coalescingTimeout = coalescingTimeout;
+    }
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        this.readOnlyTransaction = template;
+    }
+
+    /**
+     * Served from the read replica once it is loaded, otherwise projected straight into DTOs.
+     * Not transactional: replica reads need no connection, the repository call opens its own
+     * read-only transaction.
+     */
     @Override
     public List<ClienteDTO> getAllClientes() {
-        return clienteRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        if (readReplica.isReady()) {
+            return readReplica.findAll();
+        }
+        return clienteRepository.findAllProjected();
     }
 
+    /**
+     * Not transactional on purpose: callers waiting on a coalesced read must not hold a
+     * connection, the repository call opens its own read-only transaction.
+     * <p>
+     * Loaded as an entity rather than projected: single-row writes evict only their row from
+     * the entity region, while a cached query result would be invalidated by any write to the
+     * table. The bulk ciudad operations still clear the whole region.
+     */
     @Override
     public ClienteDTO getClienteById(Long id) {
-        Cliente cliente = clienteRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado con id: " + id));
-        return convertToDTO(cliente);
+        return coalesce(byIdFlights, id, () -> clienteRepository.findById(id)
+                .map(this::convertToDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado con id: " + id)));
     }
 
     @Override
+    @Transactional
     public ClienteDTO createCliente(ClienteDTO clienteDTO) {
         try {
-            // Check if email already exists
-            if (clienteDTO.getEmail() != null && 
+            // Check if email already exists; the email filter rules out most new emails without a query
+            if (clienteDTO.getEmail() != null && !emailFilter.definitelyAbsent(clienteDTO.getEmail()) &&
                 clienteRepository.findByEmail(clienteDTO.getEmail()).isPresent()) {
                 throw new DataIntegrityViolationException("Ya existe un cliente con el email: " + clienteDTO.getEmail());
             }
             
             Cliente cliente = convertToEntity(clienteDTO);
+            // Ids are always generated: an id in the body would turn the insert into a merge
+            cliente.setId(null);
+            ciudadDictionary.codeFor(cliente.getCiudad());
             Cliente savedCliente = clienteRepository.save(cliente);
+            eventPublisher.publishEvent(ClienteChangeEvent.upsert(convertToDTO(savedCliente)));
             return convertToDTO(savedCliente);
         } catch (DataIntegrityViolationException e) {
             throw new DataIntegrityViolationException("Error al crear el cliente: " + e.getMessage());
@@ -59,12 +141,14 @@ public class ClienteServiceImpl implements ClienteService {
     }
 
     @Override
+    @Transactional
     public ClienteDTO updateCliente(Long id, ClienteDTO clienteDTO) {
     	Cliente existingCliente = clienteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado con id: " + id));
 
         // Check if the new email already exists and belongs to a different employee
-        if (clienteDTO.getEmail() != null && !clienteDTO.getEmail().equals(existingCliente.getEmail())) {
+        if (clienteDTO.getEmail() != null && !clienteDTO.getEmail().equals(existingCliente.getEmail())
+                && !emailFilter.definitelyAbsent(clienteDTO.getEmail())) {
             clienteRepository.findByEmail(clienteDTO.getEmail()).ifPresent(e -> {
                 if (!e.getId().equals(id)) {
                     throw new DataIntegrityViolationException("Ya existe un cliente con el email: " + clienteDTO.getEmail());
@@ -73,56 +157,249 @@ public class ClienteServiceImpl implements ClienteService {
         }
 
         // Update properties
-        if (clienteDTO.getNombre() != null) {
-            existingCliente.setNombre(clienteDTO.getNombre());
+        ClienteMapper.applyChanges(clienteDTO, existingCliente);
+        ciudadDictionary.codeFor(existingCliente.getCiudad());
+
+        Cliente updatedCliente = clienteRepository.save(existingCliente);
+        eventPublisher.publishEvent(ClienteChangeEvent.upsert(convertToDTO(updatedCliente)));
+        return convertToDTO(updatedCliente);
+    }
+
+    /**
+     * Deleted through the entity so the second-level cache only evicts this row; a JPQL bulk
+     * DELETE would clear the whole clientes region. The lookup is usually served by that
+     * region, leaving the DELETE as the only statement, and costs a SELECT when it is not.
+     * The email filter sees the delete through the persistence context.
+     */
+    @Override
+    @Transactional
+    public void deleteCliente(Long id) {
+        Cliente cliente = clienteRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado con id: " + id));
+        clienteRepository.delete(cliente);
+        eventPublisher.publishEvent(ClienteChangeEvent.delete(id));
+    }
+
+    /**
+     * Not transactional for the same reason as {@link #getClienteById(Long)}. The returned list
+     * may be shared with concurrent callers and must not be modified.
+     */
+    @Override
+    public List<ClienteDTO> getClientesByCiudad(String ciudad) {
+        if (readReplica.isReady()) {
+            return readReplica.findByCiudad(ciudad);
         }
-        if (clienteDTO.getApellido() != null) {
-            existingCliente.setApellido(clienteDTO.getApellido());
+        // A ciudad missing from the dictionary has no clients; known ones share reads by code
+        Integer code = ciudadDictionary.find(ciudad);
+        if (code == null) {
+            return List.of();
         }
-        if (clienteDTO.getEmail() != null) {
-            existingCliente.setEmail(clienteDTO.getEmail());
+        return coalesce(byCiudadFlights, code, () -> clienteRepository.findProjectedByCiudad(ciudad));
+    }
+
+    /**
+     * Always read from the database: the reversed telefono index turns the suffix into a
+     * prefix range scan, which the read replica has no index for
+     */
+    @Override
+    public List<ClienteDTO> getClientesByTelefonoSuffix(String suffix, int limit) {
+        String digits = PhoneNumbers.reversed(suffix);
+        if (digits == null || digits.isEmpty()) {
+            return List.of();
         }
-        if (clienteDTO.getTelefono() != null) {
-            existingCliente.setTelefono(clienteDTO.getTelefono());
+        return clienteRepository.findProjectedByTelefonoInvertidoRange(
+                digits, PhoneNumbers.prefixUpperBound(digits), PageRequest.of(0, limit));
+    }
+
+    /**
+     * Always read from the database as a single query; fetches one row more than the page to
+     * know whether another page follows
+     */
+    @Override
+    public ClienteSearchPageDTO searchClientes(ClienteSearchCriteria criteria) {
+        ClienteSearch.SortField sort = ClienteSearch.SortField.valueOf(criteria.getSort().toUpperCase(Locale.ROOT));
+        boolean descending = "desc".equalsIgnoreCase(criteria.getDirection());
+        ClienteSearch.Keyset after = hasText(criteria.getCursor())
+                ? ClienteSearchCursor.decode(criteria.getCursor(), sort, descending) : null;
+        String ciudad = hasText(criteria.getCiudad()) ? criteria.getCiudad() : null;
+        if (ciudad != null && ciudadDictionary.find(ciudad) == null) {
+            return new ClienteSearchPageDTO(List.of(), null);
         }
-        if (clienteDTO.getCiudad() != null) {
-            existingCliente.setCiudad(clienteDTO.getCiudad());
+        // The domain is stored after the last @, so a leading one in the criterion is ignored
+        String dominio = hasText(criteria.getDominio()) ? EmailAddresses.domain("@" + criteria.getDominio()) : null;
+        ClienteSearch search = new ClienteSearch(ciudad, dominio,
+                hasText(criteria.getNombre()) ? criteria.getNombre() : null,
+                hasText(criteria.getApellido()) ? criteria.getApellido() : null,
+                criteria.getIdDesde(), criteria.getIdHasta(), sort, descending, after);
+
+        int limit = criteria.getLimit();
+        List<ClienteDTO> clientes = clienteRepository.search(search, limit + 1);
+        if (clientes.size() <= limit) {
+            return new ClienteSearchPageDTO(clientes, null);
         }
+        clientes = clientes.subList(0, limit);
+        ClienteDTO last = clientes.get(limit - 1);
+        return new ClienteSearchPageDTO(clientes, ClienteSearchCursor.encode(sort, descending,
+                new ClienteSearch.Keyset(sort.valueOf(last), last.getId())));
+    }
 
-        Cliente updatedCliente = clienteRepository.save(existingCliente);
-        return convertToDTO(updatedCliente);
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 
+    /**
+     * Only the database fallback runs in a transaction, so both counts come from the same
+     * snapshot; replica reads need no connection
+     */
     @Override
-    public void deleteCliente(Long id) {
-        if (!clienteRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Cliente no encontrado con id: " + id);
+    public ClienteEstadisticasDTO getEstadisticas() {
+        if (readReplica.isReady()) {
+            Map<String, Long> porCiudad = readReplica.countByCiudad();
+            return new ClienteEstadisticasDTO(readReplica.count(), porCiudad.size(), porCiudad);
         }
-        clienteRepository.deleteById(id);
+        return readOnlyTransaction.execute(status -> {
+            Map<String, Long> porCiudad = new LinkedHashMap<>();
+            for (Object[] row : clienteRepository.countGroupByCiudad()) {
+                porCiudad.put((String) row[0], (Long) row[1]);
+            }
+            return new ClienteEstadisticasDTO(clienteRepository.count(), porCiudad.size(), porCiudad);
+        });
     }
 
+    /**
+     * Not transactional: a definite negative from the email filter needs no connection at all
+     */
     @Override
-    public List<ClienteDTO> getClientesByCiudad(String ciudad) {
-        return clienteRepository.findByCiudad(ciudad).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public boolean existsByEmail(String email) {
+        if (emailFilter.definitelyAbsent(email)) {
+            return false;
+        }
+        boolean exists = clienteRepository.existsByEmail(email);
+        if (!exists) {
+            emailFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    @Override
+    @Transactional
+    public int reassignCiudad(String ciudad, String nuevaCiudad) {
+        if (ciudadDictionary.find(ciudad) == null) {
+            return 0;
+        }
+        ciudadDictionary.codeFor(nuevaCiudad);
+        int affected = clienteRepository.bulkReassignCiudad(ciudad, nuevaCiudad);
+        eventPublisher.publishEvent(ClienteChangeEvent.reassignCiudad(ciudad, nuevaCiudad));
+        return affected;
+    }
+
+    @Override
+    @Transactional
+    public int deleteClientesByCiudad(String ciudad) {
+        if (ciudadDictionary.find(ciudad) == null) {
+            return 0;
+        }
+        int affected = clienteRepository.bulkDeleteByCiudad(ciudad);
+        afterCommit(() -> emailFilter.recordUntrackedDeletes(affected));
+        eventPublisher.publishEvent(ClienteChangeEvent.deleteCiudad(ciudad));
+        return affected;
+    }
+
+    /**
+     * Run a read through the given single-flight group, translating a timeout while waiting for
+     * the shared call into a retryable error
+     */
+    private <K, V> V coalesce(SingleFlight<K, V> flights, K key, Supplier<V> loader) {
+        // A request pinned to the primary after its own write must not join a replica read
+        if (!coalescingEnabled || ReadYourWrites.isPinned()) {
+            return loader.get();
+        }
+        try {
+            return flights.execute(key, coalescingTimeout, loader);
+        } catch (SingleFlight.TimeoutExceededException e) {
+            throw new ServiceUnavailableException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Every write to clientes publishes a change event, whether it comes from this service or
+     * from the batch service; once the write is committed, reads still in flight are detached
+     * so later callers do not join a query that started before the change.
+     */
+    @EventListener
+    public void onChange(ClienteChangeEvent event) {
+        boolean singleRow = event.type() == ClienteChangeEvent.Type.UPSERT
+                || event.type() == ClienteChangeEvent.Type.DELETE;
+        forgetAfterCommit(singleRow ? event.id() : null);
+    }
+
+    /**
+     * Detach the in-flight reads after the commit, gathering the ids changed by the transaction
+     * so a large batch registers a single synchronization. A null id means any client may have
+     * changed.
+     */
+    @SuppressWarnings("unchecked")
+    private void forgetAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            forget(Collections.singleton(id));
+            return;
+        }
+        Set<Long> ids = (Set<Long>) TransactionSynchronizationManager.getResource(byIdFlights);
+        if (ids == null) {
+            Set<Long> changed = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(byIdFlights, changed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget(changed);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(byIdFlights);
+                }
+            });
+            ids = changed;
+        }
+        ids.add(id);
+    }
+
+    private void forget(Set<Long> ids) {
+        if (ids.contains(null)) {
+            byIdFlights.forgetAll();
+        } else {
+            ids.forEach(byIdFlights::forget);
+        }
+        byCiudadFlights.forgetAll();
+    }
+
+    /**
+     * Run the action once the current transaction has committed, or right away outside one
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     /**
      * Convert Entity to DTO
      */
     private ClienteDTO convertToDTO(Cliente cliente) {
-        ClienteDTO clienteDTO = new ClienteDTO();
-        BeanUtils.copyProperties(cliente, clienteDTO);
-        return clienteDTO;
+        return ClienteMapper.toDTO(cliente);
     }
 
     /**
      * Convert DTO to Entity
      */
     private Cliente convertToEntity(ClienteDTO clienteDTO) {
-    	Cliente cliente = new Cliente();
-        BeanUtils.copyProperties(clienteDTO, cliente);
-        return cliente;
+        return ClienteMapper.toEntity(clienteDTO);
     }
 }
@@ -0,0 +1,117 @@
+package com.empleados.api.sharding;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * One shard: a database with its own clientes table and ciudades dictionary. Writes go through
+ * the same {@link ClienteJdbcWriter} used for recovery and snapshots.
+ */
+public class ClienteShard implements AutoCloseable {
+
+    private static final String SELECT =
+            "SELECT id, nombre, apellido, email, telefono, ciudad_id FROM clientes";
+
+    private final String name;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final CiudadDictionary ciudades;
+    private final ClienteJdbcWriter writer;
+
+    public ClienteShard(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema();
+        this.ciudades = new CiudadDictionary(dataSource);
+        this.writer = new ClienteJdbcWriter(jdbcTemplate, ciudades);
+    }
+
+    /**
+     * Same layout as the schema Hibernate creates for the single database; the email is only
+     * unique within the shard, {@link ShardedClienteStore} checks it across shards
+     */
+    private void createSchema() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ciudades (id INT PRIMARY KEY, nombre VARCHAR(255) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS clientes (id BIGINT PRIMARY KEY, nombre VARCHAR(255) NOT NULL, "
+                + "apellido VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL UNIQUE, telefono VARCHAR(255), "
+                + "ciudad_id INT REFERENCES ciudades (id), telefono_invertido VARCHAR(255), "
+                + "email_dominio VARCHAR(255))");
+        jdbcTemplate.execute("ALTER TABLE clientes ADD COLUMN IF NOT EXISTS telefono_invertido VARCHAR(255)");
+        jdbcTemplate.execute("ALTER TABLE clientes ADD COLUMN IF NOT EXISTS email_dominio VARCHAR(255)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_clientes_ciudad_id ON clientes (ciudad_id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_clientes_telefono_invertido ON clientes (telefono_invertido)");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Optional<ClienteDTO> findById(long id) {
+        return jdbcTemplate.query(SELECT + " WHERE id = ?", (rs, i) -> map(rs), id).stream().findFirst();
+    }
+
+    public Optional<ClienteDTO> findByEmail(String email) {
+        return jdbcTemplate.query(SELECT + " WHERE email = ?", (rs, i) -> map(rs), email).stream().findFirst();
+    }
+
+    public List<ClienteDTO> findByCiudad(String ciudad) {
+        Integer code = ciudades.find(ciudad);
+        if (code == null) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT + " WHERE ciudad_id = ? ORDER BY id", (rs, i) -> map(rs), code);
+    }
+
+    /**
+     * Every row, in id order
+     */
+    public List<ClienteDTO> findAll() {
+        return writer.findAll();
+    }
+
+    /**
+     * Stream every row in id order without materializing the table
+     */
+    public void forEach(Consumer<ClienteDTO> action) {
+        writer.forEach(action);
+    }
+
+    public void upsertAll(List<ClienteDTO> clientes) {
+        writer.upsertAll(clientes);
+    }
+
+    public boolean delete(long id) {
+        return jdbcTemplate.update("DELETE FROM clientes WHERE id = ?", id) > 0;
+    }
+
+    public void deleteAll(Collection<Long> ids) {
+        jdbcTemplate.batchUpdate("DELETE FROM clientes WHERE id = ?", ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+
+    public long count() {
+        return writer.count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private ClienteDTO map(ResultSet rs) throws SQLException {
+        return new ClienteDTO(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                rs.getString(5), ciudades.nameOf(rs.getObject(6, Integer.class)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.empleados.api.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Rebalance command: once the application is ready, moves every cliente to the shard the
+ * configured strategy assigns it to and optionally shuts the application down. Run it after
+ * adding a datasource to {@code clientes.sharding.urls}, before serving traffic; a write to a
+ * row that is being moved can be lost.
+ * <p>
+ * Usage: {@code java -jar api.jar --clientes.sharding.rebalance=true
+ * --clientes.sharding.exit-after-rebalance=true}
+ */
+public class ShardRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    private final ShardedClienteStore store;
+    private final boolean exitAfterRebalance;
+
+    public ShardRebalancer(ShardedClienteStore store, boolean exitAfterRebalance) {
+        this.store = store;
+        this.exitAfterRebalance = exitAfterRebalance;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        long start = System.nanoTime();
+        ShardedClienteStore.RebalanceReport report = store.rebalance();
+        log.info("Rebalanceo terminado en {} ms: {} clientes revisados, {} movidos, destino {}",
+                (System.nanoTime() - start) / 1_000_000, report.scanned(), report.moved(), report.movedTo());
+        if (exitAfterRebalance) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.empleados.api.sharding;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.util.PhoneNumbers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Clientes partitioned across several databases.
+ * <p>
+ * Each row lives on the shard chosen by the {@link ShardingStrategy}. Lookups by the sharding
+ * key touch a single shard; every other lookup is scattered to all shards in parallel and the
+ * results gathered in id order. New clientes get snowflake ids, unique across shards and
+ * application instances. Email uniqueness across shards is checked with a scatter lookup
+ * before writing, which unlike the single-database unique index does not protect against two
+ * concurrent writers.
+ * <p>
+ * Created by {@code ShardingConfig} when {@code clientes.sharding.enabled} is set, together with
+ * the {@link ShardRebalancer} command. It sits next to the JPA repository: the clientes service
+ * does not use it, since its journal, read replica, second-level cache and email filter all
+ * assume a single database.
+ */
+@Slf4j
+public class ShardedClienteStore implements AutoCloseable {
+
+    private static final int MOVE_BATCH_SIZE = 1_000;
+
+    private final List<ClienteShard> shards;
+    private final ShardingStrategy strategy;
+    private final SnowflakeIdGenerator ids;
+    private final ExecutorService fanOut;
+    private volatile boolean rebalancing;
+
+    public record RebalanceReport(long scanned, long moved, Map<String, Long> movedTo) {
+    }
+
+    public ShardedClienteStore(List<ClienteShard> shards, ShardingStrategy strategy, SnowflakeIdGenerator ids) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos un shard");
+        }
+        this.shards = List.copyOf(shards);
+        this.strategy = strategy;
+        this.ids = ids;
+        AtomicInteger threads = new AtomicInteger();
+        this.fanOut = Executors.newFixedThreadPool(shards.size(), r -> {
+            Thread thread = new Thread(r, "shard-fan-out-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<ClienteShard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Insert or update a cliente; a null id inserts with a new snowflake id
+     *
+     * @return the stored row
+     * @throws DataIntegrityViolationException if another cliente already has the email
+     */
+    public ClienteDTO save(ClienteDTO cliente) {
+        ClienteDTO row = new ClienteDTO(cliente.getId() != null ? cliente.getId() : ids.nextId(),
+                cliente.getNombre(), cliente.getApellido(), cliente.getEmail(), PhoneNumbers.digits(cliente.getTelefono()), cliente.getCiudad());
+        findByEmail(row.getEmail())
+                .filter(owner -> !owner.getId().equals(row.getId()))
+                .ifPresent(owner -> {
+                    throw new DataIntegrityViolationException("Ya existe un cliente con el email: " + row.getEmail());
+                });
+        ClienteShard target = shardFor(row);
+        target.upsertAll(List.of(row));
+        if (strategy == ShardingStrategy.BY_CIUDAD && cliente.getId() != null) {
+            // A new ciudad may move the row to another shard: like a rebalance, the copy is
+            // written before the old row is deleted, so a failed write loses nothing
+            scatter(shard -> shard != target && shard.delete(row.getId()));
+        }
+        return row;
+    }
+
+    public Optional<ClienteDTO> findById(long id) {
+        if (strategy == ShardingStrategy.BY_ID) {
+            Optional<ClienteDTO> found = shards.get(ShardingStrategy.shardOfId(id, shards.size())).findById(id);
+            // While rebalancing the row may still sit on its previous shard
+            if (found.isPresent() || !rebalancing) {
+                return found;
+            }
+        }
+        return first(scatter(shard -> shard.findById(id)));
+    }
+
+    public Optional<ClienteDTO> findByEmail(String email) {
+        return first(scatter(shard -> shard.findByEmail(email)));
+    }
+
+    public List<ClienteDTO> findByCiudad(String ciudad) {
+        if (strategy == ShardingStrategy.BY_CIUDAD) {
+            return shards.get(ShardingStrategy.shardOfCiudad(ciudad, shards.size())).findByCiudad(ciudad);
+        }
+        return merge(scatter(shard -> shard.findByCiudad(ciudad)));
+    }
+
+    public List<ClienteDTO> findAll() {
+        return merge(scatter(ClienteShard::findAll));
+    }
+
+    public boolean deleteById(long id) {
+        if (strategy == ShardingStrategy.BY_ID && !rebalancing) {
+            return shards.get(ShardingStrategy.shardOfId(id, shards.size())).delete(id);
+        }
+        return scatter(shard -> shard.delete(id)).contains(Boolean.TRUE);
+    }
+
+    public long count() {
+        return scatter(ClienteShard::count).stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Move every row that is not on the shard the strategy assigns it to, typically after adding
+     * shards. Rows are copied to their new shard before being deleted from the old one, so they
+     * stay readable throughout; scatter reads drop the duplicate while a row is on both.
+     */
+    public RebalanceReport rebalance() {
+        rebalancing = true;
+        try {
+            long scanned = 0;
+            long[] movedTo = new long[shards.size()];
+            // Growing the shard count only moves rows to the new, last shards: scanning backwards
+            // never visits a row twice
+            for (int s = shards.size() - 1; s >= 0; s--) {
+                ClienteShard source = shards.get(s);
+                List<Long> misplaced = new ArrayList<>();
+                List<List<ClienteDTO>> batches = new ArrayList<>();
+                shards.forEach(shard -> batches.add(new ArrayList<>()));
+                long[] rows = {0};
+                source.forEach(cliente -> {
+                    rows[0]++;
+                    int target = strategy.shardOf(cliente, shards.size());
+                    if (shards.get(target) == source) {
+                        return;
+                    }
+                    misplaced.add(cliente.getId());
+                    movedTo[target]++;
+                    List<ClienteDTO> batch = batches.get(target);
+                    batch.add(cliente);
+                    if (batch.size() == MOVE_BATCH_SIZE) {
+                        shards.get(target).upsertAll(batch);
+                        batch.clear();
+                    }
+                });
+                for (int target = 0; target < shards.size(); target++) {
+                    if (!batches.get(target).isEmpty()) {
+                        shards.get(target).upsertAll(batches.get(target));
+                    }
+                }
+                for (int from = 0; from < misplaced.size(); from += MOVE_BATCH_SIZE) {
+                    source.deleteAll(misplaced.subList(from, Math.min(from + MOVE_BATCH_SIZE, misplaced.size())));
+                }
+                scanned += rows[0];
+                log.info("Shard {}: {} clientes revisados, {} movidos", source.getName(), rows[0], misplaced.size());
+            }
+            Map<String, Long> report = new LinkedHashMap<>();
+            for (int i = 0; i < shards.size(); i++) {
+                report.put(shards.get(i).getName(), movedTo[i]);
+            }
+            return new RebalanceReport(scanned, Arrays.stream(movedTo).sum(), report);
+        } finally {
+            rebalancing = false;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        fanOut.shutdownNow();
+        for (ClienteShard shard : shards) {
+            shard.close();
+        }
+    }
+
+    private ClienteShard shardFor(ClienteDTO cliente) {
+        return shards.get(strategy.shardOf(cliente, shards.size()));
+    }
+
+    /**
+     * Run the query on every shard in parallel
+     *
+     * @return the results in shard order
+     */
+    private <T> List<T> scatter(Function<ClienteShard, T> query) {
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), fanOut))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Optional<ClienteDTO> first(List<Optional<ClienteDTO>> results) {
+        return results.stream().flatMap(Optional::stream).findFirst();
+    }
+
+    /**
+     * Gather per-shard results in id order; a row being moved by a rebalance appears once
+     */
+    private static List<ClienteDTO> merge(List<List<ClienteDTO>> results) {
+        List<ClienteDTO> all = results.stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(ClienteDTO::getId))
+                .toList();
+        List<ClienteDTO> merged = new ArrayList<>(all.size());
+        for (ClienteDTO cliente : all) {
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).getId().equals(cliente.getId())) {
+                merged.add(cliente);
+            }
+        }
+        return merged;
+    }
+}
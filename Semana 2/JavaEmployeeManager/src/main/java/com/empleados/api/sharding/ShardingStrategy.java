@@ -0,0 +1,58 @@
+package com.empleados.api.sharding;
+
+import com.empleados.api.dto.ClienteDTO;
+
+/**
+ * How clientes are partitioned across shards.
+ * <p>
+ * Keys are placed with jump consistent hashing (Lamping and Veach), so growing from N to
+ * N + 1 shards only moves the rows that belong to the new shard, about 1/(N + 1) of them.
+ */
+public enum ShardingStrategy {
+
+    /**
+     * Spread by id: lookups by id touch one shard, lookups by ciudad touch all of them
+     */
+    BY_ID,
+
+    /**
+     * Keep each ciudad on one shard: lookups by ciudad touch one shard, lookups by id all of them
+     */
+    BY_CIUDAD;
+
+    public int shardOf(ClienteDTO cliente, int shards) {
+        return this == BY_ID ? shardOfId(cliente.getId(), shards) : shardOfCiudad(cliente.getCiudad(), shards);
+    }
+
+    static int shardOfId(long id, int shards) {
+        return jumpConsistentHash(mix(id), shards);
+    }
+
+    static int shardOfCiudad(String ciudad, int shards) {
+        // String.hashCode is specified, so the placement is stable across JVMs
+        return jumpConsistentHash(mix(ciudad == null ? 0 : ciudad.hashCode()), shards);
+    }
+
+    static int jumpConsistentHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    /**
+     * Murmur3 finalizer: snowflake ids differ mostly in their low bits
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
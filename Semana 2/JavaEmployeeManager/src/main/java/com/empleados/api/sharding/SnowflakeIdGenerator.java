@@ -0,0 +1,55 @@
+package com.empleados.api.sharding;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Generates 64-bit ids that are unique across processes without coordination:
+ * 41 bits of milliseconds since 2024-01-01, 10 bits of node id and 12 bits of sequence.
+ * <p>
+ * Ids of one generator are strictly increasing. When the 4096 ids of a millisecond are used
+ * up, or the clock moves backwards, the generator borrows the next millisecond instead of
+ * waiting for the clock, so it never blocks.
+ */
+public class SnowflakeIdGenerator {
+
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    private long lastMillis = Long.MIN_VALUE;
+    private long sequence;
+
+    public SnowflakeIdGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("El nodo debe estar entre 0 y " + MAX_NODE + ": " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        long now = clock.getAsLong();
+        if (now > lastMillis) {
+            lastMillis = now;
+            sequence = 0;
+        } else {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                lastMillis++;
+            }
+        }
+        return ((lastMillis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+}
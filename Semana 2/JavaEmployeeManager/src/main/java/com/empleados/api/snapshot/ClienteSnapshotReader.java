@@ -0,0 +1,160 @@
+package com.empleados.api.snapshot;
+
+import com.empleados.api.dto.ClienteDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Streams clientes back from the format written by {@link ClienteSnapshotWriter}.
+ * <p>
+ * Rows are returned one at a time so arbitrarily large snapshots load in constant memory;
+ * the row count and checksum are verified when the end of the data is reached.
+ */
+public class ClienteSnapshotReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final CRC32 crc = new CRC32();
+    private final List<String> ciudades = new ArrayList<>();
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int crcFrom;
+    private long previousId;
+    private long count;
+    private boolean finished;
+
+    public ClienteSnapshotReader(InputStream in) throws IOException {
+        this.in = in;
+        require(5);
+        int magic = ((buffer[0] & 0xFF) << 24) | ((buffer[1] & 0xFF) << 16)
+                | ((buffer[2] & 0xFF) << 8) | (buffer[3] & 0xFF);
+        if (magic != ClienteSnapshotWriter.MAGIC) {
+            throw new SnapshotFormatException("El archivo no es un snapshot de clientes");
+        }
+        if (buffer[4] != ClienteSnapshotWriter.VERSION) {
+            throw new SnapshotFormatException("Versión de snapshot no soportada: " + buffer[4]);
+        }
+        position = 5;
+    }
+
+    /**
+     * The next row, or null once the end of the data has been reached and verified
+     */
+    public ClienteDTO next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        int code = (int) readVarint();
+        if (code == ClienteSnapshotWriter.END) {
+            verifyTrailer();
+            return null;
+        }
+
+        String ciudad;
+        if (code == ClienteSnapshotWriter.NULL_CIUDAD) {
+            ciudad = null;
+        } else {
+            int index = code - ClienteSnapshotWriter.FIRST_CIUDAD;
+            if (index == ciudades.size()) {
+                ciudades.add(readString());
+            } else if (index > ciudades.size()) {
+                throw new SnapshotFormatException("Código de ciudad inválido: " + code);
+            }
+            ciudad = ciudades.get(index);
+        }
+        long zigzag = readVarint();
+        previousId += (zigzag >>> 1) ^ -(zigzag & 1);
+        count++;
+        return new ClienteDTO(previousId, readString(), readString(), readString(), readString(), ciudad);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void verifyTrailer() throws IOException {
+        long expectedCount = readVarint();
+        crc.update(buffer, crcFrom, position - crcFrom);
+        crcFrom = position;
+        require(4);
+        int checksum = ((buffer[position] & 0xFF) << 24) | ((buffer[position + 1] & 0xFF) << 16)
+                | ((buffer[position + 2] & 0xFF) << 8) | (buffer[position + 3] & 0xFF);
+        position += 4;
+        crcFrom = position;
+        if (expectedCount != count) {
+            throw new SnapshotFormatException("Snapshot incompleto: " + count + " de " + expectedCount + " filas");
+        }
+        if (checksum != (int) crc.getValue()) {
+            throw new SnapshotFormatException("El checksum del snapshot no coincide");
+        }
+        finished = true;
+    }
+
+    private String readString() throws IOException {
+        long header = readVarint();
+        if (header == 0) {
+            return null;
+        }
+        int length = (int) (header - 1);
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position == limit) {
+                require(1);
+            }
+            byte b = buffer[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new SnapshotFormatException("Varint demasiado largo");
+    }
+
+    /**
+     * Make sure {@code bytes} unread bytes are buffered, compacting or growing the buffer
+     */
+    private void require(int bytes) throws IOException {
+        if (limit - position >= bytes) {
+            return;
+        }
+        crc.update(buffer, crcFrom, position - crcFrom);
+        int remaining = limit - position;
+        if (bytes > buffer.length) {
+            byte[] larger = new byte[Math.max(bytes, buffer.length * 2)];
+            System.arraycopy(buffer, position, larger, 0, remaining);
+            buffer = larger;
+        } else {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+        }
+        position = 0;
+        crcFrom = 0;
+        limit = remaining;
+        while (limit < bytes) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                throw new SnapshotFormatException("Snapshot truncado");
+            }
+            limit += read;
+        }
+    }
+}
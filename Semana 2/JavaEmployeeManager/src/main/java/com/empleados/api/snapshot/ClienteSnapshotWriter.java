@@ -0,0 +1,150 @@
+package com.empleados.api.snapshot;
+
+import com.empleados.api.dto.ClienteDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Streams clientes into the compact binary snapshot format.
+ * <p>
+ * Layout: {@code int magic, byte version}, then one entry per row and a trailer.
+ * <ul>
+ *     <li>Row: {@code varint ciudadCode, [string ciudad], zigzag-varint idDelta,
+ *     string nombre, apellido, email, telefono}</li>
+ *     <li>ciudadCode: 1 for a null ciudad, {@code 2 + n} for the n-th dictionary entry; a code
+ *     equal to {@code 2 + dictionarySize} adds the ciudad that follows to the dictionary</li>
+ *     <li>string: {@code varint (byteLength + 1)} followed by UTF-8 bytes, 0 for null</li>
+ *     <li>Trailer: {@code varint 0, varint rowCount, int crc32} of everything before the CRC</li>
+ * </ul>
+ * Rows written in id order keep every id delta in one byte.
+ */
+public class ClienteSnapshotWriter implements Closeable {
+
+    static final int MAGIC = 0x434C534E;
+    static final byte VERSION = 2;
+    static final int END = 0;
+    static final int NULL_CIUDAD = 1;
+    static final int FIRST_CIUDAD = 2;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final OutputStream out;
+    private final CRC32 crc = new CRC32();
+    private final Map<String, Integer> ciudades = new HashMap<>();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private long previousId;
+    private long count;
+    private boolean finished;
+
+    public ClienteSnapshotWriter(OutputStream out) throws IOException {
+        this.out = out;
+        ensure(5);
+        buffer[position++] = (byte) (MAGIC >>> 24);
+        buffer[position++] = (byte) (MAGIC >>> 16);
+        buffer[position++] = (byte) (MAGIC >>> 8);
+        buffer[position++] = (byte) MAGIC;
+        buffer[position++] = VERSION;
+    }
+
+    public void write(ClienteDTO cliente) throws IOException {
+        String ciudad = cliente.getCiudad();
+        if (ciudad == null) {
+            writeVarint(NULL_CIUDAD);
+        } else {
+            Integer code = ciudades.get(ciudad);
+            if (code == null) {
+                code = ciudades.size();
+                ciudades.put(ciudad, code);
+                writeVarint(FIRST_CIUDAD + code);
+                writeString(ciudad);
+            } else {
+                writeVarint(FIRST_CIUDAD + code);
+            }
+        }
+        long delta = cliente.getId() - previousId;
+        writeVarint((delta << 1) ^ (delta >> 63));
+        previousId = cliente.getId();
+        writeString(cliente.getNombre());
+        writeString(cliente.getApellido());
+        writeString(cliente.getEmail());
+        writeString(cliente.getTelefono());
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Write the trailer and flush; the underlying stream stays open
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        writeVarint(END);
+        writeVarint(count);
+        drain();
+        int checksum = (int) crc.getValue();
+        out.write(new byte[]{
+                (byte) (checksum >>> 24), (byte) (checksum >>> 16), (byte) (checksum >>> 8), (byte) checksum});
+        out.flush();
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarint(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length + 1L);
+        if (bytes.length > BUFFER_SIZE - MAX_VARINT_BYTES) {
+            drain();
+            crc.update(bytes);
+            out.write(bytes);
+            return;
+        }
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeVarint(long value) throws IOException {
+        ensure(MAX_VARINT_BYTES);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (BUFFER_SIZE - position < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        crc.update(buffer, 0, position);
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.empleados.api.snapshot;
+
+import com.empleados.api.repository.ClienteJdbcWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Export command: once the application is ready, streams the whole clientes table into a
+ * snapshot file and optionally shuts the application down.
+ * <p>
+ * Usage: {@code java -jar api.jar --clientes.snapshot.export=clientes.snap
+ * --clientes.snapshot.exit-after-export=true}
+ */
+public class SnapshotExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotExporter.class);
+
+    private final ClienteJdbcWriter writer;
+    private final Path target;
+    private final boolean exitAfterExport;
+
+    public SnapshotExporter(ClienteJdbcWriter writer, Path target, boolean exitAfterExport) {
+        this.writer = writer;
+        this.target = target;
+        this.exitAfterExport = exitAfterExport;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) throws IOException {
+        long rows = export();
+        if (exitAfterExport) {
+            log.info("Exportación terminada ({} clientes), cerrando la aplicación", rows);
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    /**
+     * Write the snapshot to a temporary file and move it into place
+     *
+     * @return number of rows exported
+     */
+    public long export() throws IOException {
+        long start = System.nanoTime();
+        Path absolute = target.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        long rows;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 256 * 1024);
+             ClienteSnapshotWriter snapshot = new ClienteSnapshotWriter(out)) {
+            writer.forEach(cliente -> {
+                try {
+                    snapshot.write(cliente);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rows = snapshot.getCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        log.info("Snapshot exportado a {}: {} clientes, {} bytes en {} ms", absolute, rows,
+                Files.size(absolute), (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+}
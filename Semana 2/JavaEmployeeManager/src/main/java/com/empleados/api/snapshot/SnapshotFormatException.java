@@ -0,0 +1,15 @@
+package com.empleados.api.snapshot;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a snapshot file is truncated, corrupt or of an unknown version
+ */
+public class SnapshotFormatException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SnapshotFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,47 @@
+package com.empleados.api.snapshot;
+
+import com.empleados.api.repository.ClienteJdbcWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.BufferedInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Startup mode that bulk-loads a snapshot file into an empty clientes table before the
+ * application starts serving, instead of seeding or importing row by row. A table that
+ * already has data (for instance restored from the journal) is left untouched.
+ */
+public class SnapshotImporter implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotImporter.class);
+
+    private final ClienteJdbcWriter writer;
+    private final Path source;
+
+    public SnapshotImporter(ClienteJdbcWriter writer, Path source) {
+        this.writer = writer;
+        this.source = source;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (writer.count() > 0) {
+            log.info("La tabla clientes ya tiene datos, no se importa {}", source);
+            return;
+        }
+        long start = System.nanoTime();
+        long rows;
+        try (ClienteSnapshotReader reader = new ClienteSnapshotReader(
+                new BufferedInputStream(Files.newInputStream(source), 256 * 1024))) {
+            rows = writer.bulkInsert(reader);
+        } catch (Exception e) {
+            writer.deleteAll();
+            throw e;
+        }
+        writer.restartSequence();
+        log.info("Snapshot {} importado: {} clientes en {} ms", source, rows, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,141 @@
+package com.empleados.api.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counting Bloom filter over strings with 4-bit counters, safe for concurrent use.
+ * <p>
+ * {@link #mightContain(String)} never returns false for a value that was added and not
+ * removed since; it may return true for a value that was never added, with roughly the
+ * false-positive rate the filter was sized for. Unlike a plain Bloom filter, values can be
+ * removed. A counter that reaches 15 saturates and is never decremented again, which can
+ * only add false positives.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long MAX_COUNT = (1L << COUNTER_BITS) - 1;
+
+    private final AtomicLongArray words;
+    private final int counters;
+    private final int hashes;
+
+    public CountingBloomFilter(int counters, int hashes) {
+        if (counters <= 0 || hashes <= 0) {
+            throw new IllegalArgumentException("El número de contadores y de funciones hash debe ser positivo");
+        }
+        this.counters = counters;
+        this.hashes = hashes;
+        this.words = new AtomicLongArray((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+    }
+
+    /**
+     * Size a filter for the expected number of values and false-positive probability
+     */
+    public static CountingBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int k = (int) Math.max(1, Math.round((double) m / n * ln2));
+        return new CountingBloomFilter((int) Math.min(m, Integer.MAX_VALUE - 64), k);
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashes; i++) {
+            update(index(hash, i), 1);
+        }
+    }
+
+    /**
+     * Remove one occurrence of the value
+     *
+     * @return false, and nothing changes, when the value was definitely not in the filter
+     */
+    public boolean remove(String value) {
+        if (!mightContain(value)) {
+            return false;
+        }
+        long hash = hash(value);
+        for (int i = 0; i < hashes; i++) {
+            update(index(hash, i), -1);
+        }
+        return true;
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashes; i++) {
+            if (count(index(hash, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getCounters() {
+        return counters;
+    }
+
+    public int getHashes() {
+        return hashes;
+    }
+
+    /**
+     * Memory held by the counters, in bytes
+     */
+    public long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private long count(int index) {
+        return (words.get(index / COUNTERS_PER_WORD) >>> shift(index)) & MAX_COUNT;
+    }
+
+    private void update(int index, int delta) {
+        int word = index / COUNTERS_PER_WORD;
+        int shift = shift(index);
+        while (true) {
+            long current = words.get(word);
+            long count = (current >>> shift) & MAX_COUNT;
+            if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+                return;
+            }
+            long updated = current + ((long) delta << shift);
+            if (words.compareAndSet(word, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    private static int shift(int index) {
+        return (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+    }
+
+    /**
+     * i-th counter for the value by double hashing the two halves of its 64-bit hash
+     */
+    private int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + i * h2, counters);
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, finished with the MurmurHash3 mixer
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,25 @@
+package com.empleados.api.util;
+
+import java.util.Locale;
+
+/**
+ * Parts of the email addresses used for searching
+ */
+public final class EmailAddresses {
+
+    private EmailAddresses() {
+    }
+
+    /**
+     * @return the part after the last {@code @}, trimmed and in lower case; null when the value
+     *         is null or has no domain
+     */
+    public static String domain(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        String domain = at >= 0 ? email.substring(at + 1).trim().toLowerCase(Locale.ROOT) : "";
+        return domain.isEmpty() ? null : domain;
+    }
+}
@@ -0,0 +1,56 @@
+package com.empleados.api.util;
+
+/**
+ * Canonical form of the telefono values: only their digits are stored, so "55-1234-5678",
+ * "(55) 1234 5678" and "5512345678" are the same number.
+ * <p>
+ * The digits are also kept in reverse order: a search by the last digits of a number then
+ * becomes a search by prefix, which an ordinary index answers with a range scan instead of
+ * a full scan with {@code LIKE '%digits'}.
+ */
+public final class PhoneNumbers {
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * @return the digits of the value in order, an empty string when it has none, null for null
+     */
+    public static String digits(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder digits = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits != null) {
+                    digits.append(c);
+                }
+            } else if (digits == null) {
+                // Most values are digits already and are returned as they are
+                digits = new StringBuilder(value.length()).append(value, 0, i);
+            }
+        }
+        return digits == null ? value : digits.toString();
+    }
+
+    /**
+     * @return the digits of the value, last digit first; null for null
+     */
+    public static String reversed(String value) {
+        String digits = digits(value);
+        return digits == null ? null : new StringBuilder(digits).reverse().toString();
+    }
+
+    /**
+     * Smallest string greater than every string starting with the given digit prefix, the
+     * exclusive upper bound of a prefix range scan
+     *
+     * @param prefix a non-empty string of digits
+     */
+    public static String prefixUpperBound(String prefix) {
+        int last = prefix.length() - 1;
+        return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+    }
+}
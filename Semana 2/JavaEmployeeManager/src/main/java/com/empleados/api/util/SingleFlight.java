@@ -0,0 +1,112 @@
+package com.empleados.api.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * <p>
+ * The first caller for a key (the leader) runs the loader on its own thread; callers that
+ * arrive while it is running wait for the same result, or the same exception, instead of
+ * running the loader again. Nothing is cached: once the leader finishes the key is released
+ * and the next call executes again.
+ *
+ * @param <K> key type
+ * @param <V> result type, shared between all coalesced callers
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Run the loader for the key, or join the call already in flight for it
+     *
+     * @param timeout how long a joining caller waits for the leader
+     * @throws TimeoutExceededException when a joining caller gives up waiting
+     */
+    public V execute(K key, Duration timeout, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing == null) {
+            return lead(key, call, loader);
+        }
+        coalesced.increment();
+        return await(key, existing, timeout);
+    }
+
+    /**
+     * Detach the call in flight for the key so the next caller executes again. Used after
+     * writes, when a read that started earlier may return data older than the write.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Detach every call in flight
+     */
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+        executions.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(K key, CompletableFuture<V> call, Duration timeout) {
+        try {
+            return call.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (java.util.concurrent.TimeoutException e) {
+            throw new TimeoutExceededException(key, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando la llamada en curso para " + key, e);
+        }
+    }
+
+    /**
+     * Thrown to a caller that waited longer than its timeout for the call in flight
+     */
+    public static class TimeoutExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public TimeoutExceededException(Object key, Duration timeout) {
+            super("Tiempo de espera agotado (" + timeout.toMillis() + " ms) para la llamada en curso de " + key);
+        }
+    }
+}
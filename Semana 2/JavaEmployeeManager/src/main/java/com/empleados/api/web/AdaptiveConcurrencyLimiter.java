@@ -0,0 +1,127 @@
+package com.empleados.api.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limiter whose limit follows the observed latency, in the style of the
+ * gradient algorithm: a short and a long exponential average of the request latency are
+ * kept and, when the short one grows over the long one (requests start queueing), the limit
+ * shrinks proportionally. While latency stays flat the limit grows by roughly the square root
+ * of itself per sample. Failed requests (server errors) apply a multiplicative decrease.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600 + 1);
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Se requiere 1 <= min <= inicial <= max para el limitador " + name);
+        }
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Try to take a slot. Callers that get {@code true} must call {@link #release} exactly once.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give the slot back and feed the latency of the request into the limit
+     *
+     * @param rttNanos how long the request took
+     * @param dropped whether the request failed because of the server (overload, timeout)
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        update(rttNanos, dropped, current);
+    }
+
+    private synchronized void update(long rttNanos, boolean dropped, int inFlightAtCompletion) {
+        double estimated = limit;
+        double newLimit;
+
+        if (dropped) {
+            newLimit = estimated * DROP_BACKOFF;
+        } else {
+            if (shortRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+            }
+            shortRtt += SHORT_WINDOW_ALPHA * (rttNanos - shortRtt);
+            longRtt += LONG_WINDOW_ALPHA * (rttNanos - longRtt);
+
+            // Do not grow the limit when the application is not using it
+            if (inFlightAtCompletion < estimated / 2) {
+                return;
+            }
+            // Let the long-term baseline recover quickly after a latency regime change
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+            newLimit = estimated * gradient + Math.sqrt(estimated);
+            newLimit = estimated * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    /**
+     * Forget the latency observed so far, e.g. the slow requests of a cold JVM, so the next
+     * sample starts a new baseline. The limit itself is kept.
+     */
+    public synchronized void resetLatency() {
+        shortRtt = 0;
+        longRtt = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
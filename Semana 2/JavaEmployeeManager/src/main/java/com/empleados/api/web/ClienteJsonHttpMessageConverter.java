@@ -0,0 +1,83 @@
+package com.empleados.api.web;
+
+import com.empleados.api.dto.ClienteDTO;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Write-only converter for {@link ClienteDTO} and collections of it, declared as such in the
+ * handler signature, through {@link ClienteJsonWriter}. Registered ahead of the Jackson
+ * converter; every other type, and every request body, is left to Jackson.
+ */
+public class ClienteJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public ClienteJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ClienteDTO.class == clazz || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isClienteType(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ClienteJsonWriter writer = new ClienteJsonWriter(outputMessage.getBody());
+        if (value instanceof Collection<?> clientes) {
+            @SuppressWarnings("unchecked")
+            Collection<ClienteDTO> typed = (Collection<ClienteDTO>) clientes;
+            writer.writeArray(typed);
+        } else {
+            writer.write((ClienteDTO) value);
+        }
+        writer.flush();
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Conversor solo de escritura", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Conversor solo de escritura", inputMessage);
+    }
+
+    /**
+     * Whether the declared type is ClienteDTO or a collection whose element type is exactly ClienteDTO
+     */
+    private static boolean isClienteType(Type type) {
+        if (type == ClienteDTO.class) {
+            return true;
+        }
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && Collection.class.isAssignableFrom(raw)
+                && parameterized.getActualTypeArguments()[0] == ClienteDTO.class;
+    }
+}
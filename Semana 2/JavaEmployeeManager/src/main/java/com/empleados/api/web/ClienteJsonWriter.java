@@ -0,0 +1,223 @@
+package com.empleados.api.web;
+
+import com.empleados.api.dto.ClienteDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes clientes as UTF-8 JSON straight into a byte buffer, producing the same bytes as the
+ * application's Jackson {@code ObjectMapper} for {@link ClienteDTO}: fields in declaration
+ * order, nulls included, quotes, backslashes, control characters and surrogates escaped.
+ * <p>
+ * Field names and punctuation are encoded once; strings are encoded char by char without
+ * intermediate arrays.
+ */
+public class ClienteJsonWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    /** A char never takes more than a six-byte unicode escape */
+    private static final int MAX_BYTES_PER_CHAR = 6;
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] NOMBRE = ascii(",\"nombre\":");
+    private static final byte[] APELLIDO = ascii(",\"apellido\":");
+    private static final byte[] EMAIL = ascii(",\"email\":");
+    private static final byte[] TELEFONO = ascii(",\"telefono\":");
+    private static final byte[] CIUDAD = ascii(",\"ciudad\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    /** 0: written as is, -1: unicode escape, otherwise the letter of the short escape */
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = -1;
+        }
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+    }
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    public ClienteJsonWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Write the clientes as a JSON array
+     */
+    public void writeArray(Iterable<ClienteDTO> clientes) throws IOException {
+        ensure(1);
+        buffer[position++] = '[';
+        boolean first = true;
+        for (ClienteDTO cliente : clientes) {
+            if (!first) {
+                ensure(1);
+                buffer[position++] = ',';
+            }
+            write(cliente);
+            first = false;
+        }
+        ensure(1);
+        buffer[position++] = ']';
+    }
+
+    /**
+     * Write one cliente as a JSON object, or {@code null}
+     */
+    public void write(ClienteDTO cliente) throws IOException {
+        if (cliente == null) {
+            writeRaw(NULL);
+            return;
+        }
+        writeRaw(ID);
+        writeLong(cliente.getId());
+        writeRaw(NOMBRE);
+        writeString(cliente.getNombre());
+        writeRaw(APELLIDO);
+        writeString(cliente.getApellido());
+        writeRaw(EMAIL);
+        writeString(cliente.getEmail());
+        writeRaw(TELEFONO);
+        writeString(cliente.getTelefono());
+        writeRaw(CIUDAD);
+        writeString(cliente.getCiudad());
+        ensure(1);
+        buffer[position++] = '}';
+    }
+
+    /**
+     * Write one cliente followed by a newline, as a line of NDJSON
+     */
+    public void writeLine(ClienteDTO cliente) throws IOException {
+        write(cliente);
+        ensure(1);
+        buffer[position++] = '\n';
+    }
+
+    /**
+     * Write out the buffered bytes and flush; the underlying stream stays open
+     */
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private void writeLong(Long value) throws IOException {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        long v = value;
+        if (v == Long.MIN_VALUE) {
+            writeRaw(ascii(Long.toString(v)));
+            return;
+        }
+        ensure(20);
+        if (v < 0) {
+            buffer[position++] = '-';
+            v = -v;
+        }
+        int digits = 1;
+        for (long rest = v / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
+        position = end;
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        ensure(MAX_BYTES_PER_CHAR);
+        byte[] buf = buffer;
+        int pos = position;
+        int limit = BUFFER_SIZE - MAX_BYTES_PER_CHAR;
+        buf[pos++] = '"';
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (pos > limit) {
+                position = pos;
+                drain();
+                pos = 0;
+            }
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte escape = ESCAPES[c];
+                if (escape == 0) {
+                    buf[pos++] = (byte) c;
+                } else {
+                    buf[pos++] = '\\';
+                    if (escape > 0) {
+                        buf[pos++] = escape;
+                    } else {
+                        buf[pos++] = 'u';
+                        buf[pos++] = '0';
+                        buf[pos++] = '0';
+                        buf[pos++] = HEX[c >> 4];
+                        buf[pos++] = HEX[c & 0xF];
+                    }
+                }
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                // Like Jackson, characters outside the BMP are written as escaped surrogates
+                buf[pos++] = '\\';
+                buf[pos++] = 'u';
+                buf[pos++] = HEX[c >> 12];
+                buf[pos++] = HEX[(c >> 8) & 0xF];
+                buf[pos++] = HEX[(c >> 4) & 0xF];
+                buf[pos++] = HEX[c & 0xF];
+            }
+        }
+        if (pos == BUFFER_SIZE) {
+            position = pos;
+            drain();
+            pos = 0;
+        }
+        buf[pos++] = '"';
+        position = pos;
+    }
+
+    private void writeRaw(byte[] bytes) throws IOException {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (BUFFER_SIZE - position < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,88 @@
+package com.empleados.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Filter that sheds load on the clientes API once the adaptive concurrency limit is reached.
+ * <p>
+ * Reads and writes (including batch and bulk operations) have independent limiters so a burst
+ * of slow writes cannot starve the read path. Excess requests are rejected immediately with
+ * 503 and a Retry-After header instead of queueing in the container.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final int retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter readLimiter,
+                                  AdaptiveConcurrencyLimiter writeLimiter,
+                                  int retryAfterSeconds,
+                                  ObjectMapper objectMapper) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            reject(request, response, limiter);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter getReadLimiter() {
+        return readLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getWriteLimiter() {
+        return writeLimiter;
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        AdaptiveConcurrencyLimiter limiter) throws IOException {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("message", "Servicio saturado: se alcanzó el límite de " + limiter.getLimit()
+                + " peticiones concurrentes de tipo " + limiter.getName());
+        error.put("details", "Reintente más tarde");
+        error.put("path", "uri=" + request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
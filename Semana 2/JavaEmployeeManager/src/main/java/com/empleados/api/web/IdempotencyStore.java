@@ -0,0 +1,144 @@
+package com.empleados.api.web;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Bounded, TTL-evicting store of responses indexed by Idempotency-Key.
+ * <p>
+ * Entries are registered when the first request with a key arrives and completed once its
+ * response is known, so concurrent requests with the same key wait for that single execution
+ * instead of running it again. Because every entry lives for the same TTL, the insertion
+ * queue is also the expiry order and expiry only has to look at its head. Over capacity the
+ * oldest completed entries go first; an entry still in flight is never evicted for room, since
+ * a retry of its key would run the request a second time.
+ */
+public class IdempotencyStore {
+
+    /**
+     * Response captured for a key
+     */
+    public record StoredResponse(int status, String contentType, String location, byte[] body) {
+    }
+
+    /**
+     * Entry for a key, in flight until its future completes
+     */
+    public static final class Entry {
+
+        private final String key;
+        private final String fingerprint;
+        private final long createdAt;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+        private Entry(String key, String fingerprint, long createdAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public CompletableFuture<StoredResponse> getResponse() {
+            return response;
+        }
+    }
+
+    /**
+     * Result of {@link #reserve}: either a new entry owned by the caller or an existing one
+     */
+    public record Reservation(Entry entry, boolean owner) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    public IdempotencyStore(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    public IdempotencyStore(int maxEntries, Duration ttl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Return the live entry for the key, or register a new one owned by the caller
+     */
+    public Reservation reserve(String key, String fingerprint) {
+        evict();
+        long now = clock.millis();
+        Entry[] created = new Entry[1];
+        Entry entry = entries.compute(key, (k, current) -> {
+            if (current != null && !isExpired(current, now)) {
+                return current;
+            }
+            created[0] = new Entry(k, fingerprint, now);
+            return created[0];
+        });
+        if (created[0] != null) {
+            insertionOrder.add(created[0]);
+            return new Reservation(entry, true);
+        }
+        return new Reservation(entry, false);
+    }
+
+    /**
+     * Store the response of an owned entry. Server errors are handed to the requests already
+     * waiting but not kept, so a later retry executes again.
+     */
+    public void complete(Entry entry, StoredResponse response) {
+        if (response.status() >= 500) {
+            entries.remove(entry.key, entry);
+        }
+        entry.response.complete(response);
+    }
+
+    /**
+     * Propagate a failure of an owned entry to the waiting requests and forget the key
+     */
+    public void fail(Entry entry, Throwable error) {
+        entries.remove(entry.key, entry);
+        entry.response.completeExceptionally(error);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = clock.millis();
+        Entry head;
+        while ((head = insertionOrder.peek()) != null
+                && (isExpired(head, now) || entries.get(head.key) != head)) {
+            if (insertionOrder.remove(head)) {
+                entries.remove(head.key, head);
+            }
+        }
+        // Only skips entries while the oldest ones are in flight, usually the head is completed
+        Iterator<Entry> oldest = insertionOrder.iterator();
+        while (entries.size() >= maxEntries && oldest.hasNext()) {
+            Entry entry = oldest.next();
+            if (entry.response.isDone()) {
+                oldest.remove();
+                entries.remove(entry.key, entry);
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.createdAt >= ttlMillis;
+    }
+}
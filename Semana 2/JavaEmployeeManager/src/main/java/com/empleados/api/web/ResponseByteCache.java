@@ -0,0 +1,181 @@
+package com.empleados.api.web;
+
+import com.empleados.api.event.ClienteChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized response bodies of the hot read endpoints, keyed by request and valid for one
+ * data version.
+ * <p>
+ * Every change of the clientes table bumps the version twice: when the change is published,
+ * inside the writing transaction, and again once that transaction completes. A response is
+ * only stored under the version read before it was produced, so a reader that overlaps a
+ * write either stores under a version the second bump already retired or sees the committed
+ * data. The TTL bounds staleness for data the version does not track, such as a lagging
+ * database replica behind the read/write router.
+ */
+public class ResponseByteCache {
+
+    /** Bodies smaller than this are not worth compressing */
+    static final int GZIP_MIN_SIZE = 1024;
+
+    /**
+     * Stored representation of one response
+     *
+     * @param gzipBody the body compressed ahead of time, or null
+     * @param etag     strong validator of {@code body}, quoted
+     */
+    public record CachedResponse(long version, long createdAt, String contentType, byte[] body,
+                                 byte[] gzipBody, String etag) {
+    }
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final int maxEntries;
+    private final long maxEntrySize;
+    private final long ttlMillis;
+    private final boolean gzip;
+    private final Clock clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseByteCache(int maxEntries, long maxEntrySize, Duration ttl, boolean gzip) {
+        this(maxEntries, maxEntrySize, ttl, gzip, Clock.systemUTC());
+    }
+
+    public ResponseByteCache(int maxEntries, long maxEntrySize, Duration ttl, boolean gzip, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.maxEntrySize = maxEntrySize;
+        this.ttlMillis = ttl.toMillis();
+        this.gzip = gzip;
+        this.clock = clock;
+    }
+
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * @return the response stored for the key if it belongs to the current version and has not expired
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null || cached.version() != version.get() || clock.millis() - cached.createdAt() > ttlMillis) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cached;
+    }
+
+    /**
+     * Store a response produced while {@code version} was current
+     *
+     * @return the stored entry, or null when the data changed meanwhile or the body is too large
+     */
+    public CachedResponse put(String key, long version, String contentType, byte[] body) {
+        if (body.length > maxEntrySize) {
+            return null;
+        }
+        CachedResponse cached = new CachedResponse(version, clock.millis(), contentType, body,
+                gzip && body.length >= GZIP_MIN_SIZE ? gzip(body) : null, etag(body));
+        if (version != this.version.get()) {
+            return null;
+        }
+        entries.put(key, cached);
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+        return cached;
+    }
+
+    /**
+     * Retire every stored response
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    @EventListener
+    public void onChange(ClienteChangeEvent event) {
+        invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ResponseByteCache.this);
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long storedBytes() {
+        return entries.values().stream()
+                .mapToLong(cached -> cached.body().length + (cached.gzipBody() != null ? cached.gzipBody().length : 0))
+                .sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Drop retired entries, then the oldest ones until the cache is within its bound
+     */
+    private void evict() {
+        long current = version.get();
+        entries.values().removeIf(cached -> cached.version() != current);
+        while (entries.size() > maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().createdAt()))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + HexFormat.of().formatHex(digest, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
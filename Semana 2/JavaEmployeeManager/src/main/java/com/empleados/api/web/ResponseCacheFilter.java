@@ -0,0 +1,132 @@
+package com.empleados.api.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Enumeration;
+
+/**
+ * Filter serving the hot clientes collections ({@code /api/clientes}, {@code /ciudad/{ciudad}}
+ * and {@code /estadisticas}) from a {@link ResponseByteCache}.
+ * <p>
+ * Entries are kept per path and Accept header, so each negotiated format is cached on its own.
+ * A hit writes the stored bytes with their Content-Length and ETag, gzip-compressed when the
+ * caller accepts it and a compressed copy exists, and answers 304 to a matching
+ * If-None-Match; neither the controller nor the database is reached. A miss runs the request
+ * and stores a successful body.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "Response-Cache";
+
+    private static final String BASE_PATH = "/api/clientes";
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final ResponseByteCache cache;
+
+    public ResponseCacheFilter(ResponseByteCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || request.getQueryString() != null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path.equals(BASE_PATH) || path.equals(BASE_PATH + "/estadisticas")
+                || (path.startsWith(BASE_PATH + "/ciudad/") && path.length() > (BASE_PATH + "/ciudad/").length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String key = request.getRequestURI() + '|' + (accept != null ? accept : "*/*");
+        response.setHeader(HttpHeaders.VARY, VARY);
+
+        ResponseByteCache.CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            response.setHeader(CACHE_HEADER, "HIT");
+            write(request, response, cached);
+            return;
+        }
+
+        long version = cache.currentVersion();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpStatus.OK.value() && wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) == null) {
+            cached = cache.put(key, version, wrapper.getContentType(), wrapper.getContentAsByteArray());
+            if (cached != null) {
+                response.setHeader(HttpHeaders.ETAG, cached.etag());
+            }
+        }
+        response.setHeader(CACHE_HEADER, "MISS");
+        if (cached != null && matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response,
+                       ResponseByteCache.CachedResponse cached) throws IOException {
+        boolean gzip = cached.gzipBody() != null && acceptsGzip(request);
+        // The compressed representation is a different entity and needs its own validator
+        String etag = gzip ? cached.etag().substring(0, cached.etag().length() - 1) + "-gzip\"" : cached.etag();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        byte[] body = gzip ? cached.gzipBody() : cached.body();
+        response.setStatus(HttpStatus.OK.value());
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> values = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (values.hasMoreElements()) {
+            for (String coding : values.nextElement().split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase(GZIP)
+                        && !(parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Weak comparison of If-None-Match against the current validator, as required for GET
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*") || (candidate.startsWith("W/") ? candidate.substring(2) : candidate).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
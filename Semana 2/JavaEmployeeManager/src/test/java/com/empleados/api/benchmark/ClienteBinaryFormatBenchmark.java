@@ -0,0 +1,85 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Payload size and encode/decode time of a ClienteDTO list in JSON, CBOR and Smile, with the
+ * same Jackson data binding the REST API uses for each format.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=ClienteBinaryFormatBenchmark}.
+ */
+class ClienteBinaryFormatBenchmark {
+
+    private static final String[] CIUDADES = {"CDMX", "Monterrey", "Guadalajara", "Puebla", "EDOMEX",
+            "Tijuana", "León", "Querétaro", "Mérida", "Cancún"};
+    private static final int SIZE = 10_000;
+    private static final int WARMUP_MILLIS = 2_000;
+    private static final int MEASURE_MILLIS = 2_000;
+    private static final TypeReference<List<ClienteDTO>> LIST = new TypeReference<>() {};
+
+    private interface Task {
+        void run() throws IOException;
+    }
+
+    private static List<ClienteDTO> clientes() {
+        List<ClienteDTO> clientes = new ArrayList<>(SIZE);
+        for (long id = 1; id <= SIZE; id++) {
+            clientes.add(new ClienteDTO(id, "Nombre" + (id % 1000), "Apellido" + (id % 5000),
+                    "cliente" + id + "@example.com", String.valueOf(5_550_000_000L + id), CIUDADES[(int) (id % CIUDADES.length)]));
+        }
+        return clientes;
+    }
+
+    /**
+     * @return microseconds per run
+     */
+    private static double time(Task task) throws IOException {
+        long end = System.nanoTime() + WARMUP_MILLIS * 1_000_000L;
+        while (System.nanoTime() < end) {
+            task.run();
+        }
+        long runs = 0;
+        long start = System.nanoTime();
+        end = start + MEASURE_MILLIS * 1_000_000L;
+        while (System.nanoTime() < end) {
+            task.run();
+            runs++;
+        }
+        return (System.nanoTime() - start) / 1_000.0 / runs;
+    }
+
+    @Test
+    @DisplayName("Benchmark: tamaño y coste de codificación de JSON frente a CBOR y Smile")
+    void compareFormats() throws IOException {
+        List<ClienteDTO> clientes = clientes();
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", new ObjectMapper());
+        formats.put("cbor", new CBORMapper());
+        formats.put("smile", new SmileMapper());
+
+        System.out.printf("%d clientes%n%-8s %12s %14s %14s%n", SIZE, "formato", "bytes", "codificar µs", "decodificar µs");
+        for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+            byte[] encoded = mapper.writeValueAsBytes(clientes);
+            assertEquals(clientes, mapper.readValue(encoded, LIST));
+
+            double encode = time(() -> mapper.writeValueAsBytes(clientes));
+            double decode = time(() -> mapper.readValue(encoded, LIST));
+            System.out.printf("%-8s %12d %14.1f %14.1f%n", format.getKey(), encoded.length, encode, decode);
+        }
+    }
+}
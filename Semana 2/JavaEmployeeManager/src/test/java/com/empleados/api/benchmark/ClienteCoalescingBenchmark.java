@@ -0,0 +1,108 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.replica.ClienteReadReplica;
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.service.impl.ClienteServiceImpl;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hot-key benchmark for read coalescing: many threads request the same cliente while every
+ * repository call takes a fixed latency. Compares repository calls and throughput with
+ * coalescing enabled and disabled.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+class ClienteCoalescingBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 200;
+    private static final long DB_LATENCY_MICROS = 500;
+
+    private record Result(long repositoryCalls, long elapsedNanos) {
+        double throughput() {
+            return THREADS * REQUESTS_PER_THREAD / (elapsedNanos / 1e9);
+        }
+    }
+
+    /**
+     * Repository stand-in that counts findById calls and simulates database latency
+     */
+    private static ClienteRepository slowRepository(AtomicLong calls) {
+        return (ClienteRepository) Proxy.newProxyInstance(
+                ClienteRepository.class.getClassLoader(),
+                new Class<?>[]{ClienteRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    calls.incrementAndGet();
+                    long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(DB_LATENCY_MICROS);
+                    while (System.nanoTime() < until) {
+                        Thread.onSpinWait();
+                    }
+                    return Optional.of(TestDataBuilder.createCliente());
+                });
+    }
+
+    private static Result run(boolean coalescing) throws Exception {
+        AtomicLong calls = new AtomicLong();
+        // Only lookups by id are measured, they never reach the ciudad dictionary or the email filter
+        ClienteServiceImpl service = new ClienteServiceImpl(slowRepository(calls), event -> { },
+                new ClienteReadReplica(), null, null);
+        service.setCoalescingEnabled(coalescing);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    service.getClienteById(1L);
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return new Result(calls.get(), elapsed);
+    }
+
+    @Test
+    @DisplayName("Benchmark: llamadas al repositorio con y sin agrupación de lecturas")
+    void hotKey_CoalescingShouldReduceRepositoryCalls() throws Exception {
+        // Warm-up
+        run(false);
+        run(true);
+
+        Result baseline = run(false);
+        Result coalesced = run(true);
+
+        System.out.printf("%-12s %12s %14s%n", "modo", "llamadas BD", "peticiones/s");
+        System.out.printf("%-12s %12d %14.0f%n", "sin agrupar", baseline.repositoryCalls(), baseline.throughput());
+        System.out.printf("%-12s %12d %14.0f%n", "agrupado", coalesced.repositoryCalls(), coalesced.throughput());
+
+        assertTrue(coalesced.repositoryCalls() < baseline.repositoryCalls() / 4,
+                "La agrupación debería reducir las llamadas a la base de datos");
+    }
+}
@@ -0,0 +1,141 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.export.ExportCompression;
+import com.empleados.api.export.ExportFormat;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Size and throughput of the NDJSON and Arrow IPC exports, written through the same
+ * {@link ExportFormat} and {@link ExportCompression} path the export jobs use, and the cost of
+ * loading each uncompressed file back: Jackson parsing every NDJSON line into a ClienteDTO
+ * against the Arrow reader loading the record batches.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=ClienteColumnarExportBenchmark}.
+ */
+class ClienteColumnarExportBenchmark {
+
+    private static final String[] CIUDADES = {"CDMX", "Monterrey", "Guadalajara", "Puebla", "EDOMEX",
+            "Tijuana", "León", "Querétaro", "Mérida", "Cancún"};
+    private static final int SIZE = 500_000;
+    private static final int RUNS = 5;
+
+    private interface Task {
+        void run() throws IOException;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+
+    private static List<ClienteDTO> clientes() {
+        List<ClienteDTO> clientes = new ArrayList<>(SIZE);
+        for (long id = 1; id <= SIZE; id++) {
+            clientes.add(new ClienteDTO(id, "Nombre" + (id % 1000), "Apellido" + (id % 5000),
+                    "cliente" + id + "@example.com", String.valueOf(5_550_000_000L + id), CIUDADES[(int) (id % CIUDADES.length)]));
+        }
+        return clientes;
+    }
+
+    private static void export(List<ClienteDTO> clientes, ExportFormat format, ExportCompression compression,
+                               OutputStream target) throws IOException {
+        try (OutputStream out = compression.wrap(target)) {
+            ExportFormat.RowWriter writer = format.open(out);
+            for (ClienteDTO cliente : clientes) {
+                writer.write(cliente);
+            }
+            writer.finish();
+        }
+    }
+
+    /**
+     * @return best of {@link #RUNS} runs after one warm-up run, in milliseconds
+     */
+    private static double time(Task task) throws IOException {
+        task.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    private static byte[] exported(List<ClienteDTO> clientes, ExportFormat format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        export(clientes, format, ExportCompression.NONE, bytes);
+        return bytes.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Benchmark: exportación NDJSON frente a Arrow IPC, tamaño y rendimiento")
+    void compareExports() throws IOException {
+        List<ClienteDTO> clientes = clientes();
+
+        System.out.printf("%d clientes%n%-8s %-6s %12s %10s %14s%n", SIZE, "formato", "comp.", "bytes", "ms", "filas/s");
+        for (ExportFormat format : new ExportFormat[]{ExportFormat.NDJSON, ExportFormat.ARROW}) {
+            for (ExportCompression compression : ExportCompression.values()) {
+                CountingOutputStream counter = new CountingOutputStream();
+                export(clientes, format, compression, counter);
+                double millis = time(() -> export(clientes, format, compression, new CountingOutputStream()));
+                System.out.printf("%-8s %-6s %12d %10.1f %14.0f%n", format, compression, counter.bytes, millis,
+                        SIZE / millis * 1000);
+            }
+        }
+
+        byte[] ndjson = exported(clientes, ExportFormat.NDJSON);
+        byte[] arrow = exported(clientes, ExportFormat.ARROW);
+        ObjectReader reader = new ObjectMapper().readerFor(ClienteDTO.class);
+        long[] rows = new long[1];
+        double ndjsonLoad = time(() -> {
+            rows[0] = 0;
+            try (MappingIterator<ClienteDTO> lines = reader.readValues(ndjson)) {
+                while (lines.hasNext()) {
+                    lines.next();
+                    rows[0]++;
+                }
+            }
+        });
+        assertEquals(SIZE, rows[0]);
+        double arrowLoad;
+        try (BufferAllocator allocator = new RootAllocator()) {
+            arrowLoad = time(() -> {
+                rows[0] = 0;
+                try (ArrowStreamReader stream = new ArrowStreamReader(new ByteArrayInputStream(arrow), allocator)) {
+                    while (stream.loadNextBatch()) {
+                        rows[0] += stream.getVectorSchemaRoot().getRowCount();
+                    }
+                }
+            });
+        }
+        assertEquals(SIZE, rows[0]);
+        System.out.printf("carga sin comprimir: ndjson %.1f ms, arrow %.1f ms%n", ndjsonLoad, arrowLoad);
+    }
+}
@@ -0,0 +1,107 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.web.ClienteJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Serialization of ClienteDTO lists with the stock Jackson ObjectMapper and with
+ * {@link ClienteJsonWriter}, into a stream that only counts bytes.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=ClienteJsonSerializationBenchmark}.
+ */
+class ClienteJsonSerializationBenchmark {
+
+    private static final String[] CIUDADES = {"CDMX", "Monterrey", "Guadalajara", "Puebla", "EDOMEX",
+            "Tijuana", "León", "Querétaro", "Mérida", "Cancún"};
+    private static final int WARMUP_MILLIS = 3_000;
+    private static final int MEASURE_MILLIS = 3_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private interface Serializer {
+        void write(List<ClienteDTO> clientes, OutputStream out) throws IOException;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+
+    private static List<ClienteDTO> clientes(int size) {
+        List<ClienteDTO> clientes = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            clientes.add(new ClienteDTO(id, "Nombre" + (id % 1000), "Apellido" + (id % 5000),
+                    "cliente" + id + "@example.com", String.valueOf(5_550_000_000L + id), CIUDADES[(int) (id % CIUDADES.length)]));
+        }
+        return clientes;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * @return {microseconds per list, allocated bytes per list, output bytes per list}
+     */
+    private static double[] measure(List<ClienteDTO> clientes, Serializer serializer) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        long end = System.nanoTime() + WARMUP_MILLIS * 1_000_000L;
+        while (System.nanoTime() < end) {
+            serializer.write(clientes, out);
+        }
+        out.bytes = 0;
+        long iterations = 0;
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        end = start + MEASURE_MILLIS * 1_000_000L;
+        while (System.nanoTime() < end) {
+            serializer.write(clientes, out);
+            iterations++;
+        }
+        long elapsed = System.nanoTime() - start;
+        return new double[]{elapsed / 1_000.0 / iterations, (double) (allocatedBytes() - allocated) / iterations,
+                (double) out.bytes / iterations};
+    }
+
+    @Test
+    @DisplayName("Benchmark: serialización de listas de clientes, Jackson frente al escritor especializado")
+    void serializeLists() throws IOException {
+        Serializer jackson = (clientes, out) -> objectMapper.writeValue(out, clientes);
+        Serializer writer = (clientes, out) -> {
+            ClienteJsonWriter json = new ClienteJsonWriter(out);
+            json.writeArray(clientes);
+            json.flush();
+        };
+
+        System.out.printf("%-10s %-10s %14s %14s %12s%n", "clientes", "escritor", "µs/lista", "bytes asig.", "MB/s");
+        for (int size : new int[]{1_000, 100_000}) {
+            List<ClienteDTO> clientes = clientes(size);
+            double[] stock = measure(clientes, jackson);
+            double[] fast = measure(clientes, writer);
+            System.out.printf("%-10d %-10s %14.1f %14.0f %12.1f%n", size, "jackson", stock[0], stock[1], stock[2] / stock[0]);
+            System.out.printf("%-10d %-10s %14.1f %14.0f %12.1f%n", size, "manual", fast[0], fast[1], fast[2] / fast[0]);
+            System.out.printf("%-10d aceleración: %.2fx%n", size, stock[0] / fast[0]);
+            assertEquals(stock[2], fast[2]);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import com.empleados.api.repository.ClienteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares heap allocation of reading every cliente as managed entities copied into DTOs
+ * against the constructor-expression projection used by the service.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dallocation.rows=50000}; defaults to 10000 rows.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:allocation-benchmark;DB_CLOSE_DELAY=-1")
+class ClienteReadAllocationBenchmark {
+
+    private static final String[] CIUDADES = {"CDMX", "Monterrey", "Guadalajara", "Puebla", "EDOMEX"};
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ClienteJdbcWriter jdbcWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private record Result(long bytesPerRead, long microsPerRead) {
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private Result measure(Supplier<List<ClienteDTO>> read, int expected) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        // Warm-up
+        for (int i = 0; i < ROUNDS; i++) {
+            assertEquals(expected, readOnly.execute(status -> read.get()).size());
+        }
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            readOnly.execute(status -> read.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result((allocatedBytes() - bytes) / ROUNDS, elapsed / ROUNDS / 1_000);
+    }
+
+    @Test
+    @DisplayName("Benchmark: memoria asignada al leer entidades frente a proyecciones DTO")
+    void readAll_ProjectionShouldAllocateLess() {
+        int rows = Integer.getInteger("allocation.rows", 10_000);
+        jdbcWriter.deleteAll();
+        List<ClienteDTO> clientes = new ArrayList<>(rows);
+        for (int id = 1; id <= rows; id++) {
+            clientes.add(new ClienteDTO((long) id, "Nombre" + (id % 1000), "Apellido" + (id % 5000),
+                    "cliente" + id + "@example.com", String.valueOf(5_550_000_000L + id), CIUDADES[id % CIUDADES.length]));
+        }
+        jdbcWriter.upsertAll(clientes);
+
+        Result entities = measure(() -> clienteRepository.findAll().stream()
+                .map(c -> new ClienteDTO(c.getId(), c.getNombre(), c.getApellido(), c.getEmail(),
+                        c.getTelefono(), c.getCiudad()))
+                .collect(Collectors.toList()), rows);
+        Result projection = measure(clienteRepository::findAllProjected, rows);
+
+        System.out.printf("filas: %d%n", rows);
+        System.out.printf("%-12s %14s %12s%n", "lectura", "bytes/lectura", "µs/lectura");
+        System.out.printf("%-12s %14d %12d%n", "entidades", entities.bytesPerRead(), entities.microsPerRead());
+        System.out.printf("%-12s %14d %12d%n", "proyección", projection.bytesPerRead(), projection.microsPerRead());
+        System.out.printf("reducción: %.1f%%%n", 100.0 * (entities.bytesPerRead() - projection.bytesPerRead())
+                / entities.bytesPerRead());
+
+        assertTrue(projection.bytesPerRead() < entities.bytesPerRead(),
+                "La proyección debería asignar menos memoria que las entidades");
+    }
+}
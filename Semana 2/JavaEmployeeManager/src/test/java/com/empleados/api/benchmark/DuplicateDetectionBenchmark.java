@@ -0,0 +1,128 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.dedup.DuplicateCandidate;
+import com.empleados.api.dedup.DuplicateDetectionResult;
+import com.empleados.api.dedup.DuplicateDetector;
+import com.empleados.api.dto.ClienteDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Scaling of the duplicate detection with the number of clientes, up to 1M, and with the
+ * parallelism of the fork/join pool at 1M.
+ * <p>
+ * Clientes get a nombre and a two-word apellido (paterno and materno) drawn from common
+ * Spanish names; 2% of them are copies of an earlier cliente with the accents dropped, the
+ * email rewritten and the phone reformatted, and recall is measured against those copies.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=DuplicateDetectionBenchmark}.
+ */
+class DuplicateDetectionBenchmark {
+
+    private static final String[] NOMBRES = {"Juan", "José", "Luis", "Carlos", "Jorge", "Miguel", "Pedro", "Raúl",
+            "Fernando", "Ricardo", "Alejandro", "Eduardo", "Francisco", "Javier", "Manuel", "Sergio", "Roberto",
+            "Andrés", "Héctor", "Óscar", "María", "Ana", "Lucía", "Sofía", "Fernanda", "Gabriela", "Patricia",
+            "Laura", "Mónica", "Verónica", "Claudia", "Adriana", "Carmen", "Rosa", "Elena", "Isabel", "Daniela",
+            "Valeria", "Ximena", "Andrea"};
+    private static final String[] APELLIDOS = {"García", "Hernández", "Martínez", "López", "González", "Pérez",
+            "Rodríguez", "Sánchez", "Ramírez", "Cruz", "Flores", "Gómez", "Morales", "Vázquez", "Reyes", "Jiménez",
+            "Torres", "Díaz", "Gutiérrez", "Ruiz", "Mendoza", "Aguilar", "Ortiz", "Moreno", "Castillo", "Romero",
+            "Álvarez", "Méndez", "Chávez", "Rivera", "Juárez", "Ramos", "Domínguez", "Herrera", "Medina", "Castro",
+            "Vargas", "Guzmán", "Velázquez", "Muñoz", "Rojas", "Contreras", "Salazar", "Luna", "Ortega", "Guerrero",
+            "Estrada", "Bautista", "Cortés", "Soto", "Alvarado", "Espinoza", "Lara", "Ávila", "Ríos", "Cervantes",
+            "Silva", "Delgado", "Vega", "Márquez"};
+    private static final String[] CIUDADES = {"CDMX", "Monterrey", "Guadalajara", "Puebla", "EDOMEX"};
+    private static final int SIZE = 1_000_000;
+    private static final double DUPLICATE_RATE = 0.02;
+
+    private record Data(List<ClienteDTO> clientes, List<long[]> duplicates) {
+    }
+
+    private static String plain(String value) {
+        return java.text.Normalizer.normalize(value, java.text.Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+
+    private static Data data() {
+        Random random = new Random(42);
+        List<ClienteDTO> clientes = new ArrayList<>(SIZE);
+        List<long[]> duplicates = new ArrayList<>();
+        for (long id = 1; id <= SIZE; id++) {
+            if (id > 1_000 && random.nextDouble() < DUPLICATE_RATE) {
+                ClienteDTO original = clientes.get(random.nextInt(clientes.size()));
+                String phone = original.getTelefono();
+                clientes.add(new ClienteDTO(id, plain(original.getNombre()).toUpperCase(), plain(original.getApellido()),
+                        original.getEmail().replace(".", "").replace("@example.com", "@correo.example"),
+                        "+52 " + phone.substring(0, 2) + " " + phone.substring(2, 6) + " " + phone.substring(6),
+                        original.getCiudad()));
+                duplicates.add(new long[]{original.getId(), id});
+                continue;
+            }
+            String nombre = NOMBRES[random.nextInt(NOMBRES.length)];
+            String apellido = APELLIDOS[random.nextInt(APELLIDOS.length)] + " " + APELLIDOS[random.nextInt(APELLIDOS.length)];
+            clientes.add(new ClienteDTO(id, nombre, apellido,
+                    plain(nombre + "." + apellido.replace(' ', '.')).toLowerCase() + id + "@example.com",
+                    String.valueOf(1_000_000_000L + random.nextInt(900_000_000)),
+                    CIUDADES[random.nextInt(CIUDADES.length)]));
+        }
+        return new Data(clientes, duplicates);
+    }
+
+    private static double recall(DuplicateDetectionResult result, List<long[]> duplicates, int size) {
+        Set<String> found = new HashSet<>();
+        for (DuplicateCandidate candidate : result.candidates()) {
+            found.add(candidate.cliente().getId() + "-" + candidate.duplicado().getId());
+        }
+        long expected = 0;
+        long hits = 0;
+        for (long[] pair : duplicates) {
+            if (pair[1] <= size) {
+                expected++;
+                hits += found.contains(pair[0] + "-" + pair[1]) ? 1 : 0;
+            }
+        }
+        return expected == 0 ? 1.0 : (double) hits / expected;
+    }
+
+    private static void print(String label, int size, int parallelism, DuplicateDetectionResult result, double recall) {
+        System.out.printf("%-12s %9d %5d %8d %12d %8d %11d %8.3f%n", label, size, parallelism, result.durationMillis(),
+                result.comparisons(), result.blocks(), result.totalCandidates(), recall);
+    }
+
+    @Test
+    @DisplayName("Benchmark: escalado de la detección de duplicados hasta 1M de clientes")
+    void scaling() {
+        Data data = data();
+        DuplicateDetector detector = new DuplicateDetector(new DuplicateDetector.Settings(0.8, 0.85, 7, 2000, Integer.MAX_VALUE));
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%d núcleos%n%-12s %9s %5s %8s %12s %8s %11s %8s%n", cores,
+                "prueba", "clientes", "hilos", "ms", "comparac.", "bloques", "candidatos", "recall");
+        ForkJoinPool pool = new ForkJoinPool(cores);
+        detector.detect(data.clientes().subList(0, SIZE / 8), pool);
+        for (int size = SIZE / 8; size <= SIZE; size *= 2) {
+            DuplicateDetectionResult result = detector.detect(data.clientes().subList(0, size), pool);
+            print("filas", size, cores, result, recall(result, data.duplicates(), size));
+        }
+        pool.shutdown();
+
+        Set<Integer> parallelisms = new TreeSet<>(List.of(1, 2, 4, cores));
+        for (int parallelism : parallelisms) {
+            ForkJoinPool sized = new ForkJoinPool(parallelism);
+            DuplicateDetectionResult result = detector.detect(data.clientes(), sized);
+            double recall = recall(result, data.duplicates(), SIZE);
+            print("paralelismo", SIZE, parallelism, result, recall);
+            assertTrue(recall > 0.95);
+            sized.shutdown();
+        }
+    }
+}
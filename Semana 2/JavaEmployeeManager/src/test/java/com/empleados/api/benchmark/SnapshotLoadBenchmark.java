@@ -0,0 +1,88 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import com.empleados.api.snapshot.ClienteSnapshotReader;
+import com.empleados.api.snapshot.ClienteSnapshotWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Writes a synthetic snapshot and bulk-loads it into an empty in-memory H2 table.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dsnapshot.rows=10000000}; defaults to one million rows.
+ */
+class SnapshotLoadBenchmark {
+
+    private static final String[] CIUDADES = {"CDMX", "Monterrey", "Guadalajara", "Puebla", "EDOMEX",
+            "Tijuana", "León", "Querétaro", "Mérida", "Cancún"};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Benchmark: exportación y carga masiva de un snapshot")
+    void bulkLoad() throws Exception {
+        long rows = Long.getLong("snapshot.rows", 1_000_000L);
+        Path file = directory.resolve("clientes.snap");
+
+        long start = System.nanoTime();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 256 * 1024);
+             ClienteSnapshotWriter writer = new ClienteSnapshotWriter(out)) {
+            for (long id = 1; id <= rows; id++) {
+                writer.write(new ClienteDTO(id, "Nombre" + (id % 1000), "Apellido" + (id % 5000),
+                        "cliente" + id + "@example.com", String.valueOf(5_550_000_000L + id), CIUDADES[(int) (id % CIUDADES.length)]));
+            }
+        }
+        long writeMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Decoding alone, to separate the format cost from the database insert cost
+        start = System.nanoTime();
+        try (ClienteSnapshotReader reader = new ClienteSnapshotReader(
+                new BufferedInputStream(Files.newInputStream(file), 256 * 1024))) {
+            while (reader.next() != null) {
+                // discard
+            }
+        }
+        long readMillis = (System.nanoTime() - start) / 1_000_000;
+
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:snapshot-benchmark;DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE clientes (id BIGINT PRIMARY KEY, nombre VARCHAR(255) NOT NULL, "
+                + "apellido VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL UNIQUE, telefono VARCHAR(255), "
+                + "ciudad_id INT, telefono_invertido VARCHAR(255), email_dominio VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE ciudades (id INT PRIMARY KEY, nombre VARCHAR(255) NOT NULL UNIQUE)");
+        ClienteJdbcWriter writer = new ClienteJdbcWriter(jdbcTemplate, new CiudadDictionary(dataSource));
+
+        start = System.nanoTime();
+        long loaded;
+        try (ClienteSnapshotReader reader = new ClienteSnapshotReader(
+                new BufferedInputStream(Files.newInputStream(file), 256 * 1024))) {
+            loaded = writer.bulkInsert(reader);
+        }
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("filas: %d, tamaño: %.1f MB (%.1f bytes/fila)%n", rows,
+                Files.size(file) / 1e6, (double) Files.size(file) / rows);
+        System.out.printf("escritura: %d ms, lectura: %d ms, carga en H2: %d ms (%.0f filas/s)%n",
+                writeMillis, readMillis, loadMillis, loaded / (loadMillis / 1000.0));
+
+        assertEquals(rows, loaded);
+        assertEquals(rows, writer.count());
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+}
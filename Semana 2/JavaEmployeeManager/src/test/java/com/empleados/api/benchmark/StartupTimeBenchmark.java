@@ -0,0 +1,118 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.ClientesApiApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Time from launching the JVM to the first successful {@code GET /api/clientes}, for the full
+ * application, the lean profile and, when {@code mvn package -Paot-cds} has been run before,
+ * the AOT-processed thin jar with its class-data-sharing archive.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=StartupTimeBenchmark}.
+ */
+class StartupTimeBenchmark {
+
+    private static final int RUNS = 3;
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Path TARGET = Path.of("target");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Launch the application with the given JVM arguments and wait for its first answer
+     *
+     * @return milliseconds from process start to the first 200 response
+     */
+    private long timeToFirstRequest(List<String> launch) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(launch);
+        command.addAll(List.of("--server.port=" + port, "--clientes.journal.enabled=false"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/clientes")).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("La aplicación terminó con código " + process.exitValue());
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("La aplicación no respondió en " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private long median(List<String> launch) throws Exception {
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            times[i] = timeToFirstRequest(launch);
+        }
+        Arrays.sort(times);
+        return times[RUNS / 2];
+    }
+
+    @Test
+    @DisplayName("Benchmark: tiempo hasta la primera petición según el modo de arranque")
+    void timeToFirstRequest_PerStartupMode() throws Exception {
+        List<String> classpath = List.of("-cp", System.getProperty("java.class.path"), ClientesApiApplication.class.getName());
+        List<String> lean = new ArrayList<>(classpath);
+        lean.add("--spring.profiles.active=lean");
+
+        long full = median(classpath);
+        long leanMillis = median(lean);
+
+        System.out.printf("%-12s %10s%n", "modo", "ms");
+        System.out.printf("%-12s %10d%n", "completo", full);
+        System.out.printf("%-12s %10d%n", "ligero", leanMillis);
+
+        Path jar = TARGET.resolve("api-0.0.1-SNAPSHOT.jar");
+        Path archive = TARGET.resolve("app.jsa");
+        if (Files.exists(archive) && Files.exists(jar)) {
+            long aotCds = median(List.of("-XX:SharedArchiveFile=" + archive, "-Xlog:cds=off",
+                    "-Dspring.aot.enabled=true", "-jar", jar.toString()));
+            System.out.printf("%-12s %10d%n", "aot+cds", aotCds);
+        } else {
+            System.out.println("aot+cds: sin target/app.jsa, ejecutar antes mvn package -Paot-cds -DskipTests");
+        }
+
+        assertTrue(full > 0 && leanMillis > 0);
+    }
+}
@@ -0,0 +1,148 @@
+package com.empleados.api.benchmark;
+
+import com.empleados.api.util.PhoneNumbers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latency of a search by the last 4 to 7 digits of the telefono: prefix range scan of the
+ * indexed reversed digits against {@code LIKE '%digits'}. The table lives in a file-based H2
+ * database with a page cache large enough for it, since ten million rows do not fit on the heap
+ * of an in-memory database.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=TelefonoSuffixSearchBenchmark -Dtelefono.rows=10000000
+ * -DargLine=-Xmx3g}; defaults to one million rows.
+ */
+class TelefonoSuffixSearchBenchmark {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int RANGE_QUERIES = 20_000;
+    private static final int LIKE_QUERIES = 10;
+    private static final int LIMIT = 100;
+    private static final int CACHE_KB = 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private interface Search {
+        int run(String suffix) throws SQLException;
+    }
+
+    private static int count(PreparedStatement ps) throws SQLException {
+        int rows = 0;
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static String suffix(SplittableRandom random, long rows) {
+        long telefono = 5_500_000_000L + random.nextLong(rows) * 7_919 % 4_000_000_000L;
+        String digits = Long.toString(telefono);
+        return digits.substring(digits.length() - 4 - random.nextInt(4));
+    }
+
+    /**
+     * @return microseconds of each query, sorted
+     */
+    private static double[] time(Search search, int queries, long rows, long seed) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] micros = new double[queries];
+        for (int i = 0; i < queries; i++) {
+            String suffix = suffix(random, rows);
+            long start = System.nanoTime();
+            int found = search.run(suffix);
+            micros[i] = (System.nanoTime() - start) / 1_000.0;
+            assertTrue(found > 0, "Sin resultados para " + suffix);
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static void print(String name, double[] micros) {
+        System.out.printf("%-14s p50 %10.1f µs   p99 %10.1f µs   max %10.1f µs%n", name,
+                micros[micros.length / 2], micros[(int) (micros.length * 0.99)], micros[micros.length - 1]);
+    }
+
+    @Test
+    @DisplayName("Benchmark: búsqueda por el final del teléfono con índice invertido frente a LIKE")
+    void suffixSearch() throws SQLException {
+        long rows = Long.getLong("telefono.rows", 1_000_000L);
+        String url = "jdbc:h2:file:" + directory.resolve("telefonos") + ";CACHE_SIZE=" + CACHE_KB;
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            connection.createStatement().execute("CREATE TABLE clientes (id BIGINT PRIMARY KEY, "
+                    + "telefono VARCHAR(255), telefono_invertido VARCHAR(255))");
+
+            long start = System.nanoTime();
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO clientes (id, telefono, telefono_invertido) VALUES (?, ?, ?)")) {
+                for (long id = 0; id < rows; id++) {
+                    // A permutation of the ids spread over ten-digit numbers
+                    String telefono = Long.toString(5_500_000_000L + id * 7_919 % 4_000_000_000L);
+                    ps.setLong(1, id + 1);
+                    ps.setString(2, telefono);
+                    ps.setString(3, PhoneNumbers.reversed(telefono));
+                    ps.addBatch();
+                    if ((id + 1) % BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                        connection.commit();
+                    }
+                }
+                ps.executeBatch();
+                connection.commit();
+            }
+            connection.setAutoCommit(true);
+            long loadMillis = (System.nanoTime() - start) / 1_000_000;
+            start = System.nanoTime();
+            connection.createStatement().execute(
+                    "CREATE INDEX idx_clientes_telefono_invertido ON clientes (telefono_invertido)");
+            long indexMillis = (System.nanoTime() - start) / 1_000_000;
+
+            PreparedStatement range = connection.prepareStatement("SELECT id, telefono FROM clientes "
+                    + "WHERE telefono_invertido >= ? AND telefono_invertido < ? ORDER BY telefono_invertido, id LIMIT " + LIMIT);
+            PreparedStatement like = connection.prepareStatement(
+                    "SELECT id, telefono FROM clientes WHERE telefono LIKE ? ORDER BY id LIMIT " + LIMIT);
+            Search byRange = suffix -> {
+                String prefix = PhoneNumbers.reversed(suffix);
+                range.setString(1, prefix);
+                range.setString(2, PhoneNumbers.prefixUpperBound(prefix));
+                return count(range);
+            };
+            Search byLike = suffix -> {
+                like.setString(1, "%" + suffix);
+                return count(like);
+            };
+
+            // Both plans return the same rows
+            SplittableRandom random = new SplittableRandom(7);
+            for (int i = 0; i < 5; i++) {
+                String suffix = suffix(random, rows);
+                assertEquals(Math.min(LIMIT, byLike.run(suffix)), byRange.run(suffix), suffix);
+            }
+
+            time(byRange, RANGE_QUERIES, rows, 1);
+            double[] rangeMicros = time(byRange, RANGE_QUERIES, rows, 2);
+            double[] likeMicros = time(byLike, LIKE_QUERIES, rows, 3);
+
+            System.out.printf("%d filas: carga %d ms, índice %d ms%n", rows, loadMillis, indexMillis);
+            print("rango", rangeMicros);
+            print("LIKE '%x'", likeMicros);
+        }
+    }
+}
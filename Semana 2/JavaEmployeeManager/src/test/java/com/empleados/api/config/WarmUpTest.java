@@ -0,0 +1,54 @@
+package com.empleados.api.config;
+
+import com.empleados.api.repository.ClienteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del calentamiento previo a la disponibilidad, contra el servidor real en un puerto aleatorio
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warmupdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "clientes.warmup.enabled=true",
+        "clientes.warmup.rounds=30",
+        "clientes.warmup.scratch-clientes=5"})
+class WarmUpTest {
+
+    @Autowired
+    private WarmUp warmUp;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    @DisplayName("Calentamiento: recorre la API antes de aceptar tráfico y elimina los clientes temporales")
+    void warmUp_BeforeReadiness_ExercisesApiAndCleansUp() {
+        // Arrange
+        WarmUp.WarmUpReport report = warmUp.getLastReport();
+
+        // Act
+        ReadinessState readiness = availability.getReadinessState();
+
+        // Assert
+        assertNotNull(report);
+        // 5 creations, 5 or 7 requests per round, 5 deletions
+        assertEquals(5 + 30 * 5 + 3 * 2 + 5, report.requests());
+        assertEquals(0, report.unexpected());
+        assertTrue(report.finalP99Millis() >= report.finalP50Millis());
+        assertTrue(clienteRepository.findProjectedByCiudad("Calentamiento").isEmpty());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, readiness);
+    }
+}
@@ -1,10 +1,14 @@
 package com.empleados.api.controller;
 
 import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.dto.ClienteEstadisticasDTO;
 import com.empleados.api.exception.ResourceNotFoundException;
 import com.empleados.api.service.ClienteService;
 import com.empleados.api.util.TestDataBuilder;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +24,13 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -313,4 +321,126 @@ class ClienteControllerTest {
 
         verify(clienteService, times(1)).getClientesByCiudad("Monterrey");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe indicar si un email pertenece a algún cliente")
+    void existsByEmail_ShouldReturnExistence() throws Exception {
+        // Arrange
+        when(clienteService.existsByEmail("juan.perez@example.com")).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/clientes/email/exists")
+                .param("email", "juan.perez@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email", is("juan.perez@example.com")))
+                .andExpect(jsonPath("$.exists", is(true)));
+
+        verify(clienteService, times(1)).existsByEmail("juan.perez@example.com");
+    }
+
+    @Test
+    @DisplayName("Debe retornar las estadísticas de clientes por ciudad")
+    void getEstadisticas_ShouldReturnCountsPerCiudad() throws Exception {
+        // Arrange
+        Map<String, Long> porCiudad = new LinkedHashMap<>();
+        porCiudad.put("CDMX", 2L);
+        porCiudad.put("Monterrey", 1L);
+        when(clienteService.getEstadisticas()).thenReturn(new ClienteEstadisticasDTO(3L, 2, porCiudad));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/clientes/estadisticas")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(3)))
+                .andExpect(jsonPath("$.ciudades", is(2)))
+                .andExpect(jsonPath("$.porCiudad.CDMX", is(2)));
+
+        verify(clienteService, times(1)).getEstadisticas();
+    }
+
+    @Test
+    @DisplayName("Debe reasignar los clientes de una ciudad")
+    void reassignCiudad_ShouldReturnAffectedRows() throws Exception {
+        // Arrange
+        when(clienteService.reassignCiudad("EDOMEX", "CDMX")).thenReturn(4);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/clientes/ciudad/EDOMEX")
+                .param("nuevaCiudad", "CDMX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.operation", is("REASSIGN_CIUDAD")))
+                .andExpect(jsonPath("$.affected", is(4)));
+
+        verify(clienteService, times(1)).reassignCiudad("EDOMEX", "CDMX");
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 al reasignar a una ciudad vacía")
+    void reassignCiudad_WithBlankTarget_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/clientes/ciudad/EDOMEX")
+                .param("nuevaCiudad", " "))
+                .andExpect(status().isBadRequest());
+
+        verify(clienteService, never()).reassignCiudad(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los clientes de una ciudad")
+    void deleteClientesByCiudad_ShouldReturnAffectedRows() throws Exception {
+        // Arrange
+        when(clienteService.deleteClientesByCiudad("Monterrey")).thenReturn(2);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/clientes/ciudad/Monterrey"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.operation", is("DELETE_CIUDAD")))
+                .andExpect(jsonPath("$.affected", is(2)));
+
+        verify(clienteService, times(1)).deleteClientesByCiudad("Monterrey");
+    }
+
+    @Test
+    @DisplayName("Debe responder en CBOR cuando se solicita con Accept")
+    void getAllClientes_WithCborAccept_ShouldReturnCbor() throws Exception {
+        // Arrange
+        when(clienteService.getAllClientes()).thenReturn(clienteDTOList);
+        CBORMapper cborMapper = new CBORMapper();
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/clientes")
+                .accept(MediaType.valueOf("application/cbor")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        List<ClienteDTO> clientes = cborMapper.readValue(body, new TypeReference<List<ClienteDTO>>() {});
+        assertEquals(clienteDTOList, clientes);
+        assertTrue(body.length < objectMapper.writeValueAsBytes(clienteDTOList).length);
+    }
+
+    @Test
+    @DisplayName("Debe aceptar un cliente nuevo enviado en Smile y responder en Smile")
+    void createCliente_WithSmileBody_ShouldReturnSmile() throws Exception {
+        // Arrange
+        ClienteDTO newClienteDTO = TestDataBuilder.createNewClienteDTO();
+        ClienteDTO createdClienteDTO = new ClienteDTO(3L, newClienteDTO.getNombre(), newClienteDTO.getApellido(),
+                newClienteDTO.getEmail(), newClienteDTO.getTelefono(), newClienteDTO.getCiudad());
+        when(clienteService.createCliente(eq(newClienteDTO))).thenReturn(createdClienteDTO);
+        SmileMapper smileMapper = new SmileMapper();
+        MediaType smile = MediaType.valueOf("application/x-jackson-smile");
+
+        // Act
+        byte[] body = mockMvc.perform(post("/api/clientes")
+                .contentType(smile)
+                .accept(smile)
+                .content(smileMapper.writeValueAsBytes(newClienteDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        assertEquals(createdClienteDTO, smileMapper.readValue(body, ClienteDTO.class));
+    }
+}
@@ -0,0 +1,157 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.repository.ClienteSearchRepositoryImpl;
+import com.empleados.api.service.ClienteService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Pruebas de la búsqueda de clientes por varios criterios a través de la pila MVC completa
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:searchdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClienteSearchTest {
+
+    private static final String DOMINIO = "busqueda" + System.nanoTime() + ".example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteSearchRepositoryImpl searchRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void createClientes() {
+        String[] apellidos = {"Robles", "Rosas", "Ramos", "Rivera", "Soto", "Rojas", "Reyes"};
+        for (int i = 0; i < apellidos.length; i++) {
+            clienteService.createCliente(new ClienteDTO(null, "Cliente" + i, apellidos[i],
+                    "cliente" + i + "@" + DOMINIO, "55" + (10_000_000 + i), i % 2 == 0 ? "Puebla" : "Oaxaca"));
+        }
+    }
+
+    private JsonNode search(MockHttpServletRequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        assertEquals(200, response.getStatus(), response.getContentAsString());
+        return objectMapper.readTree(response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Debe combinar ciudad, dominio, inicio del apellido y rango de IDs en una sola búsqueda")
+    void search_WithCombinedCriteria_ShouldReturnOnlyMatches() throws Exception {
+        // Act
+        JsonNode page = search(get("/api/clientes/search")
+                .param("ciudad", "Puebla")
+                .param("dominio", "@" + DOMINIO.toUpperCase())
+                .param("apellido", "R")
+                .param("idDesde", "1"));
+
+        // Assert
+        List<String> apellidos = new ArrayList<>();
+        page.get("clientes").forEach(cliente -> {
+            apellidos.add(cliente.get("apellido").asText());
+            assertEquals("Puebla", cliente.get("ciudad").asText());
+            assertTrue(cliente.get("email").asText().endsWith("@" + DOMINIO));
+        });
+        assertEquals(List.of("Robles", "Ramos", "Reyes"), apellidos);
+        assertTrue(page.get("siguienteCursor").isNull());
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las páginas por cursor sin repetir ni saltar clientes")
+    void search_WithKeysetPagination_ShouldVisitEveryMatchOnce() throws Exception {
+        // Arrange
+        List<String> apellidos = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        String cursor = null;
+
+        // Act
+        do {
+            MockHttpServletRequestBuilder request = get("/api/clientes/search")
+                    .param("dominio", DOMINIO).param("sort", "apellido").param("direction", "desc").param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = search(request);
+            assertTrue(page.get("clientes").size() <= 2);
+            page.get("clientes").forEach(cliente -> {
+                apellidos.add(cliente.get("apellido").asText());
+                assertTrue(ids.add(cliente.get("id").asLong()));
+            });
+            cursor = page.get("siguienteCursor").isNull() ? null : page.get("siguienteCursor").asText();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(List.of("Soto", "Rosas", "Rojas", "Robles", "Rivera", "Reyes", "Ramos"), apellidos);
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar la consulta construida para búsquedas con la misma forma")
+    void search_WithSameShape_ShouldReuseQuery() throws Exception {
+        // Arrange
+        search(get("/api/clientes/search").param("nombre", "Cliente1").param("dominio", DOMINIO));
+        int shapes = searchRepository.getShapeCount();
+
+        // Act
+        JsonNode page = search(get("/api/clientes/search").param("nombre", "Cliente3").param("dominio", DOMINIO));
+
+        // Assert
+        assertEquals(shapes, searchRepository.getShapeCount());
+        assertEquals(1, page.get("clientes").size());
+        assertEquals("Rivera", page.get("clientes").get(0).get("apellido").asText());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor de otro orden y criterios inválidos")
+    void search_WithInvalidInput_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        JsonNode first = search(get("/api/clientes/search").param("dominio", DOMINIO).param("limit", "1"));
+        String cursor = first.get("siguienteCursor").asText();
+
+        // Act
+        int otherSort = mockMvc.perform(get("/api/clientes/search").param("dominio", DOMINIO)
+                .param("sort", "email").param("cursor", cursor)).andReturn().getResponse().getStatus();
+        int malformed = mockMvc.perform(get("/api/clientes/search").param("cursor", "no-es-un-cursor"))
+                .andReturn().getResponse().getStatus();
+        int invalidSort = mockMvc.perform(get("/api/clientes/search").param("sort", "telefono"))
+                .andReturn().getResponse().getStatus();
+        int invalidLimit = mockMvc.perform(get("/api/clientes/search").param("limit", "0"))
+                .andReturn().getResponse().getStatus();
+
+        // Assert
+        assertEquals(400, otherSort);
+        assertEquals(400, malformed);
+        assertEquals(400, invalidSort);
+        assertEquals(400, invalidLimit);
+    }
+}
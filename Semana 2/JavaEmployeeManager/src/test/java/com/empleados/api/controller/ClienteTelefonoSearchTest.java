@@ -0,0 +1,112 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.service.ClienteService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Pruebas del teléfono normalizado y de la búsqueda por su final a través de la pila MVC completa
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:telefonodb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"})
+class ClienteTelefonoSearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Debe guardar solo los dígitos y encontrar al cliente por los últimos dígitos")
+    void byPhone_WithSuffix_ShouldFindNormalizedCliente() throws Exception {
+        // Arrange
+        ClienteDTO nuevo = new ClienteDTO(null, "Ana", "Ruiz", "ana.ruiz." + System.nanoTime() + "@example.com",
+                "+52 (81) 7654-3219", "Monterrey");
+
+        // Act
+        MockHttpServletResponse created = mockMvc.perform(post("/api/clientes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nuevo)))
+                .andReturn().getResponse();
+        MockHttpServletResponse found = mockMvc.perform(get("/api/clientes/by-phone").param("suffix", "543219"))
+                .andReturn().getResponse();
+        MockHttpServletResponse notFound = mockMvc.perform(get("/api/clientes/by-phone").param("suffix", "543218"))
+                .andReturn().getResponse();
+
+        // Assert
+        assertEquals(201, created.getStatus());
+        assertEquals("528176543219", objectMapper.readTree(created.getContentAsString()).get("telefono").asText());
+        JsonNode clientes = objectMapper.readTree(found.getContentAsString());
+        assertEquals(200, found.getStatus());
+        assertEquals(1, clientes.size());
+        assertEquals(nuevo.getEmail(), clientes.get(0).get("email").asText());
+        assertEquals(0, objectMapper.readTree(notFound.getContentAsString()).size());
+    }
+
+    @Test
+    @DisplayName("Debe respetar el límite y devolver todos los clientes con el mismo final")
+    void byPhone_WithLimit_ShouldReturnAtMostLimit() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            clienteService.createCliente(new ClienteDTO(null, "Luis", "Mora", "luis.mora." + i + "." + System.nanoTime()
+                    + "@example.com", "55-" + i + "000-9753", "Puebla"));
+        }
+
+        // Act
+        JsonNode all = objectMapper.readTree(mockMvc.perform(get("/api/clientes/by-phone").param("suffix", "09753"))
+                .andReturn().getResponse().getContentAsString());
+        JsonNode limited = objectMapper.readTree(mockMvc.perform(get("/api/clientes/by-phone")
+                        .param("suffix", "09753").param("limit", "2"))
+                .andReturn().getResponse().getContentAsString());
+
+        // Assert
+        assertEquals(3, all.size());
+        assertEquals(2, limited.size());
+        all.forEach(cliente -> assertTrue(cliente.get("telefono").asText().endsWith("09753")));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un sufijo demasiado corto o no numérico y un teléfono sin dígitos")
+    void byPhone_WithInvalidInput_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        ClienteDTO sinDigitos = new ClienteDTO(null, "Eva", "Gil", "eva.gil." + System.nanoTime() + "@example.com",
+                "sin teléfono", "CDMX");
+
+        // Act
+        int shortSuffix = mockMvc.perform(get("/api/clientes/by-phone").param("suffix", "123"))
+                .andReturn().getResponse().getStatus();
+        int letters = mockMvc.perform(get("/api/clientes/by-phone").param("suffix", "12ab"))
+                .andReturn().getResponse().getStatus();
+        int invalidPhone = mockMvc.perform(post("/api/clientes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sinDigitos)))
+                .andReturn().getResponse().getStatus();
+
+        // Assert
+        assertEquals(400, shortSuffix);
+        assertEquals(400, letters);
+        assertEquals(400, invalidPhone);
+    }
+}
@@ -0,0 +1,84 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dedup.DuplicateDetectionService;
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.service.ClienteService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Pruebas de la detección de duplicados a través de la pila MVC completa
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dedupdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"})
+class DuplicateControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private DuplicateDetectionService duplicateDetectionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Debe detectar en segundo plano un cliente duplicado con acentos, email y teléfono distintos")
+    void detection_WithNearDuplicate_ShouldReportCandidate() throws Exception {
+        // Arrange
+        String email = "juanperez." + System.nanoTime() + "@otro.example.com";
+        ClienteDTO duplicado = clienteService.createCliente(
+                new ClienteDTO(null, "JUAN", "Perez", email, "+52 123 456 7890", "CDMX"));
+
+        // Act
+        MockHttpServletResponse started = mockMvc.perform(post("/api/duplicados")).andReturn().getResponse();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (duplicateDetectionService.getLastRun().status() == DuplicateDetectionService.Status.RUNNING
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        MockHttpServletResponse report = mockMvc.perform(get("/api/duplicados").param("limit", "5"))
+                .andReturn().getResponse();
+
+        // Assert
+        assertEquals(202, started.getStatus());
+        assertEquals(200, report.getStatus());
+        JsonNode json = objectMapper.readTree(report.getContentAsString());
+        assertEquals("COMPLETED", json.get("status").asText());
+        JsonNode candidato = json.get("candidatos").get(0);
+        assertEquals("juan.perez@example.com", candidato.get("cliente").get("email").asText());
+        assertEquals(duplicado.getId(), candidato.get("duplicado").get("id").asLong());
+        assertTrue(candidato.get("puntuacion").asDouble() > 0.9);
+        assertTrue(json.get("candidatos").size() <= 5);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un límite no positivo")
+    void getReport_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+        // Act
+        MockHttpServletResponse response = mockMvc.perform(get("/api/duplicados").param("limit", "0"))
+                .andReturn().getResponse();
+
+        // Assert
+        assertEquals(400, response.getStatus());
+    }
+}
@@ -0,0 +1,214 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.export.ExportJob;
+import com.empleados.api.export.ExportJobService;
+import com.empleados.api.repository.CiudadDictionary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Pruebas de las exportaciones asíncronas a través de la pila MVC completa
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:exportdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"})
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CiudadDictionary ciudadDictionary;
+
+    private String startExport(String body) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/api/exports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse();
+        assertEquals(202, response.getStatus());
+        String id = objectMapper.readTree(response.getContentAsString()).get("id").asText();
+        assertEquals("/api/exports/" + id, response.getHeader(HttpHeaders.LOCATION));
+        return id;
+    }
+
+    private ExportJob awaitFinished(String id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ExportJob job = exportJobService.getJob(id);
+        while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        return job;
+    }
+
+    private MockHttpServletResponse download(String id) throws Exception {
+        return mockMvc.perform(get("/api/exports/" + id + "/download")).andReturn().getResponse();
+    }
+
+    private static List<String> lines(InputStream in) throws Exception {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe exportar todos los clientes a CSV con gzip y descargar el fichero")
+    void export_CsvGzip_ShouldProduceDownloadableFile() throws Exception {
+        // Arrange
+        String id = startExport("{}");
+
+        // Act
+        ExportJob job = awaitFinished(id);
+        MockHttpServletResponse status = mockMvc.perform(get("/api/exports/" + id)).andReturn().getResponse();
+        MockHttpServletResponse file = download(id);
+
+        // Assert
+        assertEquals(ExportJob.Status.COMPLETED, job.getStatus());
+        JsonNode json = objectMapper.readTree(status.getContentAsString());
+        assertEquals("COMPLETED", json.get("status").asText());
+        assertEquals("/api/exports/" + id + "/download", json.get("downloadUrl").asText());
+        assertEquals(200, file.getStatus());
+        assertEquals("application/gzip", file.getContentType());
+        assertTrue(file.getHeader(HttpHeaders.CONTENT_DISPOSITION).contains("clientes-" + id + ".csv.gz"));
+        assertEquals(job.getBytes(), file.getContentAsByteArray().length);
+        List<String> lines = lines(new GZIPInputStream(new ByteArrayInputStream(file.getContentAsByteArray())));
+        assertEquals("id,nombre,apellido,email,telefono,ciudad", lines.get(0));
+        assertEquals(job.getRows() + 1, lines.size());
+        assertTrue(job.getRows() >= 20);
+    }
+
+    @Test
+    @DisplayName("Una exportación de una ciudad desconocida debe completarse vacía sin registrar la ciudad")
+    void export_WithUnknownCiudad_ShouldNotRegisterCiudad() throws Exception {
+        // Arrange
+        int ciudades = ciudadDictionary.size();
+
+        // Act
+        String id = startExport("{\"format\":\"NDJSON\",\"compression\":\"NONE\",\"ciudad\":\"Atlántida " + System.nanoTime() + "\"}");
+        ExportJob job = awaitFinished(id);
+
+        // Assert
+        assertEquals(ExportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(0, job.getRows());
+        assertEquals(0, download(id).getContentAsByteArray().length);
+        assertEquals(ciudades, ciudadDictionary.size());
+    }
+
+    @Test
+    @DisplayName("Debe exportar los clientes de una ciudad a NDJSON con zstd")
+    void export_NdjsonZstdByCiudad_ShouldOnlyContainThatCiudad() throws Exception {
+        // Arrange
+        String id = startExport("{\"format\":\"NDJSON\",\"compression\":\"ZSTD\",\"ciudad\":\"CDMX\"}");
+
+        // Act
+        ExportJob job = awaitFinished(id);
+        MockHttpServletResponse file = download(id);
+
+        // Assert
+        assertEquals(ExportJob.Status.COMPLETED, job.getStatus());
+        assertEquals("application/zstd", file.getContentType());
+        List<String> lines = lines(new ZstdInputStream(new ByteArrayInputStream(file.getContentAsByteArray())));
+        assertEquals(job.getRows(), lines.size());
+        assertFalse(lines.isEmpty());
+        for (String line : lines) {
+            assertEquals("CDMX", objectMapper.readTree(line).get("ciudad").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe exportar un flujo Arrow IPC sin comprimir")
+    void export_ArrowWithoutCompression_ShouldServeArrowStream() throws Exception {
+        // Arrange
+        String id = startExport("{\"format\":\"ARROW\",\"compression\":\"NONE\"}");
+
+        // Act
+        ExportJob job = awaitFinished(id);
+        MockHttpServletResponse file = download(id);
+
+        // Assert
+        assertEquals(ExportJob.Status.COMPLETED, job.getStatus());
+        assertEquals("application/vnd.apache.arrow.stream", file.getContentType());
+        assertTrue(file.getHeader(HttpHeaders.CONTENT_DISPOSITION).contains("clientes-" + id + ".arrows\""));
+        byte[] body = file.getContentAsByteArray();
+        ByteBuffer stream = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0xFFFFFFFF, stream.getInt(0));
+        assertEquals(0xFFFFFFFF, stream.getInt(body.length - 8));
+        assertEquals(0, stream.getInt(body.length - 4));
+    }
+
+    @Test
+    @DisplayName("Debe reanudar una descarga con peticiones Range")
+    void download_WithRange_ShouldReturnPartialContent() throws Exception {
+        // Arrange
+        String id = startExport("{\"format\":\"CSV\",\"compression\":\"ZSTD\"}");
+        awaitFinished(id);
+        byte[] full = download(id).getContentAsByteArray();
+
+        // Act
+        MockHttpServletResponse first = mockMvc.perform(get("/api/exports/" + id + "/download")
+                .header(HttpHeaders.RANGE, "bytes=0-99")).andReturn().getResponse();
+        MockHttpServletResponse rest = mockMvc.perform(get("/api/exports/" + id + "/download")
+                .header(HttpHeaders.RANGE, "bytes=100-")).andReturn().getResponse();
+
+        // Assert
+        assertEquals(206, first.getStatus());
+        assertEquals(206, rest.getStatus());
+        assertEquals("bytes 0-99/" + full.length, first.getHeader(HttpHeaders.CONTENT_RANGE));
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        joined.write(first.getContentAsByteArray());
+        joined.write(rest.getContentAsByteArray());
+        assertArrayEquals(full, joined.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar la exportación y su fichero")
+    void delete_ShouldRemoveJobAndFile() throws Exception {
+        // Arrange
+        String id = startExport("{}");
+        ExportJob job = awaitFinished(id);
+
+        // Act
+        MockHttpServletResponse deleted = mockMvc.perform(delete("/api/exports/" + id)).andReturn().getResponse();
+        MockHttpServletResponse status = mockMvc.perform(get("/api/exports/" + id)).andReturn().getResponse();
+
+        // Assert
+        assertEquals(204, deleted.getStatus());
+        assertEquals(404, status.getStatus());
+        assertEquals(404, download(id).getStatus());
+        assertFalse(Files.exists(job.getFile()));
+    }
+}
@@ -0,0 +1,140 @@
+package com.empleados.api.dedup;
+
+import com.empleados.api.dto.ClienteDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la detección de clientes duplicados
+ */
+class DuplicateDetectorTest {
+
+    private static final DuplicateDetector.Settings DEFAULTS = new DuplicateDetector.Settings(0.8, 0.85, 7, 2000, 1000);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private DuplicateDetectionResult detect(DuplicateDetector.Settings settings, ClienteDTO... clientes) {
+        return new DuplicateDetector(settings).detect(List.of(clientes), pool);
+    }
+
+    @Test
+    @DisplayName("Debe normalizar acentos, formatos de teléfono y variantes de email")
+    void normalizer_ShouldProduceCanonicalForms() {
+        // Assert
+        assertEquals("jose maria perez", ClienteNormalizer.name("  José-María  PÉREZ "));
+        assertEquals("5512345678", ClienteNormalizer.phone("+52 (55) 1234-5678"));
+        assertEquals("juanperez", ClienteNormalizer.emailLocalPart("Juan.Pérez+promo@Example.com"));
+        assertEquals("example.com", ClienteNormalizer.emailDomain("Juan.Perez@Example.COM"));
+    }
+
+    @Test
+    @DisplayName("Debe proponer la fusión de la misma persona escrita de otra forma")
+    void detect_WithVariantOfSamePerson_ShouldReturnCandidate() {
+        // Arrange
+        ClienteDTO original = new ClienteDTO(1L, "Juan", "Pérez", "juan.perez@example.com", "5512345678", "CDMX");
+        ClienteDTO variante = new ClienteDTO(7L, "JUAN", "Perez", "juanperez@gmail.com", "+52 55 1234 5678", "CDMX");
+        ClienteDTO homonimo = new ClienteDTO(3L, "Julia", "Pérez", "julia.p@example.com", "8187654321", "Monterrey");
+
+        // Act
+        DuplicateDetectionResult result = detect(DEFAULTS, variante, homonimo, original);
+
+        // Assert
+        assertEquals(1, result.totalCandidates());
+        DuplicateCandidate candidate = result.candidates().get(0);
+        assertSame(original, candidate.cliente());
+        assertSame(variante, candidate.duplicado());
+        assertEquals(1.0, candidate.nombre());
+        assertEquals(1.0, candidate.telefono());
+        assertTrue(candidate.score() > 0.95);
+    }
+
+    @Test
+    @DisplayName("Debe encontrar por el teléfono a quien tiene nombre y apellido intercambiados")
+    void detect_WithSwappedNames_ShouldMatchThroughPhoneBlock() {
+        // Arrange
+        ClienteDTO original = new ClienteDTO(1L, "Martín", "Gómez", "martin.gomez@example.com", "3312345678", "Guadalajara");
+        ClienteDTO intercambiado = new ClienteDTO(2L, "Gómez", "Martín", "mgomez@example.com", "33 1234 5678", "Guadalajara");
+
+        // Act
+        DuplicateDetectionResult result = detect(DEFAULTS, original, intercambiado);
+
+        // Assert
+        assertEquals(1, result.totalCandidates());
+        assertEquals(1.0, result.candidates().get(0).nombre());
+    }
+
+    @Test
+    @DisplayName("Debe comparar una sola vez a quien comparte nombre y teléfono")
+    void detect_WithPairSharingBothKeys_ShouldCompareOnce() {
+        // Arrange
+        ClienteDTO a = new ClienteDTO(1L, "Ana", "García", "ana.garcia@example.com", "5550001111", "CDMX");
+        ClienteDTO b = new ClienteDTO(2L, "Ana", "Garcia", "ana.garcia@example.org", "5550001111", "CDMX");
+
+        // Act
+        DuplicateDetectionResult result = detect(DEFAULTS, a, b);
+
+        // Assert
+        assertEquals(1, result.comparisons());
+        assertEquals(1, result.totalCandidates());
+    }
+
+    @Test
+    @DisplayName("Debe respetar los umbrales y omitir los bloques demasiado grandes")
+    void detect_WithThresholdsAndOversizedBlock_ShouldFilter() {
+        // Arrange
+        ClienteDTO a = new ClienteDTO(1L, "Luis", "Ruiz", "luis.ruiz@example.com", null, "CDMX");
+        ClienteDTO b = new ClienteDTO(2L, "Luis", "Ruiz", "lruiz@example.com", null, "CDMX");
+        ClienteDTO c = new ClienteDTO(3L, "Lucía", "Ruiz", "lucia.ruiz@example.com", null, "CDMX");
+
+        // Act
+        DuplicateDetectionResult strict = detect(new DuplicateDetector.Settings(0.99, 0.85, 7, 2000, 1000), a, b, c);
+        DuplicateDetectionResult oversized = detect(new DuplicateDetector.Settings(0.5, 0.5, 7, 2, 1000), a, b, c);
+
+        // Assert
+        assertEquals(0, strict.totalCandidates());
+        assertEquals(3, strict.comparisons());
+        assertEquals(1, oversized.skippedBlocks());
+        assertEquals(0, oversized.comparisons());
+    }
+
+    @Test
+    @DisplayName("Debe obtener el mismo resultado en paralelo que con un solo hilo")
+    void detect_InParallel_ShouldMatchSingleThread() {
+        // Arrange
+        String[] nombres = {"Juan", "José", "Ana", "María", "Luis", "Lucía"};
+        String[] apellidos = {"Pérez", "García", "López", "Ruiz"};
+        List<ClienteDTO> clientes = new ArrayList<>();
+        for (long id = 1; id <= 3_000; id++) {
+            String nombre = nombres[(int) (id % nombres.length)];
+            String apellido = apellidos[(int) (id / nombres.length % apellidos.length)];
+            String telefono = String.valueOf(5_550_000_000L + (id % 1_000));
+            clientes.add(new ClienteDTO(id, nombre, apellido, nombre.toLowerCase() + id + "@example.com", telefono, "CDMX"));
+        }
+        DuplicateDetector detector = new DuplicateDetector(new DuplicateDetector.Settings(0.7, 0.85, 7, 2000, 100));
+        ForkJoinPool single = new ForkJoinPool(1);
+
+        // Act
+        DuplicateDetectionResult parallel = detector.detect(clientes, pool);
+        DuplicateDetectionResult sequential = detector.detect(clientes, single);
+        single.shutdownNow();
+
+        // Assert
+        assertTrue(parallel.totalCandidates() > 100);
+        assertEquals(sequential.comparisons(), parallel.comparisons());
+        assertEquals(sequential.totalCandidates(), parallel.totalCandidates());
+        assertEquals(sequential.candidates(), parallel.candidates());
+        assertEquals(100, parallel.candidates().size());
+    }
+}
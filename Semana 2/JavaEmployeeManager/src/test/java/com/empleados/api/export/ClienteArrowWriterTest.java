@@ -0,0 +1,106 @@
+package com.empleados.api.export;
+
+import com.empleados.api.dto.ClienteDTO;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la exportación Arrow IPC, leída con el lector de referencia de Apache Arrow
+ */
+class ClienteArrowWriterTest {
+
+    private static byte[] write(List<ClienteDTO> clientes, int batchSize) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ClienteArrowWriter writer = new ClienteArrowWriter(bytes, batchSize);
+        for (ClienteDTO cliente : clientes) {
+            writer.write(cliente);
+        }
+        writer.finish();
+        return bytes.toByteArray();
+    }
+
+    private static String string(FieldVector vector, int index) {
+        byte[] value = ((VarCharVector) vector).get(index);
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * @param batches receives the row count of every record batch
+     */
+    static List<ClienteDTO> read(byte[] data, List<Integer> batches) throws Exception {
+        List<ClienteDTO> clientes = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(data), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            Field ciudadField = root.getSchema().findField("ciudad");
+            assertEquals(new ArrowType.Int(32, true), ciudadField.getDictionary().getIndexType());
+            while (reader.loadNextBatch()) {
+                batches.add(root.getRowCount());
+                Dictionary dictionary = reader.getDictionaryVectors().get(ciudadField.getDictionary().getId());
+                BigIntVector ids = (BigIntVector) root.getVector("id");
+                IntVector ciudades = (IntVector) root.getVector("ciudad");
+                for (int i = 0; i < root.getRowCount(); i++) {
+                    clientes.add(new ClienteDTO(ids.get(i),
+                            string(root.getVector("nombre"), i),
+                            string(root.getVector("apellido"), i),
+                            string(root.getVector("email"), i),
+                            string(root.getVector("telefono"), i),
+                            ciudades.isNull(i) ? null : string(dictionary.getVector(), ciudades.get(i))));
+                }
+            }
+        }
+        return clientes;
+    }
+
+    @Test
+    @DisplayName("Debe leer con Arrow las mismas filas, en lotes y con el diccionario de ciudades ampliado")
+    void roundTrip_ShouldPreserveRowsAcrossBatchesAndDictionaryDeltas() throws Exception {
+        // Arrange
+        List<ClienteDTO> clientes = new ArrayList<>();
+        for (long id = 1; id <= 2_500; id++) {
+            // New ciudades keep appearing in later batches, plus nulls and multi-byte text
+            String ciudad = id % 97 == 0 ? null : "Ciudad " + (id % (10 + id / 500)) + (id % 3 == 0 ? " Querétaro" : "");
+            clientes.add(new ClienteDTO(id, "Nombre" + id, id % 50 == 0 ? null : "Núñez " + id,
+                    "cliente" + id + "@example.com", id % 7 == 0 ? null : String.valueOf(5_550_000_000L + id), ciudad));
+        }
+
+        // Act
+        List<Integer> batches = new ArrayList<>();
+        List<ClienteDTO> result = read(write(clientes, 1_000), batches);
+
+        // Assert
+        assertEquals(List.of(1_000, 1_000, 500), batches);
+        assertEquals(clientes, result);
+    }
+
+    @Test
+    @DisplayName("Debe producir un flujo válido sin filas")
+    void write_WithoutRows_ShouldProduceEmptyStream() throws Exception {
+        // Act
+        List<Integer> batches = new ArrayList<>();
+        List<ClienteDTO> result = read(write(List.of(), 10), batches);
+
+        // Assert
+        assertTrue(batches.isEmpty());
+        assertTrue(result.isEmpty());
+    }
+}
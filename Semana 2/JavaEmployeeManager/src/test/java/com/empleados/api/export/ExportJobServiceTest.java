@@ -0,0 +1,46 @@
+package com.empleados.api.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la limpieza del directorio de exportaciones al arrancar
+ */
+class ExportJobServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private Path crear(String name) throws IOException {
+        return Files.writeString(directory.resolve(name), "x");
+    }
+
+    @Test
+    @DisplayName("Al reiniciar solo debe borrar los ficheros creados por exportaciones")
+    void restart_ShouldOnlyDeleteExportFiles() throws Exception {
+        // Arrange
+        String id = UUID.randomUUID().toString();
+        Path completa = crear(id + ExportCompression.GZIP.suffix(ExportFormat.CSV));
+        Path parcial = crear(id + ExportCompression.NONE.suffix(ExportFormat.ARROW) + ".part");
+        Path snapshot = crear("clientes.snap");
+        Path parecida = crear("informe" + ExportCompression.NONE.suffix(ExportFormat.CSV));
+
+        // Act
+        new ExportJobService(null, null, null, directory, 1, 1, Duration.ofMinutes(1)).destroy();
+
+        // Assert
+        assertFalse(Files.exists(completa));
+        assertFalse(Files.exists(parcial));
+        assertTrue(Files.exists(snapshot));
+        assertTrue(Files.exists(parecida));
+    }
+}
@@ -0,0 +1,127 @@
+package com.empleados.api.journal;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.event.ClienteChangeEvent;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ClienteJournal y su formato de registros
+ */
+class ClienteJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private ClienteJournal open(int segmentSize) throws Exception {
+        return new ClienteJournal(directory, segmentSize, FsyncPolicy.ALWAYS, Duration.ofMillis(50));
+    }
+
+    private static long countSegments(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".log")).count();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe leer tras reabrir los registros escritos en orden")
+    void readFrom_AfterReopen_ShouldReturnRecordsInOrder() throws Exception {
+        // Arrange
+        ClienteDTO cliente = TestDataBuilder.createClienteDTO();
+        try (ClienteJournal journal = open(4096)) {
+            journal.append(JournalCodec.encodeTransaction(7, List.of(
+                    ClienteChangeEvent.upsert(cliente), ClienteChangeEvent.reassignCiudad("CDMX", "Puebla"))));
+            journal.awaitDurable(journal.append(JournalCodec.encodeMarker(JournalCodec.COMMIT, 7)));
+        }
+
+        // Act
+        ClienteJournal reopened = open(4096);
+        List<byte[]> records = reopened.readFrom(0);
+        reopened.close();
+
+        // Assert
+        assertEquals(2, records.size());
+        JournalCodec.Record tx = JournalCodec.decode(records.get(0));
+        assertEquals(JournalCodec.TRANSACTION, tx.kind());
+        assertEquals(7, tx.txId());
+        assertEquals(cliente, tx.changes().get(0).cliente());
+        assertEquals("Puebla", tx.changes().get(1).nuevaCiudad());
+        assertEquals(JournalCodec.COMMIT, JournalCodec.decode(records.get(1)).kind());
+        assertEquals(2, reopened.getFirstSegment());
+    }
+
+    @Test
+    @DisplayName("Debe abrir un nuevo segmento cuando el actual se llena")
+    void append_WhenSegmentFull_ShouldRollToNewSegment() throws Exception {
+        // Arrange
+        byte[] payload = JournalCodec.encodeMarker(JournalCodec.COMMIT, 1);
+
+        // Act
+        try (ClienteJournal journal = open(64)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(payload);
+            }
+            assertEquals(10, journal.readFrom(0).size());
+        }
+
+        // Assert
+        assertTrue(countSegments(directory) > 1);
+    }
+
+    @Test
+    @DisplayName("Debe ignorar un registro final corrupto")
+    void readFrom_WithTornTail_ShouldStopAtCorruptRecord() throws Exception {
+        // Arrange
+        try (ClienteJournal journal = open(4096)) {
+            journal.append(JournalCodec.encodeMarker(JournalCodec.COMMIT, 1));
+            journal.append(JournalCodec.encodeMarker(JournalCodec.COMMIT, 2));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(
+                directory.resolve("journal-0000000000000001.log").toFile(), "rw")) {
+            // Flip a payload byte of the second record (8-byte header + 9-byte payload each)
+            file.seek(17 + 8 + 3);
+            file.write(0x7F);
+        }
+
+        // Act
+        List<byte[]> records;
+        try (ClienteJournal journal = open(4096)) {
+            records = journal.readFrom(0);
+        }
+
+        // Assert
+        assertEquals(1, records.size());
+        assertEquals(1, JournalCodec.decode(records.get(0)).txId());
+    }
+
+    @Test
+    @DisplayName("Debe descartar los segmentos anteriores a un roll")
+    void deleteSegmentsBefore_AfterRoll_ShouldKeepOnlyNewRecords() throws Exception {
+        // Arrange
+        try (ClienteJournal journal = open(4096)) {
+            journal.append(JournalCodec.encodeMarker(JournalCodec.COMMIT, 1));
+            long base = journal.roll();
+            journal.append(JournalCodec.encodeMarker(JournalCodec.COMMIT, 2));
+
+            // Act
+            journal.deleteSegmentsBefore(base);
+
+            // Assert
+            List<byte[]> records = journal.readFrom(0);
+            assertEquals(1, records.size());
+            assertEquals(2, JournalCodec.decode(records.get(0)).txId());
+            assertEquals(1, countSegments(directory));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.empleados.api.journal;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.event.ClienteChangeEvent;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la recuperación del journal sobre una base H2 independiente
+ */
+class JournalRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    private JdbcTemplate jdbcTemplate;
+    private ClienteJdbcWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:journal-recovery;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE clientes (id BIGINT PRIMARY KEY, nombre VARCHAR(255), "
+                + "apellido VARCHAR(255), email VARCHAR(255) UNIQUE, telefono VARCHAR(255), ciudad_id INT, "
+                + "telefono_invertido VARCHAR(255), email_dominio VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE ciudades (id INT PRIMARY KEY, nombre VARCHAR(255) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE SEQUENCE clientes_seq START WITH 1 INCREMENT BY 50");
+        writer = new ClienteJdbcWriter(jdbcTemplate, new CiudadDictionary(jdbcTemplate.getDataSource()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    private static ClienteDTO cliente(long id, String nombre, String ciudad) {
+        return new ClienteDTO(id, nombre, "Apellido", nombre.toLowerCase() + "@example.com", "5550000000", ciudad);
+    }
+
+    private static void transaction(ClienteJournal journal, long txId, byte marker, ClienteChangeEvent... changes) {
+        journal.append(JournalCodec.encodeTransaction(txId, List.of(changes)));
+        if (marker != 0) {
+            journal.append(JournalCodec.encodeMarker(marker, txId));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe restaurar el snapshot y reaplicar solo las transacciones confirmadas")
+    void afterPropertiesSet_ShouldRestoreSnapshotAndCommittedTransactions() throws Exception {
+        // Arrange
+        SnapshotStore snapshots = new SnapshotStore(directory);
+        try (ClienteJournal journal = new ClienteJournal(directory, 4096, FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            transaction(journal, 1, JournalCodec.COMMIT, ClienteChangeEvent.upsert(cliente(1, "Obsoleto", "CDMX")));
+            long base = journal.roll();
+            snapshots.write(base, List.of(cliente(1, "Ana", "CDMX"), cliente(2, "Luis", "CDMX")));
+            transaction(journal, 2, JournalCodec.COMMIT,
+                    ClienteChangeEvent.upsert(cliente(140, "Eva", "Monterrey")),
+                    ClienteChangeEvent.reassignCiudad("CDMX", "Puebla"));
+            transaction(journal, 3, JournalCodec.ABORT, ClienteChangeEvent.delete(1L));
+            transaction(journal, 4, (byte) 0, ClienteChangeEvent.deleteCiudad("Puebla"));
+            transaction(journal, 5, JournalCodec.COMMIT, ClienteChangeEvent.delete(2L));
+        }
+
+        // Act
+        try (ClienteJournal journal = new ClienteJournal(directory, 4096, FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            new JournalRecovery(journal, snapshots, writer).afterPropertiesSet();
+        }
+
+        // Assert
+        List<ClienteDTO> clientes = writer.findAll();
+        assertEquals(2, clientes.size());
+        assertEquals("Ana", clientes.get(0).getNombre());
+        assertEquals("Puebla", clientes.get(0).getCiudad());
+        assertEquals(140L, clientes.get(1).getId());
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR clientes_seq", Long.class);
+        assertTrue(next - 49 > 140, "La secuencia debe quedar por encima del id máximo");
+    }
+}
@@ -0,0 +1,108 @@
+package com.empleados.api.journal;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import com.empleados.api.snapshot.ClienteSnapshotReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de los snapshots del journal sobre una base H2 independiente
+ */
+class JournalSnapshotterTest {
+
+    @TempDir
+    Path directory;
+
+    private JdbcTemplate jdbcTemplate;
+    private ClienteJdbcWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:journal-snapshot;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE clientes (id BIGINT PRIMARY KEY, nombre VARCHAR(255), "
+                + "apellido VARCHAR(255), email VARCHAR(255) UNIQUE, telefono VARCHAR(255), ciudad_id INT, "
+                + "telefono_invertido VARCHAR(255), email_dominio VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE ciudades (id INT PRIMARY KEY, nombre VARCHAR(255) NOT NULL UNIQUE)");
+        writer = new ClienteJdbcWriter(jdbcTemplate, new CiudadDictionary(jdbcTemplate.getDataSource()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    private static ClienteDTO cliente(long id, String nombre) {
+        return new ClienteDTO(id, nombre, "Apellido", nombre.toLowerCase() + "@example.com", "5550000000", "CDMX");
+    }
+
+    @Test
+    @DisplayName("La vista del snapshot no debe ver los cambios confirmados después de abrirla")
+    void openSnapshot_ShouldIgnoreLaterCommits() {
+        // Arrange
+        writer.upsertAll(List.of(cliente(1, "Ana"), cliente(2, "Luis")));
+        List<String> nombres = new ArrayList<>();
+
+        // Act
+        try (ClienteJdbcWriter.Snapshot snapshot = writer.openSnapshot()) {
+            writer.upsertAll(List.of(cliente(3, "Eva"), cliente(1, "Carla")));
+            jdbcTemplate.update("DELETE FROM clientes WHERE id = 2");
+            snapshot.forEach(c -> nombres.add(c.getNombre()));
+
+            // Assert
+            assertEquals(2, snapshot.size());
+        }
+        assertEquals(List.of("Ana", "Luis"), nombres);
+        assertEquals(2, writer.count());
+    }
+
+    @Test
+    @DisplayName("El snapshot debe escribirse sin bloquear las confirmaciones mientras lee las filas")
+    void snapshot_ShouldNotHoldCommitGateWhileWriting() throws Exception {
+        // Arrange
+        writer.upsertAll(List.of(cliente(1, "Ana"), cliente(2, "Luis")));
+        try (ClienteJournal journal = new ClienteJournal(directory.resolve("journal"), 4096,
+                FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            journal.append(JournalCodec.encodeMarker(JournalCodec.COMMIT, 1));
+            List<Boolean> gateFree = new ArrayList<>();
+            SnapshotStore snapshots = new SnapshotStore(directory.resolve("snapshots")) {
+                @Override
+                public long write(long baseSegment, Consumer<Consumer<ClienteDTO>> rows) throws IOException {
+                    return super.write(baseSegment, action -> rows.accept(cliente -> {
+                        gateFree.add(!journal.commitGate().isWriteLocked());
+                        action.accept(cliente);
+                    }));
+                }
+            };
+
+            // Act
+            new JournalSnapshotter(journal, snapshots, writer, Duration.ofMinutes(5)).snapshot();
+
+            // Assert
+            assertEquals(List.of(true, true), gateFree);
+            List<Long> bases = snapshots.bases();
+            assertEquals(1, bases.size());
+            try (ClienteSnapshotReader reader = snapshots.open(bases.get(0))) {
+                assertEquals("Ana", reader.next().getNombre());
+                assertEquals("Luis", reader.next().getNombre());
+                assertNull(reader.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.empleados.api.replica;
+
+import com.empleados.api.dto.ClienteDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del almacén columnar de la réplica de lectura
+ */
+class ClienteColumnStoreTest {
+
+    private static ClienteDTO cliente(long id, String nombre, String ciudad) {
+        return new ClienteDTO(id, nombre, "Pérez", nombre.toLowerCase() + id + "@ejemplo.com", null, ciudad);
+    }
+
+    @Test
+    @DisplayName("Debe devolver las filas en orden de id aunque lleguen desordenadas")
+    void upsert_OutOfOrder_ShouldKeepIdOrder() {
+        // Arrange
+        ClienteColumnStore store = new ClienteColumnStore(2, false);
+
+        // Act
+        store.upsert(cliente(30, "Luis", "CDMX"));
+        store.upsert(cliente(10, "Ana", "Monterrey"));
+        store.upsert(cliente(20, "José", null));
+
+        // Assert
+        List<ClienteDTO> all = store.findAll();
+        assertEquals(List.of(10L, 20L, 30L), all.stream().map(ClienteDTO::getId).toList());
+        assertEquals(cliente(20, "José", null), all.get(1));
+        assertNull(all.get(1).getTelefono());
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar una fila existente y filtrar por la ciudad nueva")
+    void upsert_ExistingId_ShouldReplaceRow() {
+        // Arrange
+        ClienteColumnStore store = new ClienteColumnStore(16, true);
+        store.upsert(cliente(1, "Ana", "CDMX"));
+
+        // Act
+        store.upsert(cliente(1, "Ana María", "Puebla"));
+
+        // Assert
+        assertEquals(1, store.count());
+        assertTrue(store.findByCiudad("CDMX").isEmpty());
+        assertEquals("Ana María", store.findByCiudad("Puebla").get(0).getNombre());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar las operaciones masivas por ciudad y contar por ciudad")
+    void bulkOperations_ShouldUpdateCountsByCiudad() {
+        // Arrange
+        ClienteColumnStore store = new ClienteColumnStore(16, false);
+        store.upsert(cliente(1, "Ana", "CDMX"));
+        store.upsert(cliente(2, "Luis", "EDOMEX"));
+        store.upsert(cliente(3, "Eva", "EDOMEX"));
+        store.upsert(cliente(4, "Raúl", "Monterrey"));
+
+        // Act
+        int reassigned = store.reassignCiudad("EDOMEX", "CDMX");
+        int deleted = store.deleteByCiudad("Monterrey");
+
+        // Assert
+        assertEquals(2, reassigned);
+        assertEquals(1, deleted);
+        assertEquals(3, store.count());
+        assertEquals(Map.of("CDMX", 3L), store.countByCiudad());
+        assertNull(store.findById(4));
+    }
+
+    @Test
+    @DisplayName("Debe conservar los datos vivos al compactar tras muchas eliminaciones")
+    void compactIfNeeded_AfterDeletes_ShouldKeepLiveRows() {
+        // Arrange
+        ClienteColumnStore store = new ClienteColumnStore(16, false);
+        for (long id = 1; id <= 1000; id++) {
+            store.upsert(cliente(id, "Cliente", id % 2 == 0 ? "CDMX" : "Puebla"));
+        }
+        for (long id = 1; id <= 1000; id += 2) {
+            store.delete(id);
+        }
+
+        // Act
+        store.compactIfNeeded();
+        store.upsert(cliente(2000, "Nuevo", "Puebla"));
+
+        // Assert
+        assertEquals(501, store.count());
+        assertEquals(500, store.findByCiudad("CDMX").size());
+        assertEquals("Nuevo", store.findById(2000).getNombre());
+        assertFalse(store.delete(1));
+    }
+}
@@ -0,0 +1,83 @@
+package com.empleados.api.replica;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.dto.ClienteEstadisticasDTO;
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.service.ClienteService;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la réplica de lectura sincronizada con las escrituras del servicio
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "clientes.replica.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"})
+class ClienteReadReplicaTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteReadReplica readReplica;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Through the service, so the replica sees the deletes of the rows loaded at startup
+        clienteService.getAllClientes().forEach(c -> clienteService.deleteCliente(c.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe reflejar en la réplica las escrituras confirmadas del servicio")
+    void writes_ShouldBeVisibleInReplica() {
+        // Arrange
+        ClienteDTO nuevo = TestDataBuilder.createNewClienteDTO();
+        nuevo.setCiudad("Guadalajara");
+
+        // Act
+        ClienteDTO creado = clienteService.createCliente(nuevo);
+        creado.setNombre("Carla");
+        clienteService.updateCliente(creado.getId(), creado);
+        clienteService.reassignCiudad("Guadalajara", "Zapopan");
+
+        // Assert
+        assertTrue(readReplica.isReady());
+        List<ClienteDTO> enZapopan = clienteService.getClientesByCiudad("Zapopan");
+        assertEquals(1, enZapopan.size());
+        assertEquals("Carla", enZapopan.get(0).getNombre());
+        assertEquals(clienteRepository.count(), clienteService.getAllClientes().size());
+        ClienteEstadisticasDTO estadisticas = clienteService.getEstadisticas();
+        assertEquals(1L, estadisticas.getPorCiudad().get("Zapopan"));
+    }
+
+    @Test
+    @DisplayName("No debe reflejar en la réplica las escrituras revertidas")
+    void rolledBackWrite_ShouldNotReachReplica() {
+        // Arrange
+        ClienteDTO existente = clienteService.createCliente(TestDataBuilder.createNewClienteDTO());
+        ClienteDTO duplicado = TestDataBuilder.createNewClienteDTO();
+        duplicado.setEmail(existente.getEmail());
+
+        // Act
+        assertThrows(RuntimeException.class, () -> clienteService.createCliente(duplicado));
+
+        // Assert
+        assertEquals(1, readReplica.count());
+        assertEquals(clienteRepository.count(), readReplica.count());
+    }
+}
@@ -0,0 +1,103 @@
+package com.empleados.api.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del diccionario de ciudades sobre una base H2 independiente
+ */
+class CiudadDictionaryTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:ciudades;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE ciudades (id INT PRIMARY KEY, nombre VARCHAR(255) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE TABLE clientes (id BIGINT PRIMARY KEY, ciudad_id INT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("Debe asignar códigos estables y conservarlos en la tabla de referencia")
+    void codeFor_ShouldAssignStableCodes() {
+        // Arrange
+        CiudadDictionary dictionary = new CiudadDictionary(dataSource);
+
+        // Act
+        Integer cdmx = dictionary.codeFor("CDMX");
+        Integer monterrey = dictionary.codeFor("Monterrey");
+        CiudadDictionary reloaded = new CiudadDictionary(dataSource);
+
+        // Assert
+        assertEquals(cdmx, dictionary.codeFor("CDMX"));
+        assertNotEquals(cdmx, monterrey);
+        assertEquals(cdmx, reloaded.find("CDMX"));
+        assertEquals("Monterrey", reloaded.nameOf(monterrey));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ciudades", Integer.class));
+    }
+
+    @Test
+    @DisplayName("No debe registrar ciudades al buscarlas")
+    void find_WhenUnknown_ShouldNotRegister() {
+        // Arrange
+        CiudadDictionary dictionary = new CiudadDictionary(dataSource);
+
+        // Act
+        Integer code = dictionary.find("Atlántida");
+
+        // Assert
+        assertNull(code);
+        assertNull(dictionary.codeFor(null));
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("El conversor no debe registrar una ciudad desconocida y debe devolver un código que no coincide con nada")
+    void convertToDatabaseColumn_WhenUnknown_ShouldNotRegister() {
+        // Arrange
+        CiudadDictionary dictionary = new CiudadDictionary(dataSource);
+        Integer cdmx = dictionary.codeFor("CDMX");
+        CiudadConverter converter = new CiudadConverter(dictionary);
+
+        // Act
+        Integer unknown = converter.convertToDatabaseColumn("Atlántida");
+
+        // Assert
+        assertEquals(CiudadConverter.UNKNOWN, unknown);
+        assertEquals(cdmx, converter.convertToDatabaseColumn("CDMX"));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertEquals(1, dictionary.size());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ciudades", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Debe impedir códigos de ciudad inexistentes en clientes")
+    void afterSingletonsInstantiated_ShouldAddForeignKey() {
+        // Arrange
+        CiudadDictionary dictionary = new CiudadDictionary(dataSource);
+        Integer cdmx = dictionary.codeFor("CDMX");
+
+        // Act
+        dictionary.afterSingletonsInstantiated();
+
+        // Assert
+        jdbcTemplate.update("INSERT INTO clientes (id, ciudad_id) VALUES (1, ?)", cdmx);
+        assertThrows(RuntimeException.class,
+                () -> jdbcTemplate.update("INSERT INTO clientes (id, ciudad_id) VALUES (2, 999)"));
+    }
+}
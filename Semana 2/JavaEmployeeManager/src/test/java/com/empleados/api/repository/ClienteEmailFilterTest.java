@@ -0,0 +1,89 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.model.Cliente;
+import com.empleados.api.service.ClienteService;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del filtro de emails sincronizado con las escrituras de Hibernate
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClienteEmailFilterTest {
+
+    @Autowired
+    private ClienteEmailFilter emailFilter;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        clienteRepository.deleteAll();
+        emailFilter.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Debe seguir las altas, cambios de email y bajas confirmadas")
+    void committedWrites_ShouldBeReflectedInFilter() {
+        // Arrange
+        ClienteDTO creado = clienteService.createCliente(TestDataBuilder.createNewClienteDTO());
+        String emailOriginal = creado.getEmail();
+
+        // Act
+        creado.setEmail("carlos.nuevo@example.com");
+        clienteService.updateCliente(creado.getId(), creado);
+
+        // Assert
+        assertTrue(emailFilter.isReady());
+        assertFalse(emailFilter.definitelyAbsent("carlos.nuevo@example.com"));
+        assertTrue(emailFilter.definitelyAbsent(emailOriginal));
+        assertTrue(clienteService.existsByEmail("carlos.nuevo@example.com"));
+
+        clienteRepository.deleteById(creado.getId());
+        assertTrue(emailFilter.definitelyAbsent("carlos.nuevo@example.com"));
+    }
+
+    @Test
+    @DisplayName("Debe descartar el email de un alta revertida")
+    void rolledBackInsert_ShouldBeRemovedFromFilter() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Cliente cliente = TestDataBuilder.createCliente();
+        cliente.setId(null);
+
+        // Act
+        transaction.executeWithoutResult(status -> {
+            clienteRepository.saveAndFlush(cliente);
+            assertFalse(emailFilter.definitelyAbsent(cliente.getEmail()));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertTrue(emailFilter.definitelyAbsent(cliente.getEmail()));
+        assertFalse(clienteService.existsByEmail(cliente.getEmail()));
+    }
+}
@@ -2,11 +2,13 @@ package com.empleados.api.repository;
 
 import com.empleados.api.model.Cliente;
 import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -21,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(CiudadDictionary.class)
 class ClienteRepositoryTest {
 
     @Autowired
@@ -29,6 +32,16 @@ class ClienteRepositoryTest {
     @Autowired
     private ClienteRepository clienteRepository;
 
+    @Autowired
+    private CiudadDictionary ciudadDictionary;
+
+    @BeforeEach
+    void setUp() {
+        // Los servicios registran las ciudades nuevas; estas pruebas escriben directamente en el repositorio
+        ciudadDictionary.codeFor("CDMX");
+        ciudadDictionary.codeFor("EDOMEX");
+    }
+
     @Test
     @DisplayName("Debe encontrar un cliente por email cuando existe")
     void findByEmail_WhenEmailExists_ShouldReturnCliente() {
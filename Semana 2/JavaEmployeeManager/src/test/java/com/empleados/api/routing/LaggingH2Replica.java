@@ -0,0 +1,148 @@
+package com.empleados.api.routing;
+
+import com.empleados.api.event.ClienteChangeEvent;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteJdbcWriter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Offline stand-in for a replicated database: a second in-memory H2 database that receives
+ * the committed changes of the primary after a fixed lag.
+ * <p>
+ * When the application is ready the schema and rows of the primary are copied with H2's
+ * {@code SCRIPT}; until then read-only transactions stay on the primary. Afterwards every
+ * committed transaction is replayed on the replica {@code lag} later, through the same
+ * {@link ClienteJdbcWriter} the journal uses. Concurrent transactions touching the same row
+ * may be replayed out of commit order, which is fine for the tests using it.
+ */
+public class LaggingH2Replica {
+
+    private final DataSource primary;
+    private final ReadWriteRoutingDataSource routing;
+    private final CiudadDictionary ciudades;
+    private final JdbcTemplate replicaJdbc;
+    private final ClienteJdbcWriter replicaWriter;
+    private final Duration lag;
+    private final ScheduledExecutorService replicator = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    @Autowired
+    public LaggingH2Replica(@Qualifier("primaryDataSource") DataSource primary,
+                            ReadWriteRoutingDataSource routing,
+                            CiudadDictionary ciudades,
+                            @Value("${clientes.routing.replica.url}") String replicaUrl,
+                            @Value("${spring.datasource.username:sa}") String username,
+                            @Value("${spring.datasource.password:}") String password,
+                            @Value("${clientes.routing.stand-in.lag:PT0.5S}") Duration lag) {
+        this.primary = primary;
+        this.routing = routing;
+        this.ciudades = ciudades;
+        // Writes bypass the read-only replica pool of the application
+        this.replicaJdbc = new JdbcTemplate(new DriverManagerDataSource(replicaUrl, username, password));
+        this.replicaWriter = new ClienteJdbcWriter(replicaJdbc, ciudades);
+        this.lag = lag;
+        routing.setReplicaAvailable(false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void copyPrimary() {
+        for (String statement : new JdbcTemplate(primary).queryForList("SCRIPT", String.class)) {
+            replicaJdbc.execute(statement);
+        }
+        routing.setReplicaAvailable(true);
+    }
+
+    @EventListener
+    public void onChange(ClienteChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            replicateLater(List.of(event));
+            return;
+        }
+        PendingTransaction transaction = (PendingTransaction) TransactionSynchronizationManager.getResource(this);
+        if (transaction == null) {
+            transaction = new PendingTransaction();
+            TransactionSynchronizationManager.bindResource(this, transaction);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        transaction.changes.add(event);
+    }
+
+    /**
+     * Block until every committed change has reached the replica
+     */
+    public void awaitReplication(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("La réplica no se puso al día en " + timeout);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        replicator.shutdownNow();
+    }
+
+    private void replicateLater(List<ClienteChangeEvent> changes) {
+        pending.incrementAndGet();
+        replicator.schedule(() -> {
+            try {
+                copyCiudades(changes);
+                replicaWriter.apply(changes);
+            } finally {
+                pending.decrementAndGet();
+            }
+        }, lag.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Dictionary rows referenced by the changes, so the foreign key holds on the replica
+     */
+    private void copyCiudades(List<ClienteChangeEvent> changes) {
+        for (ClienteChangeEvent change : changes) {
+            String ciudad = change.cliente() != null ? change.cliente().getCiudad() : change.nuevaCiudad();
+            Integer code = ciudad == null ? null : ciudades.find(ciudad);
+            if (code != null) {
+                replicaJdbc.update("MERGE INTO ciudades (id, nombre) KEY (id) VALUES (?, ?)", code, ciudad);
+            }
+        }
+    }
+
+    /**
+     * Changes of one transaction, replicated only if it commits
+     */
+    private class PendingTransaction implements TransactionSynchronization {
+
+        private final List<ClienteChangeEvent> changes = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            replicateLater(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LaggingH2Replica.this);
+        }
+    }
+}
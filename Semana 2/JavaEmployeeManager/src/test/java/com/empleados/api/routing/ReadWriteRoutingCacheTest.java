@@ -0,0 +1,119 @@
+package com.empleados.api.routing;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.service.ClienteService;
+import com.empleados.api.util.TestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.empleados.api.routing.ReadWriteRoutingDataSource.Route.PRIMARY;
+import static com.empleados.api.routing.ReadWriteRoutingDataSource.Route.REPLICA;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del enrutado lectura/escritura con la caché de segundo nivel y de consultas activa.
+ * Las regiones llevan prefijo propio para no compartir entradas con otros contextos de prueba.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(LaggingH2Replica.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingcachedb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "clientes.routing.enabled=true",
+        "clientes.routing.replica.url=jdbc:h2:mem:routingcachereplica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "clientes.routing.stand-in.lag=PT1S",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region_prefix=routing",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+class ReadWriteRoutingCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private LaggingH2Replica replica;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        replica.awaitReplication(TIMEOUT);
+        ReadYourWrites.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private ClienteDTO crearEn(String ciudad) {
+        ClienteDTO nuevo = TestDataBuilder.createNewClienteDTO();
+        nuevo.setEmail("routing.cache." + System.nanoTime() + "@example.com");
+        nuevo.setCiudad(ciudad);
+        return clienteService.createCliente(nuevo);
+    }
+
+    private static boolean contiene(List<ClienteDTO> clientes, ClienteDTO cliente) {
+        return clientes.stream().anyMatch(c -> c.getId().equals(cliente.getId()));
+    }
+
+    @Test
+    @DisplayName("Una lectura atrasada de la réplica no debe quedarse en la caché de consultas")
+    void staleReplicaRead_ShouldNotBeCached() throws InterruptedException {
+        // Arrange
+        ClienteDTO creado = crearEn("Tlaxcala");
+        ReadYourWrites.clear();
+        long replicaBefore = routingDataSource.getRouteCount(REPLICA);
+        long putsBefore = statistics.getQueryCachePutCount();
+
+        // Act
+        List<ClienteDTO> atrasada = clienteService.getClientesByCiudad("Tlaxcala");
+        replica.awaitReplication(TIMEOUT);
+        List<ClienteDTO> alDia = clienteService.getClientesByCiudad("Tlaxcala");
+
+        // Assert
+        assertFalse(contiene(atrasada, creado));
+        assertTrue(contiene(alDia, creado));
+        assertEquals(replicaBefore + 2, routingDataSource.getRouteCount(REPLICA));
+        assertEquals(putsBefore, statistics.getQueryCachePutCount());
+    }
+
+    @Test
+    @DisplayName("Las lecturas servidas por el primario deben seguir usando la caché de consultas")
+    void primaryRead_ShouldStillBeCached() {
+        // Arrange
+        ClienteDTO creado = crearEn("Zacatecas");
+        long primaryBefore = routingDataSource.getRouteCount(PRIMARY);
+        long putsBefore = statistics.getQueryCachePutCount();
+        long hitsBefore = statistics.getQueryCacheHitCount();
+
+        // Act: pinned to the primary by its own write
+        List<ClienteDTO> leida = clienteService.getClientesByCiudad("Zacatecas");
+        List<ClienteDTO> cacheada = clienteService.getClientesByCiudad("Zacatecas");
+
+        // Assert
+        assertTrue(contiene(leida, creado));
+        assertTrue(contiene(cacheada, creado));
+        assertEquals(primaryBefore + 1, routingDataSource.getRouteCount(PRIMARY));
+        assertEquals(putsBefore + 1, statistics.getQueryCachePutCount());
+        assertEquals(hitsBefore + 1, statistics.getQueryCacheHitCount());
+    }
+}
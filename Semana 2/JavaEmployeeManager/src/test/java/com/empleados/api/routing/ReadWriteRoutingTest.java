@@ -0,0 +1,112 @@
+package com.empleados.api.routing;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.service.ClienteService;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static com.empleados.api.routing.ReadWriteRoutingDataSource.Route.PRIMARY;
+import static com.empleados.api.routing.ReadWriteRoutingDataSource.Route.REPLICA;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del enrutado lectura/escritura contra una réplica H2 local con retraso simulado
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(LaggingH2Replica.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "clientes.routing.enabled=true",
+        "clientes.routing.replica.url=jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "clientes.routing.stand-in.lag=PT1S"})
+class ReadWriteRoutingTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private LaggingH2Replica replica;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        replica.awaitReplication(TIMEOUT);
+        // Every test starts as a fresh request, not pinned by earlier writes
+        ReadYourWrites.clear();
+    }
+
+    private ClienteDTO nuevoCliente() {
+        ClienteDTO nuevo = TestDataBuilder.createNewClienteDTO();
+        nuevo.setEmail("routing." + System.nanoTime() + "@example.com");
+        nuevo.setCiudad("Oaxaca");
+        return nuevo;
+    }
+
+    @Test
+    @DisplayName("Las lecturas de solo lectura deben servirse desde la réplica")
+    void readOnlyReads_ShouldUseReplica() {
+        // Arrange
+        long esperado = clienteRepository.count();
+        long replicaBefore = routingDataSource.getRouteCount(REPLICA);
+        long primaryBefore = routingDataSource.getRouteCount(PRIMARY);
+
+        // Act
+        int total = clienteService.getAllClientes().size();
+
+        // Assert
+        assertEquals(esperado, total);
+        assertEquals(replicaBefore + 1, routingDataSource.getRouteCount(REPLICA));
+        assertEquals(primaryBefore, routingDataSource.getRouteCount(PRIMARY));
+        assertFalse(ReadYourWrites.isPinned());
+    }
+
+    @Test
+    @DisplayName("Otra petición no debe ver la escritura hasta que la réplica se ponga al día")
+    void readInAnotherRequest_ShouldBeStaleUntilReplicated() throws InterruptedException {
+        // Arrange
+        ClienteDTO creado = clienteService.createCliente(nuevoCliente());
+        ReadYourWrites.clear();
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> clienteService.getClienteById(creado.getId()));
+        replica.awaitReplication(TIMEOUT);
+        assertEquals(creado.getEmail(), clienteService.getClienteById(creado.getId()).getEmail());
+    }
+
+    @Test
+    @DisplayName("La misma petición debe leer sus propias escrituras desde el primario")
+    void readInSameRequest_ShouldSeeOwnWrite() {
+        // Arrange
+        long replicaBefore = routingDataSource.getRouteCount(REPLICA);
+
+        // Act
+        ClienteDTO creado = clienteService.createCliente(nuevoCliente());
+        ClienteDTO leido = clienteService.getClienteById(creado.getId());
+
+        // Assert
+        assertTrue(ReadYourWrites.isPinned());
+        assertEquals(creado.getEmail(), leido.getEmail());
+        assertTrue(clienteService.getClientesByCiudad("Oaxaca").stream()
+                .anyMatch(c -> c.getId().equals(creado.getId())));
+        assertEquals(replicaBefore, routingDataSource.getRouteCount(REPLICA));
+    }
+}
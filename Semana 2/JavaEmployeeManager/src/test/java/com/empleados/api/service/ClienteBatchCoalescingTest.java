@@ -0,0 +1,103 @@
+package com.empleados.api.service;
+
+import com.empleados.api.dto.BatchOperationDTO;
+import com.empleados.api.dto.BatchRequestDTO;
+import com.empleados.api.dto.BatchResponseDTO;
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.model.Cliente;
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Pruebas de las lecturas agrupadas por id frente a los lotes confirmados mientras están en curso
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batchcoalescingdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"})
+class ClienteBatchCoalescingTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteBatchService clienteBatchService;
+
+    @SpyBean
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Optional<Cliente> find(Long id) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return Optional.ofNullable(entityManager.find(Cliente.class, id));
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Una lectura que empieza tras confirmar un lote no debe unirse a la lectura anterior")
+    void getClienteById_AfterBatchCommit_ShouldNotJoinEarlierRead() throws Exception {
+        // Arrange
+        ClienteDTO nuevo = TestDataBuilder.createNewClienteDTO();
+        nuevo.setEmail("lote.agrupado." + System.nanoTime() + "@example.com");
+        ClienteDTO existente = clienteService.createCliente(nuevo);
+        CountDownLatch leaderRead = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        // The spy delegates to the repository proxy, the real lookup is done here instead
+        doAnswer(invocation -> {
+            Optional<Cliente> result = find(existente.getId());
+            if (first.getAndSet(false)) {
+                leaderRead.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return result;
+        }).when(clienteRepository).findById(existente.getId());
+        CompletableFuture<ClienteDTO> anterior =
+                CompletableFuture.supplyAsync(() -> clienteService.getClienteById(existente.getId()));
+        assertTrue(leaderRead.await(10, TimeUnit.SECONDS));
+
+        ClienteDTO cambios = TestDataBuilder.createClienteDTO();
+        cambios.setEmail(existente.getEmail());
+        cambios.setNombre("Después del lote");
+        BatchResponseDTO lote = clienteBatchService.executeBatch(new BatchRequestDTO(BatchRequestDTO.Mode.ATOMIC,
+                List.of(new BatchOperationDTO(BatchOperationDTO.Type.UPDATE, existente.getId(), cambios))));
+
+        try {
+            // Act
+            ClienteDTO posterior = CompletableFuture
+                    .supplyAsync(() -> clienteService.getClienteById(existente.getId()))
+                    .get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals(1, lote.getSucceeded());
+            assertEquals("Después del lote", posterior.getNombre());
+        } finally {
+            release.countDown();
+        }
+        assertEquals(existente.getNombre(), anterior.get(10, TimeUnit.SECONDS).getNombre());
+    }
+}
@@ -0,0 +1,106 @@
+package com.empleados.api.service;
+
+import com.empleados.api.dto.BatchOperationDTO;
+import com.empleados.api.dto.BatchRequestDTO;
+import com.empleados.api.dto.BatchResponseDTO;
+import com.empleados.api.dto.BatchResultDTO;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteEmailFilter;
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.service.impl.ClienteBatchServiceImpl;
+import com.empleados.api.util.TestDataBuilder;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas del servicio de lotes cuando la base de datos falla mientras se comprueban las operaciones
+ */
+@ExtendWith(MockitoExtension.class)
+class ClienteBatchServicePlanningTest {
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private ClienteService clienteService;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClienteEmailFilter emailFilter;
+
+    @Mock
+    private CiudadDictionary ciudadDictionary;
+
+    private ClienteBatchServiceImpl clienteBatchService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(clienteRepository.findAllById(anyIterable()))
+                .thenThrow(new DataAccessResourceFailureException("Conexión perdida"));
+        clienteBatchService = new ClienteBatchServiceImpl(clienteRepository, clienteService, validator,
+                transactionManager, eventPublisher, emailFilter, ciudadDictionary);
+    }
+
+    private static BatchRequestDTO request(BatchRequestDTO.Mode mode) {
+        return new BatchRequestDTO(mode, List.of(
+                new BatchOperationDTO(BatchOperationDTO.Type.UPDATE, 1L, TestDataBuilder.createClienteDTO()),
+                new BatchOperationDTO(BatchOperationDTO.Type.DELETE, 2L, null)));
+    }
+
+    private static void assertAllFailed(BatchResponseDTO response) {
+        assertEquals(0, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        for (BatchResultDTO result : response.getResults()) {
+            assertNotNull(result);
+            assertEquals(500, result.getStatus());
+            assertTrue(result.getMessage().contains("Conexión perdida"));
+        }
+    }
+
+    @Test
+    @DisplayName("Un lote ATOMIC debe informar un error por operación si la comprobación falla")
+    void executeBatch_Atomic_WhenPlanningFails_ShouldFailEveryOperation() {
+        // Act
+        BatchResponseDTO response = clienteBatchService.executeBatch(request(BatchRequestDTO.Mode.ATOMIC));
+
+        // Assert
+        assertAllFailed(response);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Un lote BEST_EFFORT no debe ejecutar operaciones que no se pudieron comprobar")
+    void executeBatch_BestEffort_WhenPlanningFails_ShouldFailEveryOperation() {
+        // Act
+        BatchResponseDTO response = clienteBatchService.executeBatch(request(BatchRequestDTO.Mode.BEST_EFFORT));
+
+        // Assert
+        assertAllFailed(response);
+        verifyNoInteractions(clienteService);
+    }
+}
@@ -0,0 +1,132 @@
+package com.empleados.api.service;
+
+import com.empleados.api.dto.BatchOperationDTO;
+import com.empleados.api.dto.BatchRequestDTO;
+import com.empleados.api.dto.BatchResponseDTO;
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.model.Cliente;
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del servicio de lotes contra la base de datos de pruebas
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClienteBatchServiceTest {
+
+    @Autowired
+    private ClienteBatchService clienteBatchService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    private Cliente existente;
+
+    @BeforeEach
+    void setUp() {
+        clienteRepository.deleteAll();
+        Cliente cliente = TestDataBuilder.createCliente();
+        cliente.setId(null);
+        existente = clienteRepository.save(cliente);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Debe aplicar un lote mixto en modo ATOMIC")
+    void executeBatch_Atomic_WithValidOperations_ShouldApplyAll() {
+        // Arrange
+        ClienteDTO actualizado = TestDataBuilder.createClienteDTO();
+        actualizado.setNombre("Juan Carlos");
+        BatchRequestDTO request = new BatchRequestDTO(BatchRequestDTO.Mode.ATOMIC, List.of(
+                new BatchOperationDTO(BatchOperationDTO.Type.CREATE, null, TestDataBuilder.createNewClienteDTO()),
+                new BatchOperationDTO(BatchOperationDTO.Type.UPDATE, existente.getId(), actualizado)));
+
+        // Act
+        BatchResponseDTO response = clienteBatchService.executeBatch(request);
+
+        // Assert
+        assertEquals(2, response.getSucceeded());
+        assertEquals(0, response.getFailed());
+        assertEquals(201, response.getResults().get(0).getStatus());
+        assertNotNull(response.getResults().get(0).getId());
+        assertEquals(200, response.getResults().get(1).getStatus());
+        assertEquals(2, clienteRepository.count());
+        assertEquals("Juan Carlos", clienteRepository.findById(existente.getId()).orElseThrow().getNombre());
+    }
+
+    @Test
+    @DisplayName("Debe revertir todo el lote ATOMIC cuando una operación falla")
+    void executeBatch_Atomic_WithOneFailure_ShouldApplyNothing() {
+        // Arrange
+        BatchRequestDTO request = new BatchRequestDTO(BatchRequestDTO.Mode.ATOMIC, List.of(
+                new BatchOperationDTO(BatchOperationDTO.Type.CREATE, null, TestDataBuilder.createNewClienteDTO()),
+                new BatchOperationDTO(BatchOperationDTO.Type.DELETE, 999_999L, null)));
+
+        // Act
+        BatchResponseDTO response = clienteBatchService.executeBatch(request);
+
+        // Assert
+        assertEquals(0, response.getSucceeded());
+        assertEquals(424, response.getResults().get(0).getStatus());
+        assertEquals(404, response.getResults().get(1).getStatus());
+        assertEquals(1, clienteRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar las operaciones válidas en modo BEST_EFFORT")
+    void executeBatch_BestEffort_ShouldApplyValidOperations() {
+        // Arrange
+        ClienteDTO duplicado = TestDataBuilder.createNewClienteDTO();
+        duplicado.setEmail(existente.getEmail());
+        BatchRequestDTO request = new BatchRequestDTO(BatchRequestDTO.Mode.BEST_EFFORT, List.of(
+                new BatchOperationDTO(BatchOperationDTO.Type.CREATE, null, TestDataBuilder.createNewClienteDTO()),
+                new BatchOperationDTO(BatchOperationDTO.Type.CREATE, null, duplicado),
+                new BatchOperationDTO(BatchOperationDTO.Type.CREATE, null, TestDataBuilder.createInvalidClienteDTO())));
+
+        // Act
+        BatchResponseDTO response = clienteBatchService.executeBatch(request);
+
+        // Assert
+        assertEquals(1, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals(201, response.getResults().get(0).getStatus());
+        assertEquals(409, response.getResults().get(1).getStatus());
+        assertEquals(400, response.getResults().get(2).getStatus());
+        assertEquals(2, clienteRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe permitir reutilizar el email de un cliente eliminado en el mismo lote")
+    void executeBatch_DeleteThenCreateWithSameEmail_ShouldSucceed() {
+        // Arrange
+        ClienteDTO reemplazo = TestDataBuilder.createNewClienteDTO();
+        reemplazo.setEmail(existente.getEmail());
+        BatchRequestDTO request = new BatchRequestDTO(BatchRequestDTO.Mode.ATOMIC, List.of(
+                new BatchOperationDTO(BatchOperationDTO.Type.DELETE, existente.getId(), null),
+                new BatchOperationDTO(BatchOperationDTO.Type.CREATE, null, reemplazo)));
+
+        // Act
+        BatchResponseDTO response = clienteBatchService.executeBatch(request);
+
+        // Assert
+        assertEquals(2, response.getSucceeded());
+        assertFalse(clienteRepository.existsById(existente.getId()));
+        assertEquals("Carlos", clienteRepository.findByEmail(existente.getEmail()).orElseThrow().getNombre());
+    }
+}
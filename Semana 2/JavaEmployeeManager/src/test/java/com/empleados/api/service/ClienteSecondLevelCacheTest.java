@@ -0,0 +1,122 @@
+package com.empleados.api.service;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.util.TestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static com.empleados.api.util.SqlStatementCounter.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de la caché de segundo nivel y de consultas de Cliente
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cachedb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+class ClienteSecondLevelCacheTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ClienteDTO existente;
+
+    @BeforeEach
+    void setUp() {
+        clienteService.deleteClientesByCiudad("Puebla");
+        ClienteDTO nuevo = TestDataBuilder.createNewClienteDTO();
+        nuevo.setEmail("cache." + System.nanoTime() + "@example.com");
+        nuevo.setCiudad("Puebla");
+        existente = clienteService.createCliente(nuevo);
+    }
+
+    @Test
+    @DisplayName("Las lecturas repetidas por ID no deben consultar la base de datos")
+    void getClienteById_Repeated_ShouldNotHitDatabase() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hitsBefore = statistics.getCacheRegionStatistics("clientes").getHitCount();
+
+        // Act
+        assertStatementCount(0, () -> {
+            for (int i = 0; i < 5; i++) {
+                assertEquals(existente.getEmail(), clienteService.getClienteById(existente.getId()).getEmail());
+            }
+        });
+
+        // Assert
+        assertEquals(hitsBefore + 5, statistics.getCacheRegionStatistics("clientes").getHitCount());
+    }
+
+    @Test
+    @DisplayName("Las escrituras del servicio deben mantener la caché coherente")
+    void writes_ShouldKeepRegionsCoherent() {
+        // Arrange
+        existente.setNombre("Carla");
+
+        // Act
+        clienteService.updateCliente(existente.getId(), existente);
+
+        // Assert: the write updates the cached row, no read goes back to the database
+        ClienteDTO leido = assertStatementCount(0, () -> clienteService.getClienteById(existente.getId()));
+        assertEquals("Carla", leido.getNombre());
+
+        clienteService.deleteCliente(existente.getId());
+        assertThrows(ResourceNotFoundException.class, () -> clienteService.getClienteById(existente.getId()));
+    }
+
+    @Test
+    @DisplayName("Eliminar un cliente no debe expulsar de la caché a los demás")
+    void deleteCliente_ShouldOnlyEvictThatCliente() {
+        // Arrange
+        ClienteDTO nuevo = TestDataBuilder.createClienteDTO2();
+        nuevo.setEmail("cache.vecino." + System.nanoTime() + "@example.com");
+        nuevo.setCiudad("Puebla");
+        ClienteDTO vecino = clienteService.createCliente(nuevo);
+
+        // Act: the deleted cliente is loaded from the cache, only the DELETE reaches the database
+        assertStatementCount(1, () -> clienteService.deleteCliente(existente.getId()));
+
+        // Assert
+        ClienteDTO leido = assertStatementCount(0, () -> clienteService.getClienteById(vecino.getId()));
+        assertEquals(vecino.getEmail(), leido.getEmail());
+        assertThrows(ResourceNotFoundException.class, () -> clienteService.getClienteById(existente.getId()));
+    }
+
+    @Test
+    @DisplayName("La consulta por ciudad debe servirse de la caché de consultas hasta que cambie la tabla")
+    void getClientesByCiudad_ShouldUseQueryCacheUntilInvalidated() {
+        // Arrange
+        clienteService.getClientesByCiudad("Puebla");
+
+        // Act
+        List<ClienteDTO> cacheada = assertStatementCount(0, () -> clienteService.getClientesByCiudad("Puebla"));
+        ClienteDTO otro = TestDataBuilder.createClienteDTO2();
+        otro.setEmail("cache.otro." + System.nanoTime() + "@example.com");
+        otro.setCiudad("Puebla");
+        clienteService.createCliente(otro);
+        List<ClienteDTO> actualizada = clienteService.getClientesByCiudad("Puebla");
+
+        // Assert
+        assertEquals(1, cacheada.size());
+        assertEquals(2, actualizada.size());
+    }
+}
@@ -0,0 +1,90 @@
+package com.empleados.api.service;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.empleados.api.util.SqlStatementCounter.assertStatementCount;
+import static com.empleados.api.util.SqlStatementCounter.assertStatementCountThrowing;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de regresión del número de sentencias SQL por operación del servicio
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClienteServiceQueryCountTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    private ClienteDTO existente;
+
+    @BeforeEach
+    void setUp() {
+        clienteRepository.deleteAll();
+        existente = clienteService.createCliente(TestDataBuilder.createNewClienteDTO());
+    }
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Obtener un cliente por ID debe ejecutar una sentencia")
+    void getClienteById_ShouldExecuteOneStatement() {
+        ClienteDTO found = assertStatementCount(1, () -> clienteService.getClienteById(existente.getId()));
+        assertEquals(existente.getEmail(), found.getEmail());
+
+        assertStatementCountThrowing(1, ResourceNotFoundException.class,
+                () -> clienteService.getClienteById(999_999L));
+    }
+
+    @Test
+    @DisplayName("Crear un cliente con un email nuevo debe ejecutar solo el INSERT")
+    void createCliente_WithNewEmail_ShouldExecuteOneStatement() {
+        // El filtro de emails descarta el email nuevo sin consultar la base de datos
+        ClienteDTO created = assertStatementCount(1, () -> clienteService.createCliente(TestDataBuilder.createClienteDTO2()));
+        assertNotNull(created.getId());
+    }
+
+    @Test
+    @DisplayName("Actualizar un cliente debe ejecutar el SELECT y el UPDATE")
+    void updateCliente_ShouldExecuteTwoStatements() {
+        existente.setNombre("Carlos Alberto");
+        assertStatementCount(2, () -> clienteService.updateCliente(existente.getId(), existente));
+
+        // Un email nuevo lo descarta el filtro de emails; uno ya usado añade la comprobación de unicidad
+        existente.setEmail("carlos.alberto@example.com");
+        assertStatementCount(2, () -> clienteService.updateCliente(existente.getId(), existente));
+
+        ClienteDTO otro = clienteService.createCliente(TestDataBuilder.createClienteDTO2());
+        existente.setEmail(otro.getEmail());
+        assertStatementCountThrowing(2, DataIntegrityViolationException.class,
+                () -> clienteService.updateCliente(existente.getId(), existente));
+    }
+
+    @Test
+    @DisplayName("Eliminar un cliente debe ejecutar el SELECT y el DELETE")
+    void deleteCliente_ShouldExecuteTwoStatements() {
+        // Sin caché de segundo nivel el cliente se carga antes de borrarlo; con ella solo queda el DELETE
+        assertStatementCount(2, () -> clienteService.deleteCliente(existente.getId()));
+        assertFalse(clienteRepository.existsById(existente.getId()));
+
+        assertStatementCountThrowing(1, ResourceNotFoundException.class,
+                () -> clienteService.deleteCliente(existente.getId()));
+    }
+}
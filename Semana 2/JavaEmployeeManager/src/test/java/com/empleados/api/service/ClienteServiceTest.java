@@ -1,8 +1,12 @@
 package com.empleados.api.service;
 
 import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.dto.ClienteEstadisticasDTO;
 import com.empleados.api.exception.ResourceNotFoundException;
 import com.empleados.api.model.Cliente;
+import com.empleados.api.replica.ClienteReadReplica;
+import com.empleados.api.repository.CiudadDictionary;
+import com.empleados.api.repository.ClienteEmailFilter;
 import com.empleados.api.repository.ClienteRepository;
 import com.empleados.api.service.impl.ClienteServiceImpl;
 import com.empleados.api.util.TestDataBuilder;
@@ -13,11 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +38,18 @@ class ClienteServiceTest {
     @Mock
     private ClienteRepository clienteRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClienteReadReplica readReplica;
+
+    @Mock
+    private CiudadDictionary ciudadDictionary;
+
+    @Mock
+    private ClienteEmailFilter emailFilter;
+
     @InjectMocks
     private ClienteServiceImpl clienteService;
 
@@ -53,8 +71,8 @@ class ClienteServiceTest {
     @DisplayName("Debe retornar todos los clientes")
     void getAllClientes_ShouldReturnAllClientes() {
         // Arrange
-        List<Cliente> clientes = Arrays.asList(cliente, cliente2);
-        when(clienteRepository.findAll()).thenReturn(clientes);
+        List<ClienteDTO> clientes = Arrays.asList(clienteDTO, clienteDTO2);
+        when(clienteRepository.findAllProjected()).thenReturn(clientes);
 
         // Act
         List<ClienteDTO> result = clienteService.getAllClientes();
@@ -65,7 +83,7 @@ class ClienteServiceTest {
         assertEquals("Juan", result.get(0).getNombre());
         assertEquals("Ana", result.get(1).getNombre());
         
-        verify(clienteRepository, times(1)).findAll();
+        verify(clienteRepository, times(1)).findAllProjected();
     }
 
     @Test
@@ -235,39 +253,39 @@ class ClienteServiceTest {
     @DisplayName("Debe eliminar un cliente existente")
     void deleteCliente_WhenClienteExists_ShouldDeleteCliente() {
         // Arrange
-        when(clienteRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(clienteRepository).deleteById(1L);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
 
         // Act
         clienteService.deleteCliente(1L);
 
         // Assert
-        verify(clienteRepository, times(1)).existsById(1L);
-        verify(clienteRepository, times(1)).deleteById(1L);
+        verify(clienteRepository, times(1)).delete(cliente);
+        verify(clienteRepository, never()).existsById(anyLong());
+        verify(clienteRepository, never()).deleteById(anyLong());
     }
 
     @Test
     @DisplayName("Debe lanzar excepción al eliminar un cliente inexistente")
     void deleteCliente_WhenClienteDoesNotExist_ShouldThrowException() {
         // Arrange
-        when(clienteRepository.existsById(99L)).thenReturn(false);
+        when(clienteRepository.findById(99L)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, 
                 () -> clienteService.deleteCliente(99L));
         
         assertTrue(exception.getMessage().contains("99"));
-        verify(clienteRepository, times(1)).existsById(99L);
-        verify(clienteRepository, never()).deleteById(anyLong());
+        verify(clienteRepository, never()).delete(any(Cliente.class));
     }
 
     @Test
     @DisplayName("Debe retornar clientes por ciudad")
     void getClientesByCiudad_ShouldReturnClientesInCiudad() {
         // Arrange
-        List<Cliente> tecnologiaClientes = Arrays.asList(cliente);
+        List<ClienteDTO> tecnologiaClientes = Arrays.asList(clienteDTO);
         
-        when(clienteRepository.findByCiudad("Tecnología")).thenReturn(tecnologiaClientes);
+        when(ciudadDictionary.find("Tecnología")).thenReturn(1);
+        when(clienteRepository.findProjectedByCiudad("Tecnología")).thenReturn(tecnologiaClientes);
 
         // Act
         List<ClienteDTO> result = clienteService.getClientesByCiudad("Tecnología");
@@ -278,14 +296,15 @@ class ClienteServiceTest {
         assertEquals("Tecnología", result.get(0).getCiudad());
         assertEquals("Juan", result.get(0).getNombre());
         
-        verify(clienteRepository, times(1)).findByCiudad("Tecnología");
+        verify(clienteRepository, times(1)).findProjectedByCiudad("Tecnología");
     }
     
     @Test
     @DisplayName("Debe retornar lista vacía cuando no hay clientes en el ciudad")
     void getClientesByCiudad_WhenNoClientes_ShouldReturnEmptyList() {
         // Arrange
-        when(clienteRepository.findByCiudad("Marketing")).thenReturn(Arrays.asList());
+        when(ciudadDictionary.find("Marketing")).thenReturn(2);
+        when(clienteRepository.findProjectedByCiudad("Marketing")).thenReturn(Arrays.asList());
 
         // Act
         List<ClienteDTO> result = clienteService.getClientesByCiudad("Marketing");
@@ -294,7 +313,7 @@ class ClienteServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         
-        verify(clienteRepository, times(1)).findByCiudad("Marketing");
+        verify(clienteRepository, times(1)).findProjectedByCiudad("Marketing");
     }
     
     @Test
@@ -310,10 +329,10 @@ class ClienteServiceTest {
                 "CDMX"
         );
         
-        // Act - Llamar al método privado convertToDTO a través de un método público
-        ClienteDTO dto = clienteService.getClienteById(5L); // Mockear para llegar a convertToDTO
         when(clienteRepository.findById(5L)).thenReturn(Optional.of(testCliente));
-        dto = clienteService.getClienteById(5L);
+
+        // Act - Llamar al método privado convertToDTO a través de un método público
+        ClienteDTO dto = clienteService.getClienteById(5L);
         
         // Assert
         assertEquals(5L, dto.getId());
@@ -323,4 +342,128 @@ class ClienteServiceTest {
         assertEquals("1234567890", dto.getTelefono());
         assertEquals("CDMX", dto.getCiudad());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe reasignar los clientes de una ciudad con una sola sentencia")
+    void reassignCiudad_ShouldReturnAffectedRows() {
+        // Arrange
+        when(ciudadDictionary.find("EDOMEX")).thenReturn(3);
+        when(clienteRepository.bulkReassignCiudad("EDOMEX", "CDMX")).thenReturn(3);
+
+        // Act
+        int affected = clienteService.reassignCiudad("EDOMEX", "CDMX");
+
+        // Assert
+        assertEquals(3, affected);
+        verify(clienteRepository, times(1)).bulkReassignCiudad("EDOMEX", "CDMX");
+        verify(clienteRepository, never()).findProjectedByCiudad(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los clientes de una ciudad con una sola sentencia")
+    void deleteClientesByCiudad_ShouldReturnAffectedRows() {
+        // Arrange
+        when(ciudadDictionary.find("Monterrey")).thenReturn(2);
+        when(clienteRepository.bulkDeleteByCiudad("Monterrey")).thenReturn(2);
+
+        // Act
+        int affected = clienteService.deleteClientesByCiudad("Monterrey");
+
+        // Assert
+        assertEquals(2, affected);
+        verify(clienteRepository, times(1)).bulkDeleteByCiudad("Monterrey");
+        verify(clienteRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    @DisplayName("No debe consultar la base de datos para una ciudad que no está en el diccionario")
+    void getClientesByCiudad_WhenCiudadUnknown_ShouldNotQuery() {
+        // Arrange
+        when(ciudadDictionary.find("Atlántida")).thenReturn(null);
+
+        // Act
+        List<ClienteDTO> result = clienteService.getClientesByCiudad("Atlántida");
+        int deleted = clienteService.deleteClientesByCiudad("Atlántida");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(0, deleted);
+        verify(clienteRepository, never()).findProjectedByCiudad(anyString());
+        verify(clienteRepository, never()).bulkDeleteByCiudad(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe crear el cliente sin consultar el email cuando el filtro lo descarta")
+    void createCliente_WhenEmailDefinitelyAbsent_ShouldSkipEmailQuery() {
+        // Arrange
+        ClienteDTO newClienteDTO = TestDataBuilder.createNewClienteDTO();
+        when(emailFilter.definitelyAbsent(newClienteDTO.getEmail())).thenReturn(true);
+        when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> {
+            Cliente saved = invocation.getArgument(0);
+            saved.setId(3L);
+            return saved;
+        });
+
+        // Act
+        ClienteDTO result = clienteService.createCliente(newClienteDTO);
+
+        // Assert
+        assertEquals(3L, result.getId());
+        verify(clienteRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe confirmar en la base de datos un posible email existente")
+    void existsByEmail_WhenFilterMayContain_ShouldAskRepository() {
+        // Arrange
+        when(emailFilter.definitelyAbsent("juan.perez@example.com")).thenReturn(false);
+        when(emailFilter.definitelyAbsent("nuevo@example.com")).thenReturn(true);
+        when(clienteRepository.existsByEmail("juan.perez@example.com")).thenReturn(false);
+
+        // Act
+        boolean existente = clienteService.existsByEmail("juan.perez@example.com");
+        boolean nuevo = clienteService.existsByEmail("nuevo@example.com");
+
+        // Assert
+        assertFalse(existente);
+        assertFalse(nuevo);
+        verify(clienteRepository, never()).existsByEmail("nuevo@example.com");
+        verify(emailFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("Debe servir las consultas por ciudad desde la réplica de lectura cuando está cargada")
+    void getClientesByCiudad_WhenReplicaReady_ShouldNotUseRepository() {
+        // Arrange
+        when(readReplica.isReady()).thenReturn(true);
+        when(readReplica.findByCiudad("CDMX")).thenReturn(List.of(clienteDTO));
+
+        // Act
+        List<ClienteDTO> result = clienteService.getClientesByCiudad("CDMX");
+
+        // Assert
+        assertEquals(List.of(clienteDTO), result);
+        verify(clienteRepository, never()).findProjectedByCiudad(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe calcular las estadísticas con la base de datos cuando la réplica no está cargada")
+    void getEstadisticas_WhenReplicaNotReady_ShouldUseRepository() {
+        // Arrange
+        when(clienteRepository.count()).thenReturn(3L);
+        when(clienteRepository.countGroupByCiudad()).thenReturn(List.of(
+                new Object[] {"CDMX", 2L}, new Object[] {"Monterrey", 1L}));
+
+        // Act
+        ClienteEstadisticasDTO result = clienteService.getEstadisticas();
+
+        // Assert
+        assertEquals(3L, result.getTotal());
+        assertEquals(2, result.getCiudades());
+        LinkedHashMap<String, Long> expected = new LinkedHashMap<>();
+        expected.put("CDMX", 2L);
+        expected.put("Monterrey", 1L);
+        assertEquals(expected, result.getPorCiudad());
+        verify(readReplica, never()).countByCiudad();
+    }
+}
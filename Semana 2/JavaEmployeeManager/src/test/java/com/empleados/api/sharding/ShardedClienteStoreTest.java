@@ -0,0 +1,183 @@
+package com.empleados.api.sharding;
+
+import com.empleados.api.dto.ClienteDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del almacén particionado sobre varias bases H2 locales
+ */
+class ShardedClienteStoreTest {
+
+    private static final String[] CIUDADES = {"CDMX", "Monterrey", "Guadalajara", "Puebla", "Mérida", "León"};
+
+    private final List<ShardedClienteStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (ShardedClienteStore store : stores) {
+            store.close();
+        }
+    }
+
+    private static List<ClienteShard> shards(String prefix, int count) {
+        List<ClienteShard> shards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            shards.add(new ClienteShard("shard-" + i, new DriverManagerDataSource(
+                    "jdbc:h2:mem:" + prefix + "-" + i + ";DB_CLOSE_DELAY=-1", "sa", "")));
+        }
+        return shards;
+    }
+
+    private ShardedClienteStore store(List<ClienteShard> shards, ShardingStrategy strategy) {
+        ShardedClienteStore store = new ShardedClienteStore(shards, strategy, new SnowflakeIdGenerator(1));
+        stores.add(store);
+        return store;
+    }
+
+    private static ClienteDTO cliente(int i) {
+        return new ClienteDTO(null, "Nombre" + i, "Apellido" + i, "cliente" + i + "@example.com",
+                "555" + i, CIUDADES[i % CIUDADES.length]);
+    }
+
+    @Test
+    @DisplayName("Debe repartir por id y reunir las consultas de todos los shards")
+    void byId_ShouldSpreadRowsAndGatherQueries() {
+        // Arrange
+        ShardedClienteStore store = store(shards("por-id", 3), ShardingStrategy.BY_ID);
+
+        // Act
+        List<ClienteDTO> guardados = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            guardados.add(store.save(cliente(i)));
+        }
+
+        // Assert
+        store.getShards().forEach(shard -> assertTrue(shard.count() > 50, shard.getName()));
+        assertEquals(300, store.count());
+        List<ClienteDTO> todos = store.findAll();
+        assertEquals(300, todos.size());
+        assertEquals(guardados.stream().map(ClienteDTO::getId).sorted().toList(),
+                todos.stream().map(ClienteDTO::getId).toList());
+        assertEquals(guardados.get(42), store.findById(guardados.get(42).getId()).orElseThrow());
+        assertEquals(guardados.get(7).getId(), store.findByEmail("cliente7@example.com").orElseThrow().getId());
+        assertEquals(50, store.findByCiudad("CDMX").size());
+        assertTrue(store.deleteById(guardados.get(0).getId()));
+        assertTrue(store.findById(guardados.get(0).getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe guardar cada ciudad en un único shard y moverla al cambiar de ciudad")
+    void byCiudad_ShouldKeepEachCiudadOnOneShard() {
+        // Arrange
+        ShardedClienteStore store = store(shards("por-ciudad", 3), ShardingStrategy.BY_CIUDAD);
+        for (int i = 0; i < 120; i++) {
+            store.save(cliente(i));
+        }
+
+        // Act
+        ClienteDTO movido = store.findByCiudad("Puebla").get(0);
+        movido.setCiudad("León");
+        store.save(movido);
+
+        // Assert
+        for (String ciudad : CIUDADES) {
+            long shardsConCiudad = store.getShards().stream()
+                    .filter(shard -> !shard.findByCiudad(ciudad).isEmpty())
+                    .count();
+            assertEquals(1, shardsConCiudad, ciudad);
+        }
+        assertEquals(19, store.findByCiudad("Puebla").size());
+        assertEquals(21, store.findByCiudad("León").size());
+        assertEquals("León", store.findById(movido.getId()).orElseThrow().getCiudad());
+        assertEquals(120, store.count());
+    }
+
+    @Test
+    @DisplayName("Si falla la escritura en el shard nuevo el cliente debe seguir en el anterior")
+    void byCiudad_WhenMoveFails_ShouldKeepRowOnPreviousShard() {
+        // Arrange
+        AtomicBoolean failWrites = new AtomicBoolean();
+        List<ClienteShard> shards = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            shards.add(new ClienteShard("shard-" + i, new DriverManagerDataSource(
+                    "jdbc:h2:mem:mover-" + i + ";DB_CLOSE_DELAY=-1", "sa", "")) {
+                @Override
+                public void upsertAll(List<ClienteDTO> clientes) {
+                    if (failWrites.get()) {
+                        throw new DataAccessResourceFailureException("Shard no disponible");
+                    }
+                    super.upsertAll(clientes);
+                }
+            });
+        }
+        ShardedClienteStore store = store(shards, ShardingStrategy.BY_CIUDAD);
+        String origen = CIUDADES[0];
+        String destino = Arrays.stream(CIUDADES)
+                .filter(c -> ShardingStrategy.shardOfCiudad(c, 2) != ShardingStrategy.shardOfCiudad(origen, 2))
+                .findFirst().orElseThrow();
+        ClienteDTO guardado = store.save(cliente(0));
+        ClienteDTO movido = new ClienteDTO(guardado.getId(), guardado.getNombre(), guardado.getApellido(),
+                guardado.getEmail(), guardado.getTelefono(), destino);
+        failWrites.set(true);
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class, () -> store.save(movido));
+        assertEquals(origen, store.findById(guardado.getId()).orElseThrow().getCiudad());
+        assertEquals(1, store.count());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un email repetido aunque el otro cliente esté en otro shard")
+    void save_DuplicateEmailOnAnotherShard_ShouldFail() {
+        // Arrange
+        ShardedClienteStore store = store(shards("email", 2), ShardingStrategy.BY_CIUDAD);
+        store.save(cliente(0));
+        ClienteDTO duplicado = cliente(1);
+        duplicado.setEmail("cliente0@example.com");
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> store.save(duplicado));
+        assertEquals(1, store.count());
+    }
+
+    @Test
+    @DisplayName("Al añadir un shard el rebalanceo solo debe mover las filas del shard nuevo")
+    void rebalance_AfterAddingShard_ShouldMoveOnlyRowsOfNewShard() {
+        // Arrange
+        List<ClienteShard> shards = shards("rebalanceo", 3);
+        ShardedClienteStore dosShards = store(shards.subList(0, 2), ShardingStrategy.BY_ID);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            ids.add(dosShards.save(cliente(i)).getId());
+        }
+        long antes0 = shards.get(0).count();
+        long antes1 = shards.get(1).count();
+        ShardedClienteStore tresShards = store(shards, ShardingStrategy.BY_ID);
+
+        // Act
+        ShardedClienteStore.RebalanceReport report = tresShards.rebalance();
+
+        // Assert
+        assertEquals(600, report.scanned());
+        assertEquals(report.moved(), report.movedTo().get("shard-2"));
+        assertEquals(report.moved(), shards.get(2).count());
+        assertEquals(antes0 + antes1 - report.moved(), shards.get(0).count() + shards.get(1).count());
+        assertTrue(report.moved() > 100 && report.moved() < 300, "movidos: " + report.moved());
+        for (Long id : ids) {
+            assertTrue(tresShards.findById(id).isPresent());
+        }
+        assertEquals(600, tresShards.findAll().size());
+    }
+}
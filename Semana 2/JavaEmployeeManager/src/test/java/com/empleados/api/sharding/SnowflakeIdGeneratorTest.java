@@ -0,0 +1,56 @@
+package com.empleados.api.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del generador de ids snowflake
+ */
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("Debe generar ids crecientes aunque se agote la secuencia o el reloj retroceda")
+    void nextId_WithFrozenOrBackwardClock_ShouldKeepIncreasing() {
+        // Arrange
+        long[] clock = {SnowflakeIdGenerator.EPOCH_MILLIS + 1_000};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, () -> clock[0]);
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock[0] -= 500;
+            }
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            assertTrue(ids.add(id));
+            assertEquals(7, SnowflakeIdGenerator.nodeOf(id));
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("Dos nodos nunca deben generar el mismo id")
+    void nextId_DifferentNodes_ShouldNotCollide() {
+        // Arrange
+        SnowflakeIdGenerator nodo1 = new SnowflakeIdGenerator(1, () -> SnowflakeIdGenerator.EPOCH_MILLIS);
+        SnowflakeIdGenerator nodo2 = new SnowflakeIdGenerator(2, () -> SnowflakeIdGenerator.EPOCH_MILLIS);
+        Set<Long> ids = new HashSet<>();
+
+        // Act
+        for (int i = 0; i < 5_000; i++) {
+            ids.add(nodo1.nextId());
+            ids.add(nodo2.nextId());
+        }
+
+        // Assert
+        assertEquals(10_000, ids.size());
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE + 1));
+    }
+}
@@ -0,0 +1,98 @@
+package com.empleados.api.snapshot;
+
+import com.empleados.api.dto.ClienteDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del formato binario de snapshot de clientes
+ */
+class ClienteSnapshotFormatTest {
+
+    private static byte[] write(List<ClienteDTO> clientes) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ClienteSnapshotWriter writer = new ClienteSnapshotWriter(bytes)) {
+            for (ClienteDTO cliente : clientes) {
+                writer.write(cliente);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<ClienteDTO> read(byte[] data) throws Exception {
+        List<ClienteDTO> clientes = new ArrayList<>();
+        try (ClienteSnapshotReader reader = new ClienteSnapshotReader(new ByteArrayInputStream(data))) {
+            ClienteDTO cliente;
+            while ((cliente = reader.next()) != null) {
+                clientes.add(cliente);
+            }
+        }
+        return clientes;
+    }
+
+    @Test
+    @DisplayName("Debe leer exactamente las filas escritas")
+    void roundTrip_ShouldPreserveAllRows() throws Exception {
+        // Arrange
+        List<ClienteDTO> clientes = List.of(
+                new ClienteDTO(1L, "José", "Núñez", "jose@example.com", "5551234567", "Ciudad de México"),
+                new ClienteDTO(2L, "Ana", "García", "ana@example.com", "5557654321", "Monterrey"),
+                new ClienteDTO(900L, "Luis", null, "luis@example.com", "", "Ciudad de México"),
+                new ClienteDTO(5L, "Eva", "Ruiz", "eva@example.com", "5550000000", null),
+                new ClienteDTO(70_000L, "x".repeat(100_000), "Largo", "largo@example.com", "1", "Monterrey"));
+
+        // Act
+        List<ClienteDTO> result = read(write(clientes));
+
+        // Assert
+        assertEquals(clientes, result);
+        assertSame(result.get(0).getCiudad(), result.get(2).getCiudad());
+    }
+
+    @Test
+    @DisplayName("Debe ocupar pocos bytes por fila con ciudades repetidas")
+    void write_WithRepeatedCiudad_ShouldBeCompact() throws Exception {
+        // Arrange
+        List<ClienteDTO> clientes = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            clientes.add(new ClienteDTO(id, "Nombre", "Apellido", "c" + id + "@example.com", "5550000000", "Guadalajara"));
+        }
+
+        // Act
+        byte[] data = write(clientes);
+
+        // Assert: 1 byte ciudad + 1 byte id + 4 length bytes + 42 bytes of text (plus a short email)
+        assertTrue(data.length < 1000 * 52, "Tamaño inesperado: " + data.length);
+        assertEquals(clientes, read(data));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un snapshot truncado")
+    void read_WhenTruncated_ShouldFail() throws Exception {
+        // Arrange
+        byte[] data = write(List.of(new ClienteDTO(1L, "Ana", "García", "ana@example.com", "555", "CDMX")));
+        byte[] truncated = Arrays.copyOf(data, data.length - 3);
+
+        // Act & Assert
+        assertThrows(SnapshotFormatException.class, () -> read(truncated));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un snapshot con el checksum incorrecto")
+    void read_WhenCorrupt_ShouldFail() throws Exception {
+        // Arrange
+        byte[] data = write(List.of(new ClienteDTO(1L, "Ana", "García", "ana@example.com", "555", "CDMX")));
+        data[10] ^= 0x01;
+
+        // Act & Assert
+        assertThrows(SnapshotFormatException.class, () -> read(data));
+    }
+}
@@ -0,0 +1,87 @@
+package com.empleados.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del filtro de Bloom con contadores
+ */
+class CountingBloomFilterTest {
+
+    private static final int EMAILS = 20_000;
+
+    private static String email(int i) {
+        return "cliente" + i + "@example.com";
+    }
+
+    @Test
+    @DisplayName("No debe dar falsos negativos y debe respetar aproximadamente la tasa de falsos positivos")
+    void mightContain_ShouldHaveNoFalseNegatives() {
+        // Arrange
+        CountingBloomFilter filter = CountingBloomFilter.create(EMAILS, 0.01);
+
+        // Act
+        for (int i = 0; i < EMAILS; i++) {
+            filter.add(email(i));
+        }
+
+        // Assert
+        for (int i = 0; i < EMAILS; i++) {
+            assertTrue(filter.mightContain(email(i)));
+        }
+        int falsePositives = 0;
+        for (int i = EMAILS; i < 2 * EMAILS; i++) {
+            if (filter.mightContain(email(i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < EMAILS * 0.02, "Falsos positivos: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Debe olvidar los valores eliminados sin afectar a los demás")
+    void remove_ShouldForgetOnlyTheRemovedValue() {
+        // Arrange
+        CountingBloomFilter filter = CountingBloomFilter.create(1_000, 0.001);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add(email(i));
+        }
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            assertTrue(filter.remove(email(i)));
+        }
+
+        // Assert
+        int stillPresent = 0;
+        for (int i = 0; i < 500; i++) {
+            if (filter.mightContain(email(i))) {
+                stillPresent++;
+            }
+        }
+        assertTrue(stillPresent < 10, "Eliminados aún presentes: " + stillPresent);
+        for (int i = 500; i < 1_000; i++) {
+            assertTrue(filter.mightContain(email(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe conservar un valor añadido dos veces hasta eliminarlo dos veces")
+    void remove_WithDuplicates_ShouldKeepCount() {
+        // Arrange
+        CountingBloomFilter filter = new CountingBloomFilter(1_024, 3);
+        filter.add("ana@example.com");
+        filter.add("ana@example.com");
+
+        // Act
+        filter.remove("ana@example.com");
+
+        // Assert
+        assertTrue(filter.mightContain("ana@example.com"));
+        assertTrue(filter.remove("ana@example.com"));
+        assertFalse(filter.mightContain("ana@example.com"));
+        assertFalse(filter.remove("ana@example.com"));
+    }
+}
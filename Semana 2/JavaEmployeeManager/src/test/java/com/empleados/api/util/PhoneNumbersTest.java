@@ -0,0 +1,40 @@
+package com.empleados.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la normalización de teléfonos
+ */
+class PhoneNumbersTest {
+
+    @Test
+    @DisplayName("Debe conservar solo los dígitos y devolver los invertidos")
+    void digits_WithSeparators_ShouldKeepOnlyDigits() {
+        // Act
+        String digits = PhoneNumbers.digits("+52 (55) 1234-5678");
+        String reversed = PhoneNumbers.reversed("55.1234.5678");
+
+        // Assert
+        assertEquals("525512345678", digits);
+        assertEquals("8765432155", reversed);
+        assertEquals("5512345678", PhoneNumbers.digits("5512345678"));
+        assertEquals("", PhoneNumbers.digits("sin número"));
+        assertNull(PhoneNumbers.reversed(null));
+    }
+
+    @Test
+    @DisplayName("El límite superior debe acotar exactamente las cadenas con el prefijo")
+    void prefixUpperBound_ShouldBoundThePrefixRange() {
+        // Act
+        String bound = PhoneNumbers.prefixUpperBound("8769");
+
+        // Assert
+        assertEquals("876:", bound);
+        assertTrue("8769999999".compareTo(bound) < 0);
+        assertTrue("876".compareTo(bound) < 0);
+        assertTrue("8770".compareTo(bound) > 0);
+    }
+}
@@ -0,0 +1,140 @@
+package com.empleados.api.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para SingleFlight
+ */
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts a leader blocked on the latch and waits until it is in flight
+     */
+    private Future<String> startBlockedLeader(CountDownLatch release, AtomicInteger calls) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flights.execute("k", Duration.ofSeconds(5), () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "valor";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return leader;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe compartir una sola ejecución entre llamadas concurrentes con la misma clave")
+    void execute_ConcurrentSameKey_ShouldRunLoaderOnce() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Future<String> leader = startBlockedLeader(release, calls);
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> flights.execute("k", Duration.ofSeconds(5), () -> {
+                calls.incrementAndGet();
+                return "otro";
+            })));
+        }
+        while (flights.getCoalesced() < 5) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        release.countDown();
+
+        // Assert
+        assertEquals("valor", leader.get());
+        for (Future<String> follower : followers) {
+            assertEquals("valor", follower.get());
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, flights.getExecutions());
+    }
+
+    @Test
+    @DisplayName("Debe propagar la excepción del líder a las llamadas en espera")
+    void execute_WhenLoaderFails_ShouldPropagateToFollowers() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> flights.execute("k", Duration.ofSeconds(5), () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalArgumentException("fallo");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> flights.execute("k", Duration.ofSeconds(5), () -> "otro"));
+        while (flights.getCoalesced() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        release.countDown();
+
+        // Assert
+        Exception ex = assertThrows(Exception.class, follower::get);
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+        assertEquals("fallo", ex.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar TimeoutExceededException si el líder tarda demasiado")
+    void execute_WhenLeaderTooSlow_ShouldTimeOut() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        startBlockedLeader(release, new AtomicInteger());
+
+        // Act & Assert
+        assertThrows(SingleFlight.TimeoutExceededException.class,
+                () -> flights.execute("k", Duration.ofMillis(50), () -> "otro"));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar de nuevo tras olvidar la llamada en curso")
+    void forget_ShouldLetNextCallerExecute() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        startBlockedLeader(release, new AtomicInteger());
+
+        // Act
+        flights.forget("k");
+        String result = flights.execute("k", Duration.ofSeconds(1), () -> "nuevo");
+
+        // Assert
+        assertEquals("nuevo", result);
+        assertEquals(2, flights.getExecutions());
+        release.countDown();
+    }
+}
@@ -0,0 +1,79 @@
+package com.empleados.api.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Contador de sentencias SQL preparadas por Hibernate.
+ * <p>
+ * Se registra en application-test.properties como statement inspector y permite
+ * comprobar el número exacto de sentencias que ejecuta una llamada al servicio.
+ * Las consultas a la secuencia de ids no se cuentan: con allocationSize = 50 se
+ * amortizan entre inserciones y dependen del orden de las pruebas.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        if (!sql.toLowerCase(Locale.ROOT).contains("next value for")) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Olvida las sentencias registradas hasta ahora
+     */
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Sentencias registradas desde el último reset
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    /**
+     * Ejecuta la acción y verifica que preparó exactamente el número de sentencias indicado
+     */
+    public static void assertStatementCount(int expected, Runnable action) {
+        assertStatementCount(expected, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Ejecuta la acción, verifica el número de sentencias y devuelve su resultado
+     */
+    public static <T> T assertStatementCount(int expected, Supplier<T> action) {
+        reset();
+        T result = action.get();
+        List<String> executed = statements();
+        if (executed.size() != expected) {
+            throw new AssertionError("Se esperaban " + expected + " sentencias SQL pero se ejecutaron "
+                    + executed.size() + ":\n" + String.join("\n", executed));
+        }
+        return result;
+    }
+
+    /**
+     * Verifica que la acción lanza la excepción indicada y el número de sentencias que preparó
+     * antes de lanzarla
+     */
+    public static <E extends Throwable> E assertStatementCountThrowing(int expected, Class<E> expectedType,
+                                                                       Executable action) {
+        return assertStatementCount(expected, () -> assertThrows(expectedType, action));
+    }
+}
@@ -0,0 +1,112 @@
+package com.empleados.api.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para AdaptiveConcurrencyLimiter
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * Keeps the limiter saturated and completes {@code samples} requests with the given latency
+     */
+    private static void runSaturated(AdaptiveConcurrencyLimiter limiter, int samples, long rttNanos) {
+        while (limiter.tryAcquire()) {
+            // fill every available slot
+        }
+        for (int i = 0; i < samples; i++) {
+            limiter.release(rttNanos, false);
+            while (limiter.tryAcquire()) {
+                // the limit may have grown
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar peticiones por encima del límite")
+    void tryAcquire_AboveLimit_ShouldReject() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 2, 1, 10);
+
+        // Act
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    @DisplayName("Debe aumentar el límite cuando la latencia se mantiene estable")
+    void release_WithStableLatency_ShouldIncreaseLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 10, 2, 100);
+
+        // Act
+        runSaturated(limiter, 50, FAST);
+
+        // Assert
+        assertTrue(limiter.getLimit() > 10);
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite cuando la latencia crece")
+    void release_WithGrowingLatency_ShouldDecreaseLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", 20, 2, 100);
+        runSaturated(limiter, 20, FAST);
+        int before = limiter.getLimit();
+
+        // Act
+        runSaturated(limiter, 20, SLOW);
+
+        // Assert
+        assertTrue(limiter.getLimit() < before);
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite de forma multiplicativa ante errores del servidor")
+    void release_WhenDropped_ShouldBackOff() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", 20, 4, 100);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST, true);
+        }
+
+        // Assert
+        assertEquals(6, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("No debe aumentar el límite cuando apenas se usa")
+    void release_WhenApplicationLimited_ShouldKeepLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 10, 2, 100);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST, false);
+        }
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+    }
+}
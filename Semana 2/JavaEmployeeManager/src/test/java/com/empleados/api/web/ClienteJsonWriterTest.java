@@ -0,0 +1,86 @@
+package com.empleados.api.web;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del escritor JSON especializado de clientes, comparado byte a byte con Jackson
+ */
+class ClienteJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static byte[] write(List<ClienteDTO> clientes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ClienteJsonWriter writer = new ClienteJsonWriter(out);
+        writer.writeArray(clientes);
+        writer.flush();
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Debe producir los mismos bytes que Jackson, incluidos escapes, acentos, emojis, surrogates sueltos y nulos")
+    void writeArray_ShouldMatchJackson() throws IOException {
+        // Arrange
+        List<ClienteDTO> clientes = new ArrayList<>();
+        clientes.add(new ClienteDTO(1L, "José", "Núñez", "jose.nunez@example.com", "5512345678", "Ciudad de México"));
+        clientes.add(new ClienteDTO(-42L, "Comillas \"y\" \\barras/", "Tab\tSalto\nRetorno\r", "x\u0001\u001f\b\f@e.com", "☎ 55 \uD800", "東京"));
+        clientes.add(new ClienteDTO(Long.MAX_VALUE, "Emoji 😀", null, null, "", null));
+        clientes.add(new ClienteDTO(null, null, null, null, null, null));
+
+        // Act
+        byte[] actual = write(clientes);
+
+        // Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(clientes), actual);
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con Jackson en listas que superan el búfer interno y en cadenas largas")
+    void writeArray_LargerThanBuffer_ShouldMatchJackson() throws IOException {
+        // Arrange
+        List<ClienteDTO> clientes = new ArrayList<>();
+        for (long id = 0; id < 5_000; id++) {
+            clientes.add(new ClienteDTO(id, "Nombre" + id, "Ñandú", "cliente" + id + "@example.com",
+                    String.valueOf(5_550_000_000L + id), "Mérida"));
+        }
+        clientes.add(new ClienteDTO(0L, "\n".repeat(20_000), "ü".repeat(20_000), "😀".repeat(10_000), "a", "b"));
+
+        // Act
+        byte[] actual = write(clientes);
+
+        // Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(clientes), actual);
+    }
+
+    @Test
+    @DisplayName("El conversor solo debe escribir ClienteDTO y colecciones declaradas de ClienteDTO")
+    void converter_ShouldOnlyWriteClienteTypes() {
+        // Arrange
+        ClienteJsonHttpMessageConverter converter = new ClienteJsonHttpMessageConverter();
+
+        // Act & Assert
+        assertTrue(converter.canWrite(new ParameterizedTypeReference<List<ClienteDTO>>() {}.getType(),
+                List.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(new ParameterizedTypeReference<Set<ClienteDTO>>() {}.getType(),
+                Set.class, null));
+        assertTrue(converter.canWrite(ClienteDTO.class, ClienteDTO.class, MediaType.ALL));
+        assertFalse(converter.canWrite(new ParameterizedTypeReference<List<String>>() {}.getType(),
+                List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(List.class, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(ClienteDTO.class, ClienteDTO.class, MediaType.APPLICATION_XML));
+        assertFalse(converter.canRead(ClienteDTO.class, null, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,95 @@
+package com.empleados.api.web;
+
+import com.empleados.api.repository.ClienteRepository;
+import com.empleados.api.util.TestDataBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pruebas de la cabecera Idempotency-Key sobre la API de clientes
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        clienteRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Debe repetir la respuesta original al reintentar con la misma clave")
+    void createCliente_RetryWithSameKey_ShouldReplayResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(TestDataBuilder.createNewClienteDTO());
+
+        byte[] first = mockMvc.perform(post("/api/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        mockMvc.perform(post("/api/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().bytes(first));
+
+        assertEquals(1, clienteRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la reutilización de una clave con otra petición")
+    void createCliente_SameKeyDifferentBody_ShouldReturn422() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(post("/api/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataBuilder.createNewClienteDTO())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataBuilder.createClienteDTO2())))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", is("La Idempotency-Key ya se usó con una petición distinta")));
+
+        assertEquals(1, clienteRepository.count());
+    }
+}
@@ -0,0 +1,108 @@
+package com.empleados.api.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para IdempotencyStore
+ */
+class IdempotencyStoreTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    private static IdempotencyStore.StoredResponse response(int status) {
+        return new IdempotencyStore.StoredResponse(status, "application/json", null, "{}".getBytes());
+    }
+
+    @Test
+    @DisplayName("Debe entregar la misma entrada a las peticiones repetidas")
+    void reserve_WithSameKey_ShouldReturnExistingEntry() {
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofMinutes(1), clock);
+
+        IdempotencyStore.Reservation first = store.reserve("k1", "f1");
+        IdempotencyStore.Reservation second = store.reserve("k1", "f1");
+
+        assertTrue(first.owner());
+        assertFalse(second.owner());
+        assertSame(first.entry(), second.entry());
+
+        store.complete(first.entry(), response(201));
+        assertEquals(201, second.entry().getResponse().join().status());
+    }
+
+    @Test
+    @DisplayName("Debe expirar las entradas al superar el TTL")
+    void reserve_AfterTtl_ShouldCreateNewEntry() {
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofSeconds(5), clock);
+        store.complete(store.reserve("k1", "f1").entry(), response(201));
+
+        now.addAndGet(5_000);
+
+        assertTrue(store.reserve("k1", "f1").owner());
+    }
+
+    @Test
+    @DisplayName("Debe respetar el número máximo de entradas")
+    void reserve_OverCapacity_ShouldEvictOldest() {
+        IdempotencyStore store = new IdempotencyStore(3, Duration.ofMinutes(1), clock);
+        for (int i = 0; i < 10; i++) {
+            store.complete(store.reserve("k" + i, "f").entry(), response(201));
+        }
+
+        assertEquals(3, store.size());
+        assertTrue(store.reserve("k0", "f").owner());
+        assertFalse(store.reserve("k9", "f").owner());
+    }
+
+    @Test
+    @DisplayName("No debe expulsar por capacidad una entrada cuya respuesta sigue en curso")
+    void reserve_OverCapacity_ShouldKeepInFlightEntries() {
+        IdempotencyStore store = new IdempotencyStore(2, Duration.ofMinutes(1), clock);
+        IdempotencyStore.Reservation enCurso = store.reserve("k0", "f");
+        store.complete(store.reserve("k1", "f").entry(), response(201));
+
+        store.reserve("k2", "f");
+
+        assertEquals(2, store.size());
+        assertSame(enCurso.entry(), store.reserve("k0", "f").entry());
+        assertTrue(store.reserve("k1", "f").owner());
+    }
+
+    @Test
+    @DisplayName("No debe conservar respuestas de error del servidor")
+    void complete_WithServerError_ShouldForgetKey() {
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofMinutes(1), clock);
+        IdempotencyStore.Reservation first = store.reserve("k1", "f1");
+        IdempotencyStore.Reservation waiting = store.reserve("k1", "f1");
+
+        store.complete(first.entry(), response(500));
+
+        assertEquals(500, waiting.entry().getResponse().join().status());
+        assertTrue(store.reserve("k1", "f1").owner());
+    }
+}
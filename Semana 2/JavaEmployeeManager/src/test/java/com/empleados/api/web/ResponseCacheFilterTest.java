@@ -0,0 +1,136 @@
+package com.empleados.api.web;
+
+import com.empleados.api.dto.ClienteDTO;
+import com.empleados.api.service.ClienteService;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Pruebas de la caché de respuestas serializadas a través de la pila MVC completa
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:responsecachedb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "clientes.response-cache.enabled=true"})
+class ResponseCacheFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ResponseByteCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache.invalidate();
+    }
+
+    private MockHttpServletResponse perform(String uri, String header, String value) throws Exception {
+        return mockMvc.perform(get(uri).header(header, value)).andReturn().getResponse();
+    }
+
+    @Test
+    @DisplayName("La segunda lectura debe salir de la caché con los mismos bytes, ETag y Content-Length")
+    void get_SecondRequest_ShouldBeServedFromCache() throws Exception {
+        // Arrange
+        MockHttpServletResponse first = perform("/api/clientes/ciudad/CDMX", HttpHeaders.ACCEPT, "application/json");
+
+        // Act
+        MockHttpServletResponse second = perform("/api/clientes/ciudad/CDMX", HttpHeaders.ACCEPT, "application/json");
+        MockHttpServletResponse notModified = mockMvc.perform(get("/api/clientes/ciudad/CDMX")
+                        .header(HttpHeaders.ACCEPT, "application/json")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"otro\", " + second.getHeader(HttpHeaders.ETAG)))
+                .andReturn().getResponse();
+
+        // Assert
+        assertEquals("MISS", first.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("HIT", second.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+        assertEquals(second.getContentAsByteArray().length, second.getContentLength());
+        assertEquals("application/json", second.getContentType());
+        assertEquals(304, notModified.getStatus());
+        assertEquals(0, notModified.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Debe servir la copia comprimida a quien acepta gzip y cachear cada formato por separado")
+    void get_WithGzipAndOtherFormat_ShouldUseMatchingRepresentation() throws Exception {
+        // Arrange
+        byte[] json = perform("/api/clientes", HttpHeaders.ACCEPT, "application/json").getContentAsByteArray();
+
+        // Act
+        MockHttpServletResponse gzip = mockMvc.perform(get("/api/clientes")
+                        .header(HttpHeaders.ACCEPT, "application/json")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andReturn().getResponse();
+        MockHttpServletResponse cbor = perform("/api/clientes", HttpHeaders.ACCEPT, "application/cbor");
+
+        // Assert
+        assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(gzip.getHeader(HttpHeaders.ETAG).endsWith("-gzip\""));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+        assertEquals("MISS", cbor.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("application/cbor", cbor.getContentType());
+    }
+
+    @Test
+    @DisplayName("Una escritura debe invalidar las respuestas almacenadas")
+    void get_AfterWrite_ShouldReflectTheChange() throws Exception {
+        // Arrange
+        perform("/api/clientes/ciudad/Oaxaca", HttpHeaders.ACCEPT, "application/json");
+        ClienteDTO nuevo = TestDataBuilder.createNewClienteDTO();
+        nuevo.setEmail("cache." + System.nanoTime() + "@example.com");
+        nuevo.setCiudad("Oaxaca");
+
+        // Act
+        clienteService.createCliente(nuevo);
+        MockHttpServletResponse after = perform("/api/clientes/ciudad/Oaxaca", HttpHeaders.ACCEPT, "application/json");
+
+        // Assert
+        assertEquals("MISS", after.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertTrue(after.getContentAsString().contains(nuevo.getEmail()));
+    }
+
+    @Test
+    @DisplayName("No debe almacenar una respuesta producida mientras cambiaban los datos")
+    void put_WithRetiredVersion_ShouldNotStore() {
+        // Arrange
+        ResponseByteCache local = new ResponseByteCache(10, 1024, Duration.ofMinutes(1), false);
+        long version = local.currentVersion();
+
+        // Act
+        local.invalidate();
+        ResponseByteCache.CachedResponse stored = local.put("k", version, "application/json", new byte[]{'[', ']'});
+
+        // Assert
+        assertNull(stored);
+        assertNull(local.get("k"));
+        assertNotNull(local.put("k", local.currentVersion(), "application/json", new byte[]{'[', ']'}));
+        assertNotNull(local.get("k"));
+    }
+}